@@ -0,0 +1,249 @@
+package com.mercadolibre.product_api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.repository.ProductChangeListener;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import com.mercadolibre.product_api.serialization.JsonBufferPool;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caché del JSON ya serializado (UTF-8, y su variante gzip) de los productos más leídos.
+ * Se llena en la primera lectura y se invalida con cada escritura del producto. El tamaño se
+ * limita por bytes ({@code products.json-cache.max-bytes}) descartando las entradas usadas hace
+ * más tiempo.
+ * <p>
+ * Cada entrada guarda la versión del producto con que se serializó y sólo se sirve si sigue
+ * siendo la vigente, así una serialización que termine después de una escritura nunca
+ * devuelve contenido viejo. Las serializaciones reutilizan los buffers de un {@link JsonBufferPool}.
+ * <p>
+ * Las lecturas no toman ningún lock: las entradas viven en un {@link ConcurrentHashMap}, cada una
+ * anota su último acceso y los bytes se contabilizan con un {@link AtomicLong}. El LRU es
+ * aproximado: cuando se pasa del límite, un único hilo ordena las entradas por último acceso y
+ * descarta las más viejas hasta bajar a {@link #EVICTION_TARGET} del presupuesto.
+ */
+@Component
+public class ProductJsonCache implements ProductChangeListener {
+
+    // Costo fijo estimado por entrada (nodo del mapa, clave y objeto Entry)
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+    // Buffers de serialización libres que se conservan entre fallos de caché
+    private static final int BUFFER_POOL_SIZE = 64;
+    // Fracción del presupuesto a la que baja cada desalojo, para no ordenar en cada escritura
+    private static final double EVICTION_TARGET = 0.9;
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final JsonBufferPool bufferPool = new JsonBufferPool(BUFFER_POOL_SIZE);
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>(256);
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private static final class Entry {
+        private final long version;
+        private final byte[] json;
+        private volatile byte[] gzip;
+        private volatile long lastAccess = System.nanoTime();
+        // Protegido por el monitor de la entrada, igual que la asignación de gzip
+        private boolean discarded;
+
+        private Entry(long version, byte[] json) {
+            this.version = version;
+            this.json = json;
+        }
+
+        private long baseSize() {
+            return ENTRY_OVERHEAD_BYTES + json.length;
+        }
+    }
+
+    public ProductJsonCache(ProductRepository productRepository,
+                            ObjectMapper objectMapper,
+                            @Value("${products.json-cache.max-bytes:67108864}") long maxBytes) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+    }
+
+    @PostConstruct
+    public void init() {
+        productRepository.addChangeListener(this);
+    }
+
+    /**
+     * Devuelve el JSON de un producto, serializándolo sólo si no está en caché o cambió.
+     *
+     * @param id     ID del producto
+     * @param gzip   Si se quiere la variante comprimida
+     * @param loader Obtiene el producto en caso de fallo de caché (puede lanzar ProductNotFoundException)
+     * @return Bytes del JSON, comprimidos si se pidió gzip
+     */
+    public byte[] getOrLoad(String id, boolean gzip, Function<String, CreateProduct> loader) {
+        // La versión se lee antes que el producto: si cambia en medio, la entrada nace ya vencida
+        long version = productRepository.versionOf(id);
+        Entry entry = entries.get(id);
+        if (entry != null && entry.version == version) {
+            hits.increment();
+            entry.lastAccess = System.nanoTime();
+        } else {
+            misses.increment();
+            entry = new Entry(version, serialize(loader.apply(id)));
+            if (version != 0) {
+                store(id, entry);
+            }
+        }
+        if (!gzip) {
+            return entry.json;
+        }
+        byte[] compressed = entry.gzip;
+        if (compressed == null) {
+            compressed = compress(entry.json);
+            boolean grew = false;
+            synchronized (entry) {
+                if (entry.gzip == null) {
+                    entry.gzip = compressed;
+                    // La variante comprimida también cuenta para el límite de memoria
+                    if (!entry.discarded) {
+                        usedBytes.addAndGet(compressed.length);
+                        grew = true;
+                    }
+                } else {
+                    compressed = entry.gzip;
+                }
+            }
+            if (grew) {
+                evictIfNeeded();
+            }
+        }
+        return compressed;
+    }
+
+    @Override
+    public void onSave(CreateProduct previous, CreateProduct current) {
+        invalidate(current.getId());
+    }
+
+    @Override
+    public void onDelete(CreateProduct removed) {
+        invalidate(removed.getId());
+    }
+
+    public void invalidate(String id) {
+        Entry removed = entries.remove(id);
+        if (removed != null) {
+            discard(removed);
+        }
+    }
+
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private void store(String id, Entry entry) {
+        Entry[] replaced = new Entry[1];
+        Entry stored = entries.compute(id, (key, current) -> {
+            if (current != null && current.version > entry.version) {
+                // Otro hilo ya guardó una versión más nueva
+                return current;
+            }
+            replaced[0] = current;
+            return entry;
+        });
+        if (stored != entry) {
+            return;
+        }
+        usedBytes.addAndGet(entry.baseSize());
+        if (replaced[0] != null) {
+            discard(replaced[0]);
+        }
+        evictIfNeeded();
+    }
+
+    /**
+     * Descuenta una entrada que ya salió del mapa. El monitor de la entrada ordena el descuento
+     * con la asignación de gzip, así esos bytes se descuentan una sola vez.
+     */
+    private void discard(Entry entry) {
+        synchronized (entry) {
+            entry.discarded = true;
+            byte[] compressed = entry.gzip;
+            usedBytes.addAndGet(-(entry.baseSize() + (compressed == null ? 0 : compressed.length)));
+        }
+    }
+
+    private void evictIfNeeded() {
+        // Si otro hilo ya está desalojando, él baja el uso por debajo del límite
+        while (usedBytes.get() > maxBytes && evictionLock.tryLock()) {
+            try {
+                List<Map.Entry<String, Entry>> candidates = new ArrayList<>(entries.entrySet());
+                candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+                long target = (long) (maxBytes * EVICTION_TARGET);
+                boolean evicted = false;
+                for (Map.Entry<String, Entry> candidate : candidates) {
+                    if (usedBytes.get() <= target) {
+                        break;
+                    }
+                    if (entries.remove(candidate.getKey(), candidate.getValue())) {
+                        discard(candidate.getValue());
+                        evicted = true;
+                    }
+                }
+                if (!evicted) {
+                    return;
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private byte[] serialize(CreateProduct product) {
+        try {
+            return bufferPool.writeValueAsBytes(objectMapper, product);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(json.length / 3 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+}
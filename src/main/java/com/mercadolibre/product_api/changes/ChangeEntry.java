@@ -0,0 +1,11 @@
+package com.mercadolibre.product_api.changes;
+
+/**
+ * Mutación registrada en el feed de cambios.
+ *
+ * @param sequence Secuencia asignada por el repositorio a la mutación
+ * @param id       ID del producto
+ * @param deleted  true si el producto se eliminó; false si se creó o reemplazó
+ */
+record ChangeEntry(long sequence, String id, boolean deleted) {
+}
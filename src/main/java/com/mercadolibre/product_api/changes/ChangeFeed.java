@@ -0,0 +1,147 @@
+package com.mercadolibre.product_api.changes;
+
+import com.mercadolibre.product_api.dto.ChangeFeedResponse;
+import com.mercadolibre.product_api.dto.ProductChange;
+import com.mercadolibre.product_api.exception.ChangeFeedExpiredException;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.repository.ProductChangeListener;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Feed de cambios del catálogo para sincronización incremental.
+ * <p>
+ * Cada mutación del repositorio ya recibe un número de secuencia creciente (la versión del
+ * producto o, en una eliminación, la versión del catálogo). El feed guarda las últimas
+ * {@code products.changes.capacity} mutaciones por secuencia y responde las ocurridas después de
+ * un punto dado: altas y modificaciones con el producto vigente y eliminaciones como lápidas.
+ * Si varias mutaciones tocan el mismo producto sólo se devuelve la última.
+ * <p>
+ * Un punto anterior a lo que el feed conserva (incluida la carga inicial del catálogo, que no
+ * pasa por el feed) o de otro arranque del servicio, cuyas secuencias se reinician, no se puede
+ * continuar: el consumidor debe volver a leer el catálogo completo.
+ */
+@Component
+public class ChangeFeed implements ProductChangeListener {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final ProductRepository productRepository;
+    private final int capacity;
+    private final NavigableMap<Long, ChangeEntry> entries = new ConcurrentSkipListMap<>();
+    // Sólo se modifican dentro del bloqueo de escritura del repositorio
+    private int size;
+    private volatile long truncatedThrough;
+
+    public ChangeFeed(ProductRepository productRepository,
+                      @Value("${products.changes.capacity:10000}") int capacity) {
+        this.productRepository = productRepository;
+        this.capacity = Math.max(1, capacity);
+    }
+
+    @PostConstruct
+    public void init() {
+        // Lo cargado antes de registrarse no está en el feed
+        truncatedThrough = productRepository.catalogVersion();
+        productRepository.addChangeListener(this);
+    }
+
+    @Override
+    public void onSave(CreateProduct previous, CreateProduct current) {
+        record(new ChangeEntry(productRepository.versionOf(current.getId()), current.getId(), false));
+    }
+
+    @Override
+    public void onDelete(CreateProduct removed) {
+        record(new ChangeEntry(productRepository.catalogVersion(), removed.getId(), true));
+    }
+
+    private void record(ChangeEntry entry) {
+        entries.put(entry.sequence(), entry);
+        size++;
+        while (size > capacity) {
+            Map.Entry<Long, ChangeEntry> evicted = entries.pollFirstEntry();
+            size--;
+            truncatedThrough = evicted.getKey();
+        }
+    }
+
+    /**
+     * Cambios posteriores a una secuencia, en orden de secuencia.
+     *
+     * @param since Última secuencia ya aplicada por el consumidor; null devuelve sólo la secuencia actual
+     * @param epoch Arranque del servicio en que se obtuvo {@code since}; null si no se valida
+     * @param limit Cantidad máxima de cambios (máximo {@value #MAX_LIMIT})
+     * @return Cambios y la secuencia desde la que continuar
+     * @throws ChangeFeedExpiredException si ya no se conservan los cambios desde ese punto
+     */
+    public ChangeFeedResponse changesSince(Long since, Long epoch, int limit) {
+        long latest = productRepository.catalogVersion();
+        long currentEpoch = productRepository.getEpoch();
+        if (since == null) {
+            return ChangeFeedResponse.builder()
+                    .epoch(currentEpoch)
+                    .nextSince(latest)
+                    .changes(List.of())
+                    .hasMore(false)
+                    .build();
+        }
+        if ((epoch != null && epoch != currentEpoch) || since > latest) {
+            throw new ChangeFeedExpiredException("La secuencia " + since + " es de un arranque anterior del servicio");
+        }
+        if (since < truncatedThrough) {
+            throw new ChangeFeedExpiredException("Los cambios desde la secuencia " + since
+                    + " ya no están disponibles; el más antiguo conservado es posterior a " + truncatedThrough);
+        }
+
+        int max = Math.min(Math.max(1, limit), MAX_LIMIT);
+        List<ProductChange> changes = new ArrayList<>();
+        long nextSince = since;
+        boolean hasMore = false;
+        for (ChangeEntry entry : entries.tailMap(since, false).values()) {
+            if (changes.size() == max) {
+                hasMore = true;
+                break;
+            }
+            nextSince = entry.sequence();
+            // Hay una mutación posterior del mismo producto: se devuelve cuando se llegue a ella
+            long currentVersion = productRepository.versionOf(entry.id());
+            if (currentVersion > entry.sequence()) {
+                continue;
+            }
+            if (entry.deleted()) {
+                changes.add(ProductChange.builder()
+                        .sequence(entry.sequence())
+                        .id(entry.id())
+                        .type(ProductChange.Type.DELETE)
+                        .build());
+            } else {
+                CreateProduct product = productRepository.findById(entry.id()).orElse(null);
+                // Eliminado después de leer la versión: su lápida es posterior
+                if (product == null) {
+                    continue;
+                }
+                changes.add(ProductChange.builder()
+                        .sequence(entry.sequence())
+                        .id(entry.id())
+                        .type(ProductChange.Type.UPSERT)
+                        .product(product)
+                        .build());
+            }
+        }
+        return ChangeFeedResponse.builder()
+                .epoch(currentEpoch)
+                .nextSince(nextSince)
+                .changes(changes)
+                .hasMore(hasMore)
+                .build();
+    }
+}
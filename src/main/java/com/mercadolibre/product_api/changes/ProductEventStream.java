@@ -0,0 +1,263 @@
+package com.mercadolibre.product_api.changes;
+
+import com.mercadolibre.product_api.dto.ProductChange;
+import com.mercadolibre.product_api.exception.ConcurrencyLimitExceededException;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.repository.ProductChangeListener;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Difusión de las mutaciones del catálogo por Server-Sent Events.
+ * <p>
+ * Los eventos se generan en el camino de escritura del repositorio (dentro de su bloqueo), así
+ * que publicar no puede bloquear: cada suscriptor tiene una cola acotada de
+ * {@code products.stream.buffer-size} eventos y la mutación sólo los encola. Unos pocos hilos de
+ * envío vacían las colas, cada suscriptor en orden y de a uno por vez. Si un cliente lento llena
+ * su cola, se dejan de encolar sus eventos, se le envía un evento {@code overflow} con la última
+ * secuencia entregada y se cierra la conexión: puede ponerse al día con {@code GET /api/products/_changes}
+ * desde esa secuencia y volver a suscribirse.
+ */
+@Slf4j
+@Component
+public class ProductEventStream implements ProductChangeListener {
+
+    private final ProductRepository productRepository;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    // Lugares ocupados: se reservan con compare-and-set antes de registrar al suscriptor
+    private final AtomicInteger slots = new AtomicInteger();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final ExecutorService senders;
+
+    public ProductEventStream(ProductRepository productRepository,
+                              @Value("${products.stream.buffer-size:256}") int bufferSize,
+                              @Value("${products.stream.max-subscribers:1000}") int maxSubscribers,
+                              @Value("${products.stream.timeout-ms:1800000}") long timeoutMillis,
+                              @Value("${products.stream.sender-threads:4}") int senderThreads) {
+        this.productRepository = productRepository;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(Math.max(1, senderThreads), runnable -> {
+            Thread thread = new Thread(runnable, "product-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void init() {
+        productRepository.addChangeListener(this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        slots.set(0);
+        senders.shutdownNow();
+    }
+
+    /**
+     * Registra un suscriptor; los filtros nulos no filtran.
+     *
+     * @param sellerId   Sólo productos de este vendedor
+     * @param categoryId Sólo productos de esta categoría
+     * @return Emisor SSE de la conexión
+     * @throws ConcurrencyLimitExceededException si ya hay {@code products.stream.max-subscribers} suscriptores
+     */
+    public SseEmitter subscribe(String sellerId, String categoryId) {
+        return subscribe(sellerId, categoryId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(String sellerId, String categoryId, SseEmitter emitter) {
+        reserveSlot();
+        long id = subscriberIds.incrementAndGet();
+        Subscriber subscriber = new Subscriber(emitter, blankToNull(sellerId), blankToNull(categoryId), bufferSize);
+        subscribers.put(id, subscriber);
+        emitter.onCompletion(() -> unsubscribe(id));
+        emitter.onTimeout(() -> unsubscribe(id));
+        emitter.onError(error -> unsubscribe(id));
+        // Primer mensaje: los proxies y el cliente ven la conexión abierta sin esperar una mutación
+        publish(subscriber, SseEmitter.event().comment("conectado"));
+        return emitter;
+    }
+
+    /**
+     * Cantidad de suscriptores conectados.
+     */
+    public int subscriberCount() {
+        return slots.get();
+    }
+
+    private void reserveSlot() {
+        while (true) {
+            int taken = slots.get();
+            if (taken >= maxSubscribers) {
+                throw new ConcurrencyLimitExceededException("Se alcanzó el máximo de " + maxSubscribers
+                        + " suscriptores al stream de productos", 5);
+            }
+            if (slots.compareAndSet(taken, taken + 1)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Libera el lugar del suscriptor. Un error seguido de la finalización llama dos veces: sólo
+     * la que lo quita del mapa devuelve el lugar.
+     */
+    private void unsubscribe(long id) {
+        if (subscribers.remove(id) != null) {
+            slots.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void onSave(CreateProduct previous, CreateProduct current) {
+        broadcast(previous == null ? "create" : "update", ProductChange.Type.UPSERT,
+                productRepository.versionOf(current.getId()), current, previous);
+    }
+
+    @Override
+    public void onDelete(CreateProduct removed) {
+        broadcast("delete", ProductChange.Type.DELETE, productRepository.catalogVersion(), removed, null);
+    }
+
+    /**
+     * Comentario periódico: mantiene abiertas las conexiones ociosas y detecta las caídas.
+     */
+    @Scheduled(fixedDelayString = "${products.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            publish(subscriber, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private void broadcast(String name, ProductChange.Type type, long sequence,
+                           CreateProduct product, CreateProduct previous) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        ProductChange change = ProductChange.builder()
+                .sequence(sequence)
+                .id(product.getId())
+                .type(type)
+                .product(type == ProductChange.Type.DELETE ? null : product)
+                .build();
+        for (Subscriber subscriber : subscribers.values()) {
+            // Un cambio de vendedor o categoría también se informa a quien filtraba por el valor anterior
+            if (subscriber.matches(product) || (previous != null && subscriber.matches(previous))) {
+                SseEmitter.SseEventBuilder event = SseEmitter.event()
+                        .id(Long.toString(sequence))
+                        .name(name)
+                        .data(change);
+                if (publish(subscriber, event)) {
+                    subscriber.lastQueuedSequence = sequence;
+                }
+            }
+        }
+    }
+
+    private boolean publish(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.overflowed.get()) {
+            return false;
+        }
+        boolean queued = subscriber.queue.offer(event);
+        if (!queued) {
+            subscriber.overflowed.set(true);
+        }
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+        return queued;
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                while ((event = subscriber.queue.poll()) != null) {
+                    subscriber.emitter.send(event);
+                }
+                if (subscriber.overflowed.get()) {
+                    disconnectSlow(subscriber);
+                    return;
+                }
+                subscriber.scheduled.set(false);
+                // Lo encolado entre el último poll y la bandera se envía en esta misma pasada
+                if (subscriber.queue.isEmpty() || !subscriber.scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Cliente desconectado o emisor ya cerrado
+            subscriber.queue.clear();
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private void disconnectSlow(Subscriber subscriber) throws IOException {
+        log.warn("Suscriptor del stream de productos desconectado por no consumir a tiempo ({} eventos pendientes)",
+                bufferSize);
+        // Con la bandera puesta ya no entran eventos: lo que quedó en la cola se envía antes del aviso
+        SseEmitter.SseEventBuilder event;
+        while ((event = subscriber.queue.poll()) != null) {
+            subscriber.emitter.send(event);
+        }
+        subscriber.emitter.send(SseEmitter.event()
+                .name("overflow")
+                .data(Map.of("lastSequence", subscriber.lastQueuedSequence)));
+        subscriber.emitter.complete();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final String sellerId;
+        private final String categoryId;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        // Secuencia del último evento que entró en la cola; se escribe dentro del bloqueo del repositorio
+        private volatile long lastQueuedSequence;
+
+        private Subscriber(SseEmitter emitter, String sellerId, String categoryId, int bufferSize) {
+            this.emitter = emitter;
+            this.sellerId = sellerId;
+            this.categoryId = categoryId;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean matches(CreateProduct product) {
+            return (sellerId == null || (product.getSeller() != null && Objects.equals(sellerId, product.getSeller().getId())))
+                    && (categoryId == null || (product.getCategory() != null && Objects.equals(categoryId, product.getCategory().getId())));
+        }
+    }
+}
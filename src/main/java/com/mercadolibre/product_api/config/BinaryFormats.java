@@ -0,0 +1,101 @@
+package com.mercadolibre.product_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Formatos binarios de Jackson (Smile y CBOR) para el tráfico entre servicios internos.
+ * Los mappers se arman con el mismo builder que el ObjectMapper de Spring, así que comparten
+ * la configuración: inclusión {@code non_null}, proyecciones y serializadores de los modelos.
+ * <p>
+ * JSON sigue siendo el formato por defecto: un cliente recibe Smile o CBOR sólo si lo pide
+ * en {@code Accept} con más preferencia que JSON.
+ */
+@Component
+public class BinaryFormats {
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType SMILE = MediaType.parseMediaType(SMILE_VALUE);
+    public static final String CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+    public static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper cborMapper;
+
+    public BinaryFormats(ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        // El builder de Spring Boot es prototype: cada getObject() trae uno nuevo ya personalizado
+        this.smileMapper = builders.getObject().factory(new SmileFactory()).build();
+        this.cborMapper = builders.getObject().factory(new CBORFactory()).build();
+    }
+
+    /**
+     * Conversores HTTP de los formatos binarios, para registrar después de los de JSON.
+     */
+    public List<HttpMessageConverter<?>> converters() {
+        List<HttpMessageConverter<?>> converters = new ArrayList<>(2);
+        converters.add(new MappingJackson2SmileHttpMessageConverter(smileMapper));
+        converters.add(new MappingJackson2CborHttpMessageConverter(cborMapper));
+        return converters;
+    }
+
+    /**
+     * Formato binario que prefiere el cliente según el header {@code Accept}.
+     *
+     * @param accept Valor del header, puede ser null
+     * @return Smile o CBOR, o null si el cliente prefiere JSON o no indica preferencia
+     */
+    public MediaType preferred(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+        List<MediaType> types;
+        try {
+            types = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        types.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : types) {
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+            if (type.isCompatibleWith(SMILE)) {
+                return SMILE;
+            }
+            if (type.isCompatibleWith(CBOR)) {
+                return CBOR;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Mapper del formato binario indicado.
+     */
+    public ObjectMapper mapperFor(MediaType format) {
+        return SMILE.equals(format) ? smileMapper : cborMapper;
+    }
+
+    /**
+     * Sufijo que distingue el ETag de cada representación binaria del mismo recurso.
+     */
+    public static String eTagSuffix(MediaType format) {
+        if (format == null) {
+            return "";
+        }
+        return SMILE.equals(format) ? "-smile" : "-cbor";
+    }
+}
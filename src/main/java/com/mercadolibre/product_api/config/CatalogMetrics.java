@@ -0,0 +1,95 @@
+package com.mercadolibre.product_api.config;
+
+import com.mercadolibre.product_api.cache.ProductJsonCache;
+import com.mercadolibre.product_api.changes.ProductEventStream;
+import com.mercadolibre.product_api.dto.IndexInfo;
+import com.mercadolibre.product_api.index.IndexManager;
+import com.mercadolibre.product_api.limit.AdaptiveConcurrencyLimiter;
+import com.mercadolibre.product_api.limit.ConcurrencyLimitInterceptor;
+import com.mercadolibre.product_api.limit.EndpointClass;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import com.mercadolibre.product_api.search.SearchCoalescer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Medidores del estado del catálogo y de sus estructuras en memoria, leídos al momento de cada
+ * scrape: tamaño y versión del catálogo, memoria estimada de los índices secundarios y de la
+ * caché de JSON, agrupamiento de búsquedas, límites de concurrencia y suscriptores del stream.
+ * La memoria total del proceso la publica Actuator ({@code jvm.memory.used}).
+ */
+@Component
+public class CatalogMetrics {
+
+    public CatalogMetrics(MeterRegistry meterRegistry,
+                          ProductRepository productRepository,
+                          IndexManager indexManager,
+                          ProductJsonCache productJsonCache,
+                          SearchCoalescer searchCoalescer,
+                          ConcurrencyLimitInterceptor concurrencyLimitInterceptor,
+                          ProductEventStream productEventStream) {
+        Gauge.builder("products.catalog.size", productRepository, ProductRepository::count)
+                .description("Productos en el catálogo")
+                .register(meterRegistry);
+        Gauge.builder("products.catalog.version", productRepository, ProductRepository::catalogVersion)
+                .description("Última versión asignada a una escritura del catálogo")
+                .register(meterRegistry);
+
+        Gauge.builder("products.index.memory", indexManager, CatalogMetrics::indexBytes)
+                .description("Memoria estimada de los índices secundarios")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        Gauge.builder("products.json-cache.memory", productJsonCache, ProductJsonCache::getUsedBytes)
+                .description("Memoria usada por la caché de JSON serializado")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("products.json-cache.entries", productJsonCache, ProductJsonCache::size)
+                .description("Representaciones en la caché de JSON serializado")
+                .register(meterRegistry);
+        FunctionCounter.builder("products.json-cache.requests", productJsonCache, ProductJsonCache::getHits)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("products.json-cache.requests", productJsonCache, ProductJsonCache::getMisses)
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        FunctionCounter.builder("products.search.executions", searchCoalescer, SearchCoalescer::getExecutions)
+                .description("Búsquedas calculadas")
+                .register(meterRegistry);
+        FunctionCounter.builder("products.search.coalesced", searchCoalescer, SearchCoalescer::getCoalesced)
+                .description("Búsquedas que recibieron el resultado de otra idéntica en curso")
+                .register(meterRegistry);
+
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            AdaptiveConcurrencyLimiter limiter = concurrencyLimitInterceptor.limiter(endpointClass);
+            String tag = endpointClass.name().toLowerCase();
+            Gauge.builder("products.limits.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Límite de concurrencia adaptativo")
+                    .tag("endpoint", tag)
+                    .register(meterRegistry);
+            Gauge.builder("products.limits.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("Peticiones en curso")
+                    .tag("endpoint", tag)
+                    .register(meterRegistry);
+            FunctionCounter.builder("products.limits.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                    .description("Peticiones rechazadas con 503")
+                    .tag("endpoint", tag)
+                    .register(meterRegistry);
+        }
+
+        Gauge.builder("products.stream.subscribers", productEventStream, ProductEventStream::subscriberCount)
+                .description("Suscriptores conectados al stream de mutaciones")
+                .register(meterRegistry);
+    }
+
+    private static double indexBytes(IndexManager indexManager) {
+        long bytes = 0;
+        for (IndexInfo index : indexManager.describeIndexes()) {
+            bytes += index.getEstimatedBytes();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,40 @@
+package com.mercadolibre.product_api.config;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.mercadolibre.product_api.controller.ProductController;
+import com.mercadolibre.product_api.projection.FieldProjectionCompiler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Aplica el parámetro {@code fields} a las respuestas JSON de productos, escribiendo sólo las
+ * propiedades pedidas (por ejemplo {@code ?fields=id,title,price,seller.name}).
+ */
+@RestControllerAdvice(assignableTypes = ProductController.class)
+@RequiredArgsConstructor
+public class FieldProjectionAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    public static final String FIELDS_PARAM = "fields";
+
+    private final FieldProjectionCompiler fieldProjectionCompiler;
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            FilterProvider filters = fieldProjectionCompiler.compile(
+                    servletRequest.getServletRequest().getParameter(FIELDS_PARAM));
+            if (filters != null) {
+                bodyContainer.setFilters(filters);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.mercadolibre.product_api.config;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.mercadolibre.product_api.model.Category;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.ProductRating;
+import com.mercadolibre.product_api.model.Review;
+import com.mercadolibre.product_api.model.Seller;
+import com.mercadolibre.product_api.projection.FieldProjectionFilter;
+import com.mercadolibre.product_api.serialization.ProductJsonModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de Jackson para las proyecciones de campos ({@code fields=}).
+ * Los modelos se marcan con el filtro de proyección mediante mix-ins, sin tocar las clases;
+ * cuando la respuesta no pide proyección se usa el filtro por defecto, que escribe todo.
+ * <p>
+ * Los modelos del catálogo se (de)serializan con los serializadores escritos a mano de
+ * {@link ProductJsonModule}, que aplican la misma proyección; con
+ * {@code products.json.streaming-serializers=false} se vuelve a la serialización por reflexión.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @JsonFilter(FieldProjectionFilter.ID)
+    interface ProjectableMixin {
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldProjectionCustomizer() {
+        return builder -> builder
+                .mixIn(CreateProduct.class, ProjectableMixin.class)
+                .mixIn(Seller.class, ProjectableMixin.class)
+                .mixIn(ProductRating.class, ProjectableMixin.class)
+                .mixIn(Review.class, ProjectableMixin.class)
+                .mixIn(Category.class, ProjectableMixin.class)
+                .filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "products.json.streaming-serializers", havingValue = "true", matchIfMissing = true)
+    public ProductJsonModule productJsonModule() {
+        return new ProductJsonModule();
+    }
+}
@@ -2,12 +2,20 @@ package com.mercadolibre.product_api.config;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 
 import java.util.UUID;
 
-public class LoggingInterceptor implements HandlerInterceptor {
+@Slf4j
+public class LoggingInterceptor implements AsyncHandlerInterceptor {
+
+    private final boolean serverTiming;
+
+    public LoggingInterceptor(boolean serverTiming) {
+        this.serverTiming = serverTiming;
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
@@ -15,11 +23,29 @@ public class LoggingInterceptor implements HandlerInterceptor {
         MDC.put("CLIENT_IP", request.getRemoteAddr());
         MDC.put("HTTP_METHOD", request.getMethod());
         MDC.put("REQUEST_URI", request.getRequestURI());
+        if (serverTiming) {
+            RequestTiming.start();
+        }
         return true;
     }
 
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Peticiones asíncronas (SSE, streaming): el hilo vuelve al pool sin pasar por afterCompletion
+        RequestTiming.clear();
+        MDC.clear();
+    }
+
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            // El total del log incluye la serialización de la respuesta, a diferencia del encabezado
+            MDC.put("HTTP_STATUS", Integer.toString(response.getStatus()));
+            MDC.put("SERVER_TIMING", timing.format());
+            log.info("Petición atendida en {} ms", timing.elapsedNanos() / 1_000_000);
+            RequestTiming.clear();
+        }
         MDC.clear();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package com.mercadolibre.product_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.product_api.reactive.ReactiveProductHandler;
+import com.mercadolibre.product_api.reactive.ReactiveProductRoutes;
+import com.mercadolibre.product_api.reactive.ReactiveProductServer;
+import com.mercadolibre.product_api.service.ProductService;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Levanta los endpoints reactivos en su propio puerto cuando
+ * {@code products.reactive.enabled=true}. Usan el mismo ObjectMapper que la API MVC.
+ */
+@Configuration
+@ConditionalOnProperty(name = "products.reactive.enabled", havingValue = "true")
+public class ReactiveServerConfig {
+
+    @Bean
+    public ReactiveProductHandler reactiveProductHandler(ProductService productService, Validator validator) {
+        return new ReactiveProductHandler(productService, validator, Schedulers.boundedElastic());
+    }
+
+    @Bean
+    public ReactiveProductServer reactiveProductServer(ReactiveProductHandler handler,
+                                                       ObjectMapper objectMapper,
+                                                       @Value("${products.reactive.port:8083}") int port,
+                                                       @Value("${products.reactive.event-loop-threads:0}") int eventLoopThreads) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        return new ReactiveProductServer(
+                RouterFunctions.toHttpHandler(ReactiveProductRoutes.routes(handler), strategies),
+                port, eventLoopThreads);
+    }
+}
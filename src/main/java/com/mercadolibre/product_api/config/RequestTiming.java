@@ -0,0 +1,89 @@
+package com.mercadolibre.product_api.config;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tiempos por fase de la petición en curso, para el encabezado {@code Server-Timing} y el log.
+ * <p>
+ * {@link LoggingInterceptor} la inicia al recibir la petición (si {@code products.server-timing.enabled})
+ * y la descarta al terminar; el controlador, el servicio y el repositorio suman fases con
+ * {@link #record}. Sin una medición iniciada, {@link #record} sólo lee un {@link ThreadLocal}.
+ * Las fases se acumulan en el hilo que atiende la petición: el trabajo hecho en otros hilos
+ * (por ejemplo, una búsqueda idéntica calculada por otra petición) no aparece.
+ */
+public final class RequestTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startedNanos = System.nanoTime();
+    // Nanosegundos acumulados por fase, en el orden en que aparecieron
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+
+    private RequestTiming() {
+    }
+
+    /**
+     * Inicia la medición de la petición del hilo actual.
+     */
+    public static void start() {
+        CURRENT.set(new RequestTiming());
+    }
+
+    /**
+     * Medición de la petición del hilo actual; null si no se inició.
+     */
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Descarta la medición del hilo actual.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Suma una duración a una fase de la petición actual; no hace nada si no hay medición.
+     *
+     * @param phase Nombre de la fase (un token de {@code Server-Timing}, sin espacios)
+     * @param nanos Duración en nanosegundos
+     */
+    public static void record(String phase, long nanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.phases.merge(phase, nanos, Long::sum);
+        }
+    }
+
+    /**
+     * Nanosegundos desde que se inició la medición.
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - startedNanos;
+    }
+
+    /**
+     * Fases y total en formato {@code Server-Timing}, con duraciones en milisegundos:
+     * {@code filter;dur=1.250, sort;dur=0.310, total;dur=2.004}.
+     */
+    public String format() {
+        StringBuilder value = new StringBuilder();
+        for (Map.Entry<String, Long> phase : phases.entrySet()) {
+            append(value, phase.getKey(), phase.getValue());
+        }
+        append(value, "total", elapsedNanos());
+        return value.toString();
+    }
+
+    private static void append(StringBuilder value, String name, long nanos) {
+        if (!value.isEmpty()) {
+            value.append(", ");
+        }
+        value.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+}
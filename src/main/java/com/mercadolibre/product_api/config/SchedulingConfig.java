@@ -0,0 +1,12 @@
+package com.mercadolibre.product_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas periódicas (evaluación de índices, mantenimiento en segundo plano).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,49 @@
+package com.mercadolibre.product_api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Informa al arrancar con qué hilos se atienden las peticiones.
+ * <p>
+ * Con {@code spring.threads.virtual.enabled=true} Spring Boot atiende cada petición de Tomcat en
+ * un hilo virtual, así que la escritura del archivo en {@code ProductRepository} (bajo un
+ * {@code ReentrantLock}, que no fija el hilo a su portador) deja libre el hilo de plataforma
+ * mientras espera el disco. Los hilos virtuales requieren Java 21; en versiones anteriores la
+ * propiedad se ignora y se sigue usando el pool acotado de Tomcat.
+ */
+@Slf4j
+@Component
+public class ThreadingModeReporter {
+
+    private static final int VIRTUAL_THREADS_JAVA_VERSION = 21;
+
+    private final boolean virtualThreadsRequested;
+
+    public ThreadingModeReporter(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsRequested) {
+        this.virtualThreadsRequested = virtualThreadsRequested;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        if (!virtualThreadsRequested) {
+            log.info("Peticiones atendidas por el pool de hilos de plataforma de Tomcat");
+        } else if (virtualThreadsSupported()) {
+            log.info("Peticiones atendidas en hilos virtuales");
+        } else {
+            log.warn("spring.threads.virtual.enabled=true requiere Java {} (actual: {}); "
+                    + "se usa el pool de hilos de plataforma", VIRTUAL_THREADS_JAVA_VERSION, Runtime.version().feature());
+        }
+    }
+
+    public boolean isVirtualThreadsActive() {
+        return virtualThreadsRequested && virtualThreadsSupported();
+    }
+
+    private static boolean virtualThreadsSupported() {
+        return Runtime.version().feature() >= VIRTUAL_THREADS_JAVA_VERSION;
+    }
+}
@@ -1,14 +1,44 @@
 package com.mercadolibre.product_api.config;
 
+import com.mercadolibre.product_api.limit.ConcurrencyLimitInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final BinaryFormats binaryFormats;
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private final boolean serverTiming;
+
+    public WebConfig(BinaryFormats binaryFormats, ConcurrencyLimitInterceptor concurrencyLimitInterceptor,
+                     @Value("${products.server-timing.enabled:true}") boolean serverTiming) {
+        this.binaryFormats = binaryFormats;
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+        this.serverTiming = serverTiming;
+    }
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new LoggingInterceptor());
+        registry.addInterceptor(new LoggingInterceptor(serverTiming));
+        // El stream SSE mantiene la conexión abierta: tiene su propio máximo de suscriptores
+        registry.addInterceptor(concurrencyLimitInterceptor).addPathPatterns("/api/products", "/api/products/**")
+                .excludePathPatterns("/api/products/_stream");
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Spring registra Smile y CBOR por defecto con un mapper sin la configuración de la API;
+        // los reemplazamos al final de la lista para que con Accept */* se siga respondiendo JSON
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+        converters.addAll(binaryFormats.converters());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package com.mercadolibre.product_api.controller;
+
+import com.mercadolibre.product_api.dto.ConcurrencyLimitInfo;
+import com.mercadolibre.product_api.limit.ConcurrencyLimitInterceptor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controlador de administración de los límites de concurrencia.
+ */
+@RestController
+@RequestMapping("/api/admin/concurrency-limits")
+@RequiredArgsConstructor
+@Tag(name = "Límites de concurrencia", description = "Estado de los límites adaptativos por clase de endpoint")
+public class ConcurrencyLimitAdminController {
+
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+    /**
+     * Lista el límite actual, las peticiones en curso y los rechazos de cada clase de endpoints.
+     *
+     * @return Estado de cada límite
+     */
+    @GetMapping
+    @Operation(
+        summary = "Estado de los límites de concurrencia",
+        description = "Retorna por clase de endpoint (lecturas por ID, búsquedas, escrituras) el límite adaptativo "
+            + "actual, las peticiones en curso, las aceptadas y las rechazadas con 503"
+    )
+    @ApiResponse(responseCode = "200", description = "Límites obtenidos exitosamente")
+    public ResponseEntity<List<ConcurrencyLimitInfo>> getLimits() {
+        return ResponseEntity.ok(concurrencyLimitInterceptor.describe());
+    }
+}
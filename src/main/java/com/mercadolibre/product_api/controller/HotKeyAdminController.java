@@ -0,0 +1,46 @@
+package com.mercadolibre.product_api.controller;
+
+import com.mercadolibre.product_api.dto.HotKeysInfo;
+import com.mercadolibre.product_api.hotkeys.HotKeyTracker;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador de administración de las claves más frecuentes.
+ */
+@RestController
+@RequestMapping("/api/admin/hot-keys")
+@RequiredArgsConstructor
+@Tag(name = "Claves frecuentes", description = "Productos y búsquedas que más carga generan en el nodo")
+public class HotKeyAdminController {
+
+    private final HotKeyTracker hotKeyTracker;
+
+    /**
+     * Lista los productos y las búsquedas más frecuentes de cada ventana de tiempo.
+     *
+     * @param top Cantidad máxima de claves por ventana
+     * @return Claves frecuentes por ventana
+     */
+    @GetMapping
+    @Operation(
+        summary = "Productos y búsquedas más frecuentes",
+        description = "Retorna, para cada ventana de tiempo configurada, los productos más leídos por ID y las búsquedas "
+            + "normalizadas más frecuentes, con frecuencias estimadas por un sketch count-min de memoria fija"
+    )
+    @ApiResponse(responseCode = "200", description = "Claves frecuentes obtenidas exitosamente")
+    public ResponseEntity<HotKeysInfo> getHotKeys(
+        @Parameter(description = "Cantidad máxima de claves por ventana")
+        @RequestParam(defaultValue = "10") int top
+    ) {
+        return ResponseEntity.ok(hotKeyTracker.describe(top));
+    }
+}
@@ -0,0 +1,82 @@
+package com.mercadolibre.product_api.controller;
+
+import com.mercadolibre.product_api.dto.FieldUsageInfo;
+import com.mercadolibre.product_api.dto.IndexInfo;
+import com.mercadolibre.product_api.dto.IndexReadiness;
+import com.mercadolibre.product_api.index.IndexManager;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controlador de administración de los índices secundarios.
+ */
+@RestController
+@RequestMapping("/api/admin/indexes")
+@RequiredArgsConstructor
+@Tag(name = "Administración de índices", description = "Estado de los índices secundarios y uso de campos en búsquedas")
+public class IndexAdminController {
+
+    private final IndexManager indexManager;
+
+    /**
+     * Lista los índices secundarios actuales.
+     *
+     * @return Índices con su estado, memoria estimada y cantidad de usos
+     */
+    @GetMapping
+    @Operation(
+        summary = "Listar índices secundarios",
+        description = "Retorna los índices construidos automáticamente con su estado, memoria estimada y cantidad de usos"
+    )
+    @ApiResponse(responseCode = "200", description = "Índices obtenidos exitosamente")
+    public ResponseEntity<List<IndexInfo>> getIndexes() {
+        return ResponseEntity.ok(indexManager.describeIndexes());
+    }
+
+    /**
+     * Lista el uso observado de cada campo en las búsquedas.
+     *
+     * @return Uso de cada campo como filtro y como orden
+     */
+    @GetMapping("/workload")
+    @Operation(
+        summary = "Uso de campos en búsquedas",
+        description = "Retorna cuántas búsquedas filtraron u ordenaron por cada campo y su selectividad media"
+    )
+    @ApiResponse(responseCode = "200", description = "Uso obtenido exitosamente")
+    public ResponseEntity<List<FieldUsageInfo>> getWorkload() {
+        return ResponseEntity.ok(indexManager.describeWorkload());
+    }
+
+    /**
+     * Indica si los índices precalentados están listos.
+     * Responde 503 mientras alguno se está construyendo, para que un balanceador
+     * retenga el tráfico de búsqueda hasta que los índices estén calientes.
+     *
+     * @return Estado de preparación de cada índice
+     */
+    @GetMapping("/readiness")
+    @Operation(
+        summary = "Preparación de los índices",
+        description = "Retorna 200 cuando todos los índices precalentados están listos y 503 mientras se construyen"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Índices listos"),
+        @ApiResponse(responseCode = "503", description = "Algún índice precalentado aún se está construyendo")
+    })
+    public ResponseEntity<IndexReadiness> getReadiness() {
+        IndexReadiness readiness = indexManager.readiness();
+        return ResponseEntity.status(readiness.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(readiness);
+    }
+}
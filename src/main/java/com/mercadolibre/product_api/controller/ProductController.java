@@ -2,17 +2,48 @@
 package com.mercadolibre.product_api.controller;
 
 // Importamos los DTOs (Data Transfer Objects)
+import com.mercadolibre.product_api.cache.ProductJsonCache;
+import com.mercadolibre.product_api.changes.ChangeFeed;
+import com.mercadolibre.product_api.changes.ProductEventStream;
+import com.mercadolibre.product_api.config.BinaryFormats;
+import com.mercadolibre.product_api.config.RequestTiming;
+import com.mercadolibre.product_api.dto.BulkOperation;
+import com.mercadolibre.product_api.dto.BulkResponse;
+import com.mercadolibre.product_api.dto.ChangeFeedResponse;
 import com.mercadolibre.product_api.dto.CreateProductRequest;
+import com.mercadolibre.product_api.dto.ImportResponse;
+import com.mercadolibre.product_api.dto.MultiGetRequest;
+import com.mercadolibre.product_api.dto.MultiGetResponse;
 import com.mercadolibre.product_api.dto.PagedResponse;
 import com.mercadolibre.product_api.dto.ProductSearchParams;
+import com.mercadolibre.product_api.dto.SearchExpression;
+import com.mercadolibre.product_api.dto.ReviewPage;
+import com.mercadolibre.product_api.dto.ReviewRequest;
+import com.mercadolibre.product_api.dto.ReviewResponse;
+import com.mercadolibre.product_api.dto.StockRequest;
+import com.mercadolibre.product_api.dto.StockResponse;
 import com.mercadolibre.product_api.dto.UpdateProductRequest;
+import com.mercadolibre.product_api.exception.TooManyProductIdsException;
 // Importamos el modelo de producto
+import com.mercadolibre.product_api.hotkeys.HotKeyTracker;
 import com.mercadolibre.product_api.model.CreateProduct;
 // Importamos el servicio que maneja la lógica de negocio
+import com.mercadolibre.product_api.popularity.PopularityTracker;
+import com.mercadolibre.product_api.projection.FieldProjectionCompiler;
+import com.mercadolibre.product_api.service.CatalogTransferService;
+import com.mercadolibre.product_api.service.ProductETagService;
 import com.mercadolibre.product_api.service.ProductService;
+import com.mercadolibre.product_api.service.ReviewService;
+import com.mercadolibre.product_api.service.StockService;
+// Importamos Jackson para escribir respuestas en streaming
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
 // Importamos anotaciones de OpenAPI/Swagger para documentación
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -23,16 +54,32 @@ import jakarta.validation.Valid;
 // Importamos Lombok para reducir código boilerplate
 import lombok.RequiredArgsConstructor;
 // Importamos clases de Spring para manejo de HTTP y paginación
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 // Importamos clases de utilidad
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Controlador REST que maneja las operaciones CRUD y búsqueda de productos.
@@ -47,6 +94,42 @@ public class ProductController {
     
     // Inyectamos el servicio de productos
     private final ProductService productService;
+
+    // Inyectamos el servicio de exportación e importación del catálogo
+    private final CatalogTransferService catalogTransferService;
+
+    // Inyectamos el servicio que calcula ETags a partir de las versiones de los productos
+    private final ProductETagService eTagService;
+
+    // Inyectamos el compilador de proyecciones para las respuestas escritas en streaming
+    private final FieldProjectionCompiler fieldProjectionCompiler;
+
+    // Inyectamos la caché de JSON serializado para las lecturas por ID
+    private final ProductJsonCache productJsonCache;
+
+    // Usamos el ObjectMapper de Spring para respetar la configuración de serialización
+    private final ObjectMapper objectMapper;
+
+    // Formatos binarios (Smile y CBOR) para los clientes internos que los piden en Accept
+    private final BinaryFormats binaryFormats;
+
+    // Inyectamos el servicio de reservas de stock
+    private final StockService stockService;
+
+    // Inyectamos el servicio de reseñas
+    private final ReviewService reviewService;
+
+    // Inyectamos el feed de cambios del catálogo
+    private final ChangeFeed changeFeed;
+
+    // Inyectamos el stream SSE de mutaciones
+    private final ProductEventStream productEventStream;
+
+    // Inyectamos el seguimiento de popularidad (vistas y compras)
+    private final PopularityTracker popularityTracker;
+
+    // Inyectamos el contador de productos y búsquedas más frecuentes
+    private final HotKeyTracker hotKeyTracker;
     
     /**
      * Obtiene un producto por su ID.
@@ -75,12 +158,216 @@ public class ProductController {
             content = @Content
         )
     })
-    public ResponseEntity<CreateProduct> getProductById(
+    public ResponseEntity<?> getProductById(
         @Parameter(description = "ID único del producto", required = true) // Documenta el parámetro y lo marca como requerido
-        @PathVariable String id // Captura el ID de la URL
+        @PathVariable String id, // Captura el ID de la URL
+
+        @Parameter(description = "Propiedades a incluir separadas por coma, con punto para las anidadas (ej. id,title,price,seller.name)")
+        @RequestParam(required = false) String fields,
+
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+
+        WebRequest webRequest
     ) {
-        // Delegamos la búsqueda al servicio y retornamos respuesta HTTP 200 si existe
-        return ResponseEntity.ok(productService.getProductById(id));
+        // Las claves frecuentes incluyen los IDs inexistentes: también generan carga
+        hotKeyTracker.recordProduct(id);
+        // El ETag se toma antes de leer el producto (ver ProductETagService#forProduct)
+        String eTag = eTagService.forProduct(id);
+        if ((fields != null && !fields.isBlank()) || requestedBinaryFormat() != null) {
+            // Las proyecciones y los formatos binarios se serializan en cada petición (ver FieldProjectionAdvice)
+            if (isNotModified(webRequest, withSuffix(eTag, BinaryFormats.eTagSuffix(requestedBinaryFormat())))) {
+                return notModified(ResponseEntity.status(HttpStatus.NOT_MODIFIED), eTagService.getProductCacheControl());
+            }
+            CreateProduct product = productService.getProductById(id);
+            popularityTracker.recordView(id);
+            return cacheable(product, eTag, eTagService.getProductCacheControl());
+        }
+
+        // Sin proyección servimos el JSON ya serializado desde la caché
+        boolean gzip = acceptsGzip(acceptEncoding);
+        // Cada codificación es una representación distinta y necesita su propio ETag fuerte
+        String representationETag = gzip ? withSuffix(eTag, "-gzip") : eTag;
+        // Un GET condicional vigente no carga, serializa ni comprime el producto, ni cuenta como vista
+        if (isNotModified(webRequest, representationETag)) {
+            return notModified(ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT_ENCODING),
+                    eTagService.getProductCacheControl());
+        }
+        long started = System.nanoTime();
+        byte[] json = productJsonCache.getOrLoad(id, gzip, productService::getProductById);
+        RequestTiming.record("json-cache", System.nanoTime() - started);
+        // Sólo cuentan las vistas de productos existentes: getOrLoad ya lanzó 404 si no existe
+        popularityTracker.recordView(id);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return cacheable(response, json, representationETag, eTagService.getProductCacheControl());
+    }
+
+    /**
+     * Compara el If-None-Match de la petición con el ETag de la representación; si coincide,
+     * Spring ya marcó la respuesta como 304 con ese ETag.
+     */
+    private static boolean isNotModified(WebRequest webRequest, String eTag) {
+        return eTag != null && webRequest.checkNotModified(eTag);
+    }
+
+    /**
+     * Respuesta 304 con los mismos encabezados de caché que tendría la respuesta completa.
+     */
+    private static <T> ResponseEntity<T> notModified(ResponseEntity.BodyBuilder response, String cacheControl) {
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (cacheControl != null && !cacheControl.isBlank()) {
+            response.header(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        return response.build();
+    }
+
+    /**
+     * Indica si el Accept-Encoding acepta gzip: listado (o cubierto por {@code *}) con q mayor a 0.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        // Un q inválido no habilita la codificación
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (name.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        // Un gzip explícito manda sobre el comodín
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+    
+    /**
+     * Obtiene varios productos por ID en una sola petición.
+     * 
+     * @param ids IDs separados por coma
+     * @return Productos encontrados e IDs inexistentes, escritos en streaming
+     */
+    @GetMapping(params = "ids")
+    @Operation(
+        summary = "Obtener varios productos por ID",
+        description = "Resuelve todos los IDs en una sola pasada. Retorna los productos encontrados en el orden pedido "
+            + "y la lista de IDs inexistentes. Para listas grandes usar POST /api/products/batch-get."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Productos obtenidos exitosamente",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = MultiGetResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Se pidieron más de " + MultiGetRequest.MAX_IDS + " productos",
+            content = @Content
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> getProductsByIds(
+        @Parameter(description = "IDs de los productos separados por coma", required = true)
+        @RequestParam String ids,
+
+        @Parameter(description = "Propiedades a incluir separadas por coma (ej. id,title,price)")
+        @RequestParam(required = false) String fields
+    ) {
+        List<String> idList = Arrays.stream(ids.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .toList();
+        if (idList.size() > MultiGetRequest.MAX_IDS) {
+            throw new TooManyProductIdsException(MultiGetRequest.MAX_IDS);
+        }
+        return streamMultiGet(productService.getProductsByIds(idList), fields);
+    }
+
+    /**
+     * Obtiene varios productos por ID enviando los IDs en el cuerpo de la petición.
+     * 
+     * @param request IDs de los productos
+     * @return Productos encontrados e IDs inexistentes, escritos en streaming
+     */
+    @PostMapping("/batch-get")
+    @Operation(
+        summary = "Obtener varios productos por ID (lista en el cuerpo)",
+        description = "Variante de GET /api/products?ids= para listas de IDs que no caben en la URL"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Productos obtenidos exitosamente",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = MultiGetResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Lista de IDs vacía o demasiado grande",
+            content = @Content
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> getProductsByIds(
+        @Parameter(description = "IDs de los productos", required = true)
+        @Valid @RequestBody MultiGetRequest request,
+
+        @Parameter(description = "Propiedades a incluir separadas por coma (ej. id,title,price)")
+        @RequestParam(required = false) String fields
+    ) {
+        return streamMultiGet(productService.getProductsByIds(request.getIds()), fields);
+    }
+
+    /**
+     * Escribe el resultado producto a producto sobre la salida, sin armar antes la respuesta completa en memoria.
+     */
+    private ResponseEntity<StreamingResponseBody> streamMultiGet(MultiGetResponse result, String fields) {
+        MediaType format = requestedBinaryFormat();
+        ObjectMapper mapper = format == null ? objectMapper : binaryFormats.mapperFor(format);
+        FilterProvider filters = fieldProjectionCompiler.compile(fields);
+        ObjectWriter productWriter = filters == null ? mapper.writer() : mapper.writer(filters);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("products");
+                for (CreateProduct product : result.getProducts()) {
+                    productWriter.writeValue(generator, product);
+                }
+                generator.writeEndArray();
+                generator.writeArrayFieldStart("missing");
+                for (String id : result.getMissing()) {
+                    generator.writeString(id);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(format == null ? MediaType.APPLICATION_JSON : format)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body);
     }
     
     /**
@@ -120,6 +407,203 @@ public class ProductController {
                 .body(createdProduct);
     }
     
+    /**
+     * Aplica un lote de operaciones create/upsert/update/delete recibidas como arreglo JSON.
+     * 
+     * @param operations Operaciones en el orden en que deben aplicarse
+     * @return ResponseEntity con el resultado de cada operación
+     */
+    @PostMapping(value = "/_bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, BinaryFormats.SMILE_VALUE, BinaryFormats.CBOR_VALUE})
+    @Operation(
+        summary = "Carga masiva de productos",
+        description = "Aplica un lote de operaciones create, upsert, update y delete. Cada operación se valida por separado "
+            + "y tiene su propio resultado; las aceptadas se persisten con una sola escritura. "
+            + "También acepta NDJSON (application/x-ndjson), una operación por línea."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lote procesado; revisar el estado de cada operación",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = BulkResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cuerpo con JSON mal formado",
+            content = @Content
+        )
+    })
+    public ResponseEntity<BulkResponse> bulk(
+        @Parameter(description = "Operaciones del lote", required = true)
+        @RequestBody List<BulkOperation> operations
+    ) {
+        return ResponseEntity.ok(productService.bulk(operations));
+    }
+
+    /**
+     * Aplica un lote de operaciones recibidas como NDJSON, una operación por línea.
+     * 
+     * @param body Cuerpo de la petición
+     * @return ResponseEntity con el resultado de cada operación
+     */
+    @PostMapping(value = "/_bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(hidden = true)
+    public ResponseEntity<BulkResponse> bulkNdjson(InputStream body) {
+        List<BulkOperation> operations;
+        try {
+            operations = objectMapper.readerFor(BulkOperation.class).<BulkOperation>readValues(body).readAll();
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "NDJSON mal formado: " + e.getMessage(), e);
+        }
+        return ResponseEntity.ok(productService.bulk(operations));
+    }
+
+    /**
+     * Obtiene los cambios del catálogo posteriores a una secuencia.
+     * 
+     * @param since Última secuencia aplicada por el consumidor; sin valor devuelve la secuencia actual
+     * @param epoch Arranque del servicio de la secuencia, devuelto en cada respuesta
+     * @param limit Cantidad máxima de cambios
+     * @return ResponseEntity con los cambios y la secuencia desde la que continuar
+     * @throws ChangeFeedExpiredException si los cambios desde esa secuencia ya no están disponibles
+     */
+    @GetMapping("/_changes")
+    @Operation(
+        summary = "Feed de cambios del catálogo",
+        description = "Retorna altas, modificaciones (con el producto vigente) y eliminaciones posteriores a since, para "
+            + "sincronizar sin releer el catálogo. Sin since retorna la secuencia actual, que conviene pedir antes de "
+            + "leer el catálogo completo. Si los cambios ya no se conservan responde 410 y hay que resincronizar."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cambios obtenidos exitosamente",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ChangeFeedResponse.class)
+            )
+        ),
+        @ApiResponse(responseCode = "410", description = "Los cambios desde esa secuencia ya no están disponibles", content = @Content)
+    })
+    public ResponseEntity<ChangeFeedResponse> getChanges(
+        @Parameter(description = "Última secuencia aplicada (nextSince de la respuesta anterior)")
+        @RequestParam(required = false) Long since,
+        @Parameter(description = "Arranque del servicio de la secuencia (epoch de la respuesta anterior)")
+        @RequestParam(required = false) Long epoch,
+        @Parameter(description = "Cantidad máxima de cambios (máximo 1000)")
+        @RequestParam(defaultValue = "100") int limit
+    ) {
+        return ResponseEntity.ok(changeFeed.changesSince(since, epoch, limit));
+    }
+
+    /**
+     * Suscribe al cliente a las mutaciones del catálogo por Server-Sent Events.
+     * 
+     * @param sellerId Filtro opcional por ID de vendedor
+     * @param categoryId Filtro opcional por ID de categoría
+     * @return Emisor SSE de la conexión
+     */
+    @GetMapping(value = "/_stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Stream de mutaciones del catálogo",
+        description = "Envía un evento create, update o delete por cada mutación, con la secuencia como id y el cambio "
+            + "como datos (el mismo formato que _changes). Un cliente que no consume a tiempo recibe un evento overflow "
+            + "con la última secuencia entregada y se desconecta; puede ponerse al día con _changes desde esa secuencia."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Stream abierto", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+        @ApiResponse(responseCode = "503", description = "Se alcanzó el máximo de suscriptores", content = @Content)
+    })
+    public SseEmitter streamChanges(
+        @Parameter(description = "Sólo productos de este vendedor")
+        @RequestParam(required = false) String sellerId,
+        @Parameter(description = "Sólo productos de esta categoría")
+        @RequestParam(required = false) String categoryId
+    ) {
+        return productEventStream.subscribe(sellerId, categoryId);
+    }
+
+    /**
+     * Exporta el catálogo completo como NDJSON, un producto por línea.
+     * 
+     * @param gzip Si la respuesta se comprime con gzip
+     * @return ResponseEntity con el catálogo escrito en streaming
+     */
+    @GetMapping("/_export")
+    @Operation(
+        summary = "Exportar el catálogo en NDJSON",
+        description = "Escribe todos los productos en streaming, un JSON por línea, sin cargar el catálogo en memoria. "
+            + "Con gzip=true la respuesta se envía comprimida (Content-Encoding: gzip)."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Catálogo exportado",
+        content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)
+    )
+    public ResponseEntity<StreamingResponseBody> exportCatalog(
+        @Parameter(description = "Comprimir la respuesta con gzip")
+        @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        StreamingResponseBody body = gzip
+                ? outputStream -> {
+                    try (GZIPOutputStream compressed = new GZIPOutputStream(outputStream)) {
+                        catalogTransferService.exportCatalog(compressed);
+                    }
+                }
+                : catalogTransferService::exportCatalog;
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.ndjson" + (gzip ? ".gz" : "") + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Importa productos desde un cuerpo NDJSON, aplicándolos por lotes a medida que llegan.
+     * 
+     * @param contentEncoding Codificación del cuerpo (gzip opcional)
+     * @param body Cuerpo de la petición
+     * @return ResponseEntity con la cantidad de productos importados
+     */
+    @PostMapping(value = "/_import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Importar productos desde NDJSON",
+        description = "Lee el cuerpo de forma incremental y aplica los productos en lotes, con memoria constante. "
+            + "Los productos existentes se reemplazan. Las líneas que no pasan la validación se omiten y se informan "
+            + "por número de línea. Acepta el cuerpo comprimido con Content-Encoding: gzip."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Productos importados",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ImportResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "NDJSON mal formado; los lotes anteriores al error quedan aplicados",
+            content = @Content
+        )
+    })
+    public ResponseEntity<ImportResponse> importCatalog(
+        @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+        InputStream body
+    ) {
+        try {
+            InputStream input = "gzip".equalsIgnoreCase(contentEncoding) ? new GZIPInputStream(body) : body;
+            return ResponseEntity.ok(catalogTransferService.importCatalog(input));
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "NDJSON mal formado: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Actualiza parcialmente un producto existente.
      * 
@@ -162,6 +646,181 @@ public class ProductController {
         return ResponseEntity.ok(productService.updateProduct(id, request));
     }
     
+    /**
+     * Reserva unidades del stock de un producto de forma atómica.
+     * 
+     * @param id ID del producto
+     * @param request Unidades a reservar
+     * @return ResponseEntity con el stock disponible después de la reserva
+     * @throws ProductNotFoundException si el producto no existe
+     * @throws InsufficientStockException si no hay unidades suficientes
+     */
+    @PostMapping("/{id}/stock/reserve")
+    @Operation(
+        summary = "Reservar stock",
+        description = "Descuenta unidades del stock de forma atómica, sin bloquear otras reservas; el stock nunca queda "
+            + "negativo. El cambio se persiste en lote en menos de products.stock.flush-interval-ms."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Unidades reservadas",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = StockResponse.class)
+            )
+        ),
+        @ApiResponse(responseCode = "404", description = "Producto no encontrado", content = @Content),
+        @ApiResponse(responseCode = "409", description = "Stock insuficiente", content = @Content)
+    })
+    public ResponseEntity<StockResponse> reserveStock(
+        @Parameter(description = "ID del producto", required = true)
+        @PathVariable String id,
+        @Parameter(description = "Unidades a reservar", required = true)
+        @Valid @RequestBody StockRequest request
+    ) {
+        StockResponse response = stockService.reserve(id, request.getQuantity());
+        popularityTracker.recordPurchase(id, request.getQuantity());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Devuelve unidades al stock de un producto de forma atómica.
+     * 
+     * @param id ID del producto
+     * @param request Unidades a liberar
+     * @return ResponseEntity con el stock disponible después de la liberación
+     * @throws ProductNotFoundException si el producto no existe
+     */
+    @PostMapping("/{id}/stock/release")
+    @Operation(
+        summary = "Liberar stock",
+        description = "Devuelve al stock unidades de una reserva cancelada, de forma atómica"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Unidades liberadas",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = StockResponse.class)
+            )
+        ),
+        @ApiResponse(responseCode = "404", description = "Producto no encontrado", content = @Content)
+    })
+    public ResponseEntity<StockResponse> releaseStock(
+        @Parameter(description = "ID del producto", required = true)
+        @PathVariable String id,
+        @Parameter(description = "Unidades a liberar", required = true)
+        @Valid @RequestBody StockRequest request
+    ) {
+        return ResponseEntity.ok(stockService.release(id, request.getQuantity()));
+    }
+
+    /**
+     * Obtiene el stock disponible actual de un producto, incluidas las reservas aún no persistidas.
+     * 
+     * @param id ID del producto
+     * @return ResponseEntity con el stock disponible
+     * @throws ProductNotFoundException si el producto no existe
+     */
+    @GetMapping("/{id}/stock")
+    @Operation(
+        summary = "Consultar stock disponible",
+        description = "Retorna el stock vigente, incluidas las reservas que todavía no se persistieron en el producto"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Stock obtenido exitosamente",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = StockResponse.class)
+            )
+        ),
+        @ApiResponse(responseCode = "404", description = "Producto no encontrado", content = @Content)
+    })
+    public ResponseEntity<StockResponse> getStock(
+        @Parameter(description = "ID del producto", required = true)
+        @PathVariable String id
+    ) {
+        return ResponseEntity.ok(stockService.getStock(id));
+    }
+
+    /**
+     * Agrega una reseña a un producto y actualiza su calificación.
+     * 
+     * @param id ID del producto
+     * @param request Datos de la reseña
+     * @return ResponseEntity con la reseña agregada y la calificación resultante
+     * @throws ProductNotFoundException si el producto no existe
+     */
+    @PostMapping("/{id}/reviews")
+    @Operation(
+        summary = "Agregar una reseña",
+        description = "Agrega una reseña y actualiza el promedio, el total y el histograma de calificaciones sin recorrer "
+            + "las reseñas anteriores. Las reseñas concurrentes sobre un mismo producto se aplican todas."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "201",
+            description = "Reseña agregada",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ReviewResponse.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos", content = @Content),
+        @ApiResponse(responseCode = "404", description = "Producto no encontrado", content = @Content)
+    })
+    public ResponseEntity<ReviewResponse> addReview(
+        @Parameter(description = "ID del producto", required = true)
+        @PathVariable String id,
+        @Parameter(description = "Reseña a agregar", required = true)
+        @Valid @RequestBody ReviewRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(reviewService.addReview(id, request));
+    }
+
+    /**
+     * Obtiene las reseñas de un producto paginadas por cursor, de la más reciente a la más antigua.
+     * 
+     * @param id ID del producto
+     * @param cursor Cursor de la página anterior (nextCursor); vacío para la primera
+     * @param size Tamaño de página
+     * @return ResponseEntity con la página de reseñas
+     * @throws ProductNotFoundException si el producto no existe
+     */
+    @GetMapping("/{id}/reviews")
+    @Operation(
+        summary = "Listar reseñas de un producto",
+        description = "Retorna las reseñas de la más reciente a la más antigua. Para la página siguiente se envía el "
+            + "nextCursor recibido; las reseñas nuevas no desplazan las páginas ya pedidas. El producto sólo incluye "
+            + "las más recientes."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Reseñas obtenidas exitosamente",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ReviewPage.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido", content = @Content),
+        @ApiResponse(responseCode = "404", description = "Producto no encontrado", content = @Content)
+    })
+    public ResponseEntity<ReviewPage> getReviews(
+        @Parameter(description = "ID del producto", required = true)
+        @PathVariable String id,
+        @Parameter(description = "Cursor de la página siguiente")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Tamaño de página (máximo 100)")
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(reviewService.getReviews(id, cursor, size));
+    }
+
     /**
      * Elimina un producto existente.
      * 
@@ -219,10 +878,21 @@ public class ProductController {
             )
         )
     })
+    @Parameter(
+        name = "fields",
+        in = ParameterIn.QUERY,
+        description = "Propiedades a incluir separadas por coma, con punto para las anidadas (ej. id,title,price,seller.name)"
+    )
     public ResponseEntity<Page<CreateProduct>> getAllProducts(
-        @PageableDefault(size = 10, sort = "id") Pageable pageable
+        @PageableDefault(size = 10, sort = "id") Pageable pageable,
+
+        WebRequest webRequest
     ) {
-        return ResponseEntity.ok(productService.getAllProducts(pageable));
+        // Sin filtros, la búsqueda devuelve todo el catálogo paginado
+        ProductSearchParams searchParams = ProductSearchParams.builder().build();
+        hotKeyTracker.recordSearch(searchParams);
+        return cacheableSearch(productService.searchKey(searchParams), pageable, webRequest,
+                () -> productService.searchProducts(searchParams, pageable));
     }
     
     /**
@@ -254,6 +924,11 @@ public class ProductController {
             )
         )
     })
+    @Parameter(
+        name = "fields",
+        in = ParameterIn.QUERY,
+        description = "Propiedades a incluir separadas por coma, con punto para las anidadas (ej. id,title,price,seller.name)"
+    )
     public ResponseEntity<Page<CreateProduct>> searchProducts(
         @Parameter(description = "Término de búsqueda en título y descripción")
         @RequestParam(required = false) String query,
@@ -273,7 +948,9 @@ public class ProductController {
         @Parameter(description = "Nombre de la tienda para filtrar")
         @RequestParam(required = false) String storeName,
         
-        @PageableDefault(size = 10, sort = "id") Pageable pageable
+        @PageableDefault(size = 10, sort = "id") Pageable pageable,
+
+        WebRequest webRequest
     ) {
         ProductSearchParams searchParams = ProductSearchParams.builder()
                 .query(query)
@@ -284,6 +961,103 @@ public class ProductController {
                 .storeName(storeName)
                 .build();
         
-        return ResponseEntity.ok(productService.searchProducts(searchParams, pageable));
+        hotKeyTracker.recordSearch(searchParams);
+        return cacheableSearch(productService.searchKey(searchParams), pageable, webRequest,
+                () -> productService.searchProducts(searchParams, pageable));
+    }
+    
+    /**
+     * Busca productos mediante una expresión booleana (and/or/not, range, term, prefix, attribute).
+     * 
+     * @param expression Expresión de búsqueda en formato JSON
+     * @param pageable Información de paginación y ordenamiento
+     * @return ResponseEntity con la lista filtrada y paginada de productos
+     */
+    @PostMapping("/search")
+    @Operation(
+        summary = "Buscar productos con una expresión booleana",
+        description = "Evalúa una expresión compuesta por nodos and/or/not y predicados range, term, prefix y attribute. "
+            + "La expresión se normaliza y se compila una sola vez; expresiones equivalentes reutilizan el mismo plan."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Búsqueda realizada exitosamente",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = Page.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Expresión de búsqueda inválida",
+            content = @Content
+        )
+    })
+    @Parameter(
+        name = "fields",
+        in = ParameterIn.QUERY,
+        description = "Propiedades a incluir separadas por coma, con punto para las anidadas (ej. id,title,price,seller.name)"
+    )
+    public ResponseEntity<Page<CreateProduct>> searchProductsByExpression(
+        @Parameter(description = "Expresión de búsqueda", required = true)
+        @Valid @RequestBody SearchExpression expression,
+        
+        @PageableDefault(size = 10, sort = "id") Pageable pageable
+    ) {
+        // Obtener la clave compila la expresión: una inválida falla antes de contarse
+        String searchKey = productService.searchKey(expression);
+        hotKeyTracker.recordSearch(expression);
+        // Un POST no admite 304, pero el ETag igual se toma antes de buscar
+        String eTag = eTagService.forSearch(searchKey, pageable);
+        return cacheable(productService.searchProducts(expression, pageable), eTag, eTagService.getListCacheControl());
+    }
+
+    /**
+     * Responde una página de resultados con su ETag. El ETag depende sólo de la búsqueda y de la
+     * versión del catálogo, así que un GET condicional vigente responde 304 sin ejecutar la búsqueda.
+     */
+    private ResponseEntity<Page<CreateProduct>> cacheableSearch(String searchKey, Pageable pageable,
+                                                                WebRequest webRequest,
+                                                                Supplier<Page<CreateProduct>> search) {
+        String eTag = eTagService.forSearch(searchKey, pageable);
+        if (isNotModified(webRequest, withSuffix(eTag, BinaryFormats.eTagSuffix(requestedBinaryFormat())))) {
+            return notModified(ResponseEntity.status(HttpStatus.NOT_MODIFIED), eTagService.getListCacheControl());
+        }
+        return cacheable(search.get(), eTag, eTagService.getListCacheControl());
+    }
+
+    /**
+     * Arma una respuesta 200 con ETag y Cache-Control. Si el If-None-Match de la petición
+     * coincide con el ETag, Spring responde 304 sin serializar el cuerpo.
+     */
+    private <T> ResponseEntity<T> cacheable(T body, String eTag, String cacheControl) {
+        return cacheable(ResponseEntity.ok(), body, eTag, cacheControl);
+    }
+
+    private <T> ResponseEntity<T> cacheable(ResponseEntity.BodyBuilder response, T body, String eTag, String cacheControl) {
+        // JSON, Smile y CBOR son representaciones distintas del mismo recurso
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (eTag != null) {
+            response.eTag(withSuffix(eTag, BinaryFormats.eTagSuffix(requestedBinaryFormat())));
+        }
+        if (cacheControl != null && !cacheControl.isBlank()) {
+            response.header(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        return response.body(body);
+    }
+
+    private static String withSuffix(String eTag, String suffix) {
+        return eTag == null || suffix.isEmpty() ? eTag : eTag.substring(0, eTag.length() - 1) + suffix + "\"";
+    }
+
+    /**
+     * Formato binario que pide la petición en curso, o null si corresponde JSON.
+     */
+    private MediaType requestedBinaryFormat() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        return binaryFormats.preferred(attributes.getRequest().getHeader(HttpHeaders.ACCEPT));
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.mercadolibre.product_api.controller;
+
+import com.mercadolibre.product_api.dto.SearchCoalescingInfo;
+import com.mercadolibre.product_api.search.SearchCoalescer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador de administración de la ejecución de búsquedas.
+ */
+@RestController
+@RequestMapping("/api/admin/search")
+@RequiredArgsConstructor
+@Tag(name = "Administración de búsquedas", description = "Estado de la ejecución de búsquedas")
+public class SearchAdminController {
+
+    private final SearchCoalescer searchCoalescer;
+
+    /**
+     * Informa cuántas búsquedas se calcularon y cuántas se agruparon con otra idéntica en curso.
+     *
+     * @return Contadores del agrupamiento
+     */
+    @GetMapping("/coalescing")
+    @Operation(
+        summary = "Agrupamiento de búsquedas",
+        description = "Retorna cuántas búsquedas se calcularon, cuántas recibieron el resultado de otra idéntica "
+            + "en curso y cuántas se están calculando ahora"
+    )
+    @ApiResponse(responseCode = "200", description = "Contadores obtenidos exitosamente")
+    public ResponseEntity<SearchCoalescingInfo> getCoalescing() {
+        return ResponseEntity.ok(SearchCoalescingInfo.builder()
+                .executions(searchCoalescer.getExecutions())
+                .coalesced(searchCoalescer.getCoalesced())
+                .inFlight(searchCoalescer.getInFlight())
+                .build());
+    }
+}
@@ -0,0 +1,82 @@
+package com.mercadolibre.product_api.controller;
+
+import com.mercadolibre.product_api.dto.StandingQueryInfo;
+import com.mercadolibre.product_api.dto.StandingQueryRequest;
+import com.mercadolibre.product_api.service.ProductService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Controlador de búsquedas guardadas ("avisarme cuando un producto cumpla estos filtros").
+ */
+@RestController
+@RequestMapping("/api/standing-queries")
+@RequiredArgsConstructor
+@Tag(name = "Búsquedas guardadas", description = "Registro de búsquedas que notifican los productos que pasan a cumplirlas")
+@CrossOrigin(origins = "*")
+public class StandingQueryController {
+
+    private final ProductService productService;
+
+    /**
+     * Registra una búsqueda guardada.
+     *
+     * @param request Suscriptor y filtros de la búsqueda
+     * @return Búsqueda registrada
+     */
+    @PostMapping
+    @Operation(
+        summary = "Registrar una búsqueda guardada",
+        description = "Cada producto creado o actualizado que pase a cumplir los filtros genera un evento de coincidencia"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Búsqueda registrada exitosamente"),
+        @ApiResponse(responseCode = "400", description = "Datos de la búsqueda inválidos")
+    })
+    public ResponseEntity<StandingQueryInfo> registerStandingQuery(@Valid @RequestBody StandingQueryRequest request) {
+        StandingQueryInfo query = productService.registerStandingQuery(request);
+        return ResponseEntity.created(URI.create("/api/standing-queries/" + query.getId())).body(query);
+    }
+
+    /**
+     * Lista las búsquedas guardadas.
+     *
+     * @return Búsquedas guardadas con su ancla y cantidad de coincidencias
+     */
+    @GetMapping
+    @Operation(summary = "Listar búsquedas guardadas")
+    @ApiResponse(responseCode = "200", description = "Búsquedas obtenidas exitosamente")
+    public ResponseEntity<List<StandingQueryInfo>> getStandingQueries() {
+        return ResponseEntity.ok(productService.getStandingQueries());
+    }
+
+    /**
+     * Elimina una búsqueda guardada.
+     *
+     * @param id ID de la búsqueda
+     * @return Respuesta vacía
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Eliminar una búsqueda guardada")
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "Búsqueda eliminada exitosamente"),
+        @ApiResponse(responseCode = "404", description = "Búsqueda no encontrada")
+    })
+    public ResponseEntity<Void> deleteStandingQuery(
+        @Parameter(description = "ID de la búsqueda guardada", required = true)
+        @PathVariable String id
+    ) {
+        productService.deleteStandingQuery(id);
+        return ResponseEntity.noContent().build();
+    }
+}
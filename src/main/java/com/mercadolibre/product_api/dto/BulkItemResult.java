@@ -0,0 +1,34 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * DTO con el resultado de una operación de una carga masiva.
+ */
+@Data
+@Builder
+@Schema(description = "Resultado de una operación de carga masiva")
+public class BulkItemResult {
+
+    @Schema(description = "Posición de la operación en el lote (desde 0)", example = "0")
+    private int index;
+
+    @Schema(description = "Tipo de operación", example = "create")
+    private BulkOperation.Type op;
+
+    @Schema(description = "ID del producto afectado", example = "MLA123456789")
+    private String id;
+
+    @Schema(description = "Código de estado HTTP equivalente", example = "201")
+    private int status;
+
+    @Schema(description = "Motivo del rechazo", example = "Error de validación")
+    private String error;
+
+    @Schema(description = "Errores de validación por campo")
+    private Map<String, String> details;
+}
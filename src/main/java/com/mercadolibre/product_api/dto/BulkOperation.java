@@ -0,0 +1,40 @@
+package com.mercadolibre.product_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Operación de una carga masiva de productos.
+ * create y upsert llevan el producto completo en {@code product}; update lleva los cambios
+ * parciales en {@code changes}; update, upsert y delete requieren {@code id}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Operación de una carga masiva de productos")
+public class BulkOperation {
+
+    public enum Type {
+        @JsonProperty("create") CREATE,
+        @JsonProperty("upsert") UPSERT,
+        @JsonProperty("update") UPDATE,
+        @JsonProperty("delete") DELETE
+    }
+
+    @Schema(description = "Tipo de operación", example = "create")
+    private Type op;
+
+    @Schema(description = "ID del producto (obligatorio salvo en create)", example = "MLA123456789")
+    private String id;
+
+    @Schema(description = "Producto completo para create y upsert")
+    private CreateProductRequest product;
+
+    @Schema(description = "Cambios parciales para update")
+    private UpdateProductRequest changes;
+}
@@ -0,0 +1,28 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO con el resultado de una carga masiva: un resultado por operación, en el orden recibido.
+ */
+@Data
+@Builder
+@Schema(description = "Resultado de una carga masiva de productos")
+public class BulkResponse {
+
+    @Schema(description = "Indica si alguna operación fue rechazada", example = "false")
+    private boolean errors;
+
+    @Schema(description = "Operaciones aplicadas", example = "9998")
+    private int applied;
+
+    @Schema(description = "Tiempo total en milisegundos", example = "420")
+    private long tookMillis;
+
+    @Schema(description = "Resultado de cada operación")
+    private List<BulkItemResult> items;
+}
@@ -0,0 +1,28 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO con los cambios del catálogo posteriores a una secuencia.
+ */
+@Data
+@Builder
+@Schema(description = "Cambios del catálogo desde una secuencia")
+public class ChangeFeedResponse {
+
+    @Schema(description = "Arranque del servicio al que pertenecen las secuencias", example = "1710512400000")
+    private long epoch;
+
+    @Schema(description = "Secuencia a enviar como since en la próxima petición", example = "1042")
+    private long nextSince;
+
+    @Schema(description = "Si quedan cambios por pedir")
+    private boolean hasMore;
+
+    @Schema(description = "Cambios en orden de secuencia; un producto aparece una sola vez, con su último cambio")
+    private List<ProductChange> changes;
+}
@@ -0,0 +1,35 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO con el estado del límite de concurrencia de una clase de endpoints.
+ */
+@Data
+@Builder
+@Schema(description = "Estado del límite de concurrencia de una clase de endpoints")
+public class ConcurrencyLimitInfo {
+
+    @Schema(description = "Clase de endpoints", example = "SEARCH")
+    private String endpointClass;
+
+    @Schema(description = "Límite actual de peticiones concurrentes", example = "24")
+    private int limit;
+
+    @Schema(description = "Peticiones en curso", example = "7")
+    private int inFlight;
+
+    @Schema(description = "Peticiones aceptadas desde el arranque", example = "15230")
+    private long accepted;
+
+    @Schema(description = "Peticiones rechazadas con 503 desde el arranque", example = "112")
+    private long rejected;
+
+    @Schema(description = "Latencia promedio reciente en milisegundos", example = "3.2")
+    private double latencyMillis;
+
+    @Schema(description = "Latencia base en milisegundos contra la que se compara la reciente", example = "1.8")
+    private double baselineLatencyMillis;
+}
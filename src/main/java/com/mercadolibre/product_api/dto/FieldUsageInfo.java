@@ -0,0 +1,29 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO con el uso observado de un campo en las búsquedas.
+ */
+@Data
+@Builder
+@Schema(description = "Uso observado de un campo en las búsquedas")
+public class FieldUsageInfo {
+
+    @Schema(description = "Campo de búsqueda", example = "price")
+    private String field;
+
+    @Schema(description = "Búsquedas que filtraron por el campo", example = "1200")
+    private long filterUses;
+
+    @Schema(description = "Búsquedas que ordenaron por el campo", example = "300")
+    private long sortUses;
+
+    @Schema(description = "Selectividad media de la última ventana (resultados / catálogo)", example = "0.12")
+    private double averageSelectivity;
+
+    @Schema(description = "Indica si el campo tiene un índice secundario", example = "true")
+    private boolean indexed;
+}
@@ -0,0 +1,43 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO con las claves más frecuentes de una ventana de tiempo.
+ */
+@Data
+@Builder
+@Schema(description = "Claves más frecuentes de una ventana de tiempo")
+public class HotKeyWindow {
+
+    @Schema(description = "Duración de la ventana en segundos (el intervalo actual cuenta desde que empezó)", example = "300")
+    private long windowSeconds;
+
+    @Schema(description = "Cantidad de intervalos que cubre la ventana", example = "5")
+    private int intervals;
+
+    @Schema(description = "Apariciones contadas en la ventana", example = "48211")
+    private long total;
+
+    @Schema(description = "Exceso máximo de cada estimación con probabilidad alta", example = "128")
+    private long maxError;
+
+    @Schema(description = "Claves de mayor a menor frecuencia estimada")
+    private List<HotKey> top;
+
+    @Data
+    @Builder
+    @Schema(description = "Clave frecuente y su frecuencia estimada")
+    public static class HotKey {
+
+        @Schema(description = "ID de producto o búsqueda normalizada", example = "MLB1234567")
+        private String key;
+
+        @Schema(description = "Apariciones estimadas; nunca menos que las reales", example = "9120")
+        private long estimatedCount;
+    }
+}
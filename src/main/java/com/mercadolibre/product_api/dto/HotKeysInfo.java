@@ -0,0 +1,28 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO con los productos y las búsquedas más frecuentes del nodo.
+ */
+@Data
+@Builder
+@Schema(description = "Productos y búsquedas más frecuentes del nodo")
+public class HotKeysInfo {
+
+    @Schema(description = "Duración de cada intervalo en segundos", example = "60")
+    private long intervalSeconds;
+
+    @Schema(description = "Memoria fija de los sketches de ambas dimensiones, en bytes", example = "983040")
+    private long sketchBytes;
+
+    @Schema(description = "Productos más leídos por ID, por ventana")
+    private List<HotKeyWindow> products;
+
+    @Schema(description = "Búsquedas normalizadas más frecuentes, por ventana")
+    private List<HotKeyWindow> queries;
+}
@@ -0,0 +1,25 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * DTO con una línea rechazada de una importación del catálogo.
+ */
+@Data
+@Builder
+@Schema(description = "Línea rechazada de una importación NDJSON")
+public class ImportLineError {
+
+    @Schema(description = "Número de línea en el cuerpo (desde 1)", example = "42")
+    private long line;
+
+    @Schema(description = "ID del producto de la línea, si lo trae", example = "MLA123456789")
+    private String id;
+
+    @Schema(description = "Errores de validación por campo")
+    private Map<String, String> details;
+}
@@ -0,0 +1,31 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO con el resultado de una importación del catálogo.
+ */
+@Data
+@Builder
+@Schema(description = "Resultado de una importación NDJSON del catálogo")
+public class ImportResponse {
+
+    @Schema(description = "Productos importados", example = "250000")
+    private long imported;
+
+    @Schema(description = "Líneas rechazadas por no pasar la validación; no se aplicaron", example = "3")
+    private long rejected;
+
+    @Schema(description = "Detalle de las primeras líneas rechazadas, en orden")
+    private List<ImportLineError> errors;
+
+    @Schema(description = "Lotes aplicados sobre el repositorio", example = "250")
+    private long batches;
+
+    @Schema(description = "Tiempo total en milisegundos", example = "8300")
+    private long tookMillis;
+}
@@ -0,0 +1,46 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * DTO que describe el estado de un índice secundario.
+ */
+@Data
+@Builder
+@Schema(description = "Estado de un índice secundario")
+public class IndexInfo {
+
+    @Schema(description = "Campo indexado", example = "price")
+    private String field;
+
+    @Schema(description = "Estado del índice", example = "READY")
+    private String state;
+
+    @Schema(description = "Indica si el índice se precalienta al arrancar y no se descarta", example = "true")
+    private boolean pinned;
+
+    @Schema(description = "Cantidad de valores distintos", example = "350")
+    private int distinctKeys;
+
+    @Schema(description = "Cantidad de productos indexados", example = "10000")
+    private long entries;
+
+    @Schema(description = "Memoria estimada en bytes", example = "1310720")
+    private long estimatedBytes;
+
+    @Schema(description = "Consultas resueltas con el índice", example = "42")
+    private long hits;
+
+    @Schema(description = "Fecha de creación del índice")
+    private Instant createdAt;
+
+    @Schema(description = "Fecha en que el índice quedó listo")
+    private Instant readyAt;
+
+    @Schema(description = "Fecha del último uso del índice")
+    private Instant lastHitAt;
+}
@@ -0,0 +1,40 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO con el estado de preparación de los índices secundarios.
+ */
+@Data
+@Builder
+@Schema(description = "Estado de preparación de los índices secundarios")
+public class IndexReadiness {
+
+    @Schema(description = "Indica si todos los índices precalentados están listos", example = "true")
+    private boolean ready;
+
+    @Schema(description = "Estado de cada índice")
+    private List<Entry> indexes;
+
+    @Data
+    @Builder
+    @Schema(description = "Estado de preparación de un índice")
+    public static class Entry {
+
+        @Schema(description = "Campo indexado", example = "price")
+        private String field;
+
+        @Schema(description = "Estado del índice", example = "BUILDING")
+        private String state;
+
+        @Schema(description = "Fracción del catálogo ya indexada", example = "0.75")
+        private double progress;
+
+        @Schema(description = "Indica si el índice se precalienta al arrancar", example = "true")
+        private boolean pinned;
+    }
+}
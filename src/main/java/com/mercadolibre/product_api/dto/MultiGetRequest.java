@@ -0,0 +1,32 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para obtener varios productos en una sola petición.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "IDs de los productos a obtener")
+public class MultiGetRequest {
+
+    /**
+     * Máximo de IDs por petición, compartido por todas las variantes de la consulta múltiple.
+     */
+    public static final int MAX_IDS = 1000;
+
+    @NotEmpty(message = "Debe indicar al menos un ID")
+    @Size(max = MAX_IDS, message = "No se pueden pedir más de " + MAX_IDS + " productos por petición")
+    @Schema(description = "IDs de los productos", example = "[\"MLA123456789\", \"MLA987654321\"]")
+    private List<String> ids;
+}
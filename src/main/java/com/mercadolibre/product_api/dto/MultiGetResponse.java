@@ -0,0 +1,24 @@
+package com.mercadolibre.product_api.dto;
+
+import com.mercadolibre.product_api.model.CreateProduct;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO con el resultado de una obtención por lote: los productos encontrados, en el orden
+ * pedido, y los IDs que no existen.
+ */
+@Data
+@Builder
+@Schema(description = "Resultado de obtener varios productos por ID")
+public class MultiGetResponse {
+
+    @Schema(description = "Productos encontrados, en el orden en que se pidieron")
+    private List<CreateProduct> products;
+
+    @Schema(description = "IDs que no corresponden a ningún producto", example = "[\"MLA000000000\"]")
+    private List<String> missing;
+}
@@ -0,0 +1,29 @@
+package com.mercadolibre.product_api.dto;
+
+import com.mercadolibre.product_api.model.CreateProduct;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO con un cambio del catálogo: el producto vigente si se creó o modificó, o una lápida si se eliminó.
+ */
+@Data
+@Builder
+@Schema(description = "Cambio de un producto en el feed de cambios")
+public class ProductChange {
+
+    public enum Type { UPSERT, DELETE }
+
+    @Schema(description = "Secuencia de la mutación", example = "1042")
+    private long sequence;
+
+    @Schema(description = "ID del producto", example = "MLA123456789")
+    private String id;
+
+    @Schema(description = "UPSERT si el producto se creó o modificó, DELETE si se eliminó", example = "UPSERT")
+    private Type type;
+
+    @Schema(description = "Producto vigente; ausente en las eliminaciones")
+    private CreateProduct product;
+}
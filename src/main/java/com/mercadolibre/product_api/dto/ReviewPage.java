@@ -0,0 +1,29 @@
+package com.mercadolibre.product_api.dto;
+
+import com.mercadolibre.product_api.model.Review;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO con una página de reseñas de un producto, paginada por cursor.
+ */
+@Data
+@Builder
+@Schema(description = "Página de reseñas de un producto, de la más reciente a la más antigua")
+public class ReviewPage {
+
+    @Schema(description = "ID del producto", example = "MLA123456789")
+    private String productId;
+
+    @Schema(description = "Reseñas de la página")
+    private List<Review> reviews;
+
+    @Schema(description = "Cantidad total de reseñas del producto", example = "1250")
+    private int totalReviews;
+
+    @Schema(description = "Cursor para pedir la página siguiente; null si no hay más reseñas", example = "1230")
+    private String nextCursor;
+}
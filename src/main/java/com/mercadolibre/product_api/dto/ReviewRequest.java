@@ -0,0 +1,37 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para agregar una reseña a un producto.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Reseña a agregar a un producto")
+public class ReviewRequest {
+
+    @NotBlank(message = "El usuario es obligatorio")
+    @Schema(description = "ID del usuario que realiza la reseña", example = "user123")
+    private String userId;
+
+    @Size(max = 2000, message = "El comentario no puede superar los 2000 caracteres")
+    @Schema(description = "Comentario de la reseña", example = "Excelente producto, muy satisfecho con la compra")
+    private String comment;
+
+    @NotNull(message = "La calificación es obligatoria")
+    @Min(value = 1, message = "La calificación debe estar entre 1 y 5")
+    @Max(value = 5, message = "La calificación debe estar entre 1 y 5")
+    @Schema(description = "Calificación numérica (1-5)", example = "5")
+    private Integer rating;
+}
@@ -0,0 +1,32 @@
+package com.mercadolibre.product_api.dto;
+
+import com.mercadolibre.product_api.model.Review;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO con la reseña agregada y la calificación del producto después de agregarla.
+ */
+@Data
+@Builder
+@Schema(description = "Reseña agregada y calificación actualizada del producto")
+public class ReviewResponse {
+
+    @Schema(description = "ID del producto", example = "MLA123456789")
+    private String productId;
+
+    @Schema(description = "Reseña agregada")
+    private Review review;
+
+    @Schema(description = "Promedio de calificaciones", example = "4.5")
+    private Double averageRating;
+
+    @Schema(description = "Número total de calificaciones recibidas", example = "101")
+    private Integer totalRatings;
+
+    @Schema(description = "Cantidad de reseñas por calificación, de 1 a 5 estrellas", example = "[2, 0, 5, 20, 74]")
+    private List<Integer> ratingHistogram;
+}
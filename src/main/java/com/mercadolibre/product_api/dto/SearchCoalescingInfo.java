@@ -0,0 +1,23 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO con los contadores del agrupamiento de búsquedas idénticas concurrentes.
+ */
+@Data
+@Builder
+@Schema(description = "Agrupamiento de búsquedas idénticas concurrentes")
+public class SearchCoalescingInfo {
+
+    @Schema(description = "Búsquedas calculadas desde el arranque", example = "5120")
+    private long executions;
+
+    @Schema(description = "Búsquedas que recibieron el resultado de otra idéntica en curso", example = "830")
+    private long coalesced;
+
+    @Schema(description = "Búsquedas distintas calculándose en este momento", example = "3")
+    private int inFlight;
+}
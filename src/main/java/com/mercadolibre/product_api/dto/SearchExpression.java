@@ -0,0 +1,66 @@
+package com.mercadolibre.product_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Nodo de una expresión booleana de búsqueda.
+ * Los nodos and/or combinan hijos, not niega un hijo y el resto son predicados hoja
+ * sobre un campo del producto (range, term, prefix) o sobre sus atributos (attribute).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Expresión booleana de búsqueda de productos")
+public class SearchExpression {
+
+    public enum Type {
+        @JsonProperty("and") AND,
+        @JsonProperty("or") OR,
+        @JsonProperty("not") NOT,
+        @JsonProperty("range") RANGE,
+        @JsonProperty("term") TERM,
+        @JsonProperty("prefix") PREFIX,
+        @JsonProperty("attribute") ATTRIBUTE
+    }
+
+    @NotNull(message = "El tipo de la expresión es obligatorio")
+    @Schema(description = "Tipo de nodo", example = "and")
+    private Type type;
+
+    @Schema(description = "Sub-expresiones de un nodo and/or")
+    private List<SearchExpression> children;
+
+    @Schema(description = "Sub-expresión negada por un nodo not")
+    private SearchExpression child;
+
+    @Schema(description = "Campo sobre el que aplica el predicado", example = "price")
+    private String field;
+
+    @Schema(description = "Límite inferior inclusivo de un rango", example = "100")
+    private BigDecimal gte;
+
+    @Schema(description = "Límite inferior exclusivo de un rango")
+    private BigDecimal gt;
+
+    @Schema(description = "Límite superior inclusivo de un rango", example = "1000")
+    private BigDecimal lte;
+
+    @Schema(description = "Límite superior exclusivo de un rango")
+    private BigDecimal lt;
+
+    @Schema(description = "Valor buscado por term, prefix o attribute", example = "Apple")
+    private Object value;
+
+    @Schema(description = "Nombre del atributo para un nodo attribute", example = "Marca")
+    private String name;
+}
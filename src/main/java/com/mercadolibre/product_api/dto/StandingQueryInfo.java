@@ -0,0 +1,34 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * DTO que describe una búsqueda guardada registrada.
+ */
+@Data
+@Builder
+@Schema(description = "Búsqueda guardada registrada")
+public class StandingQueryInfo {
+
+    @Schema(description = "ID de la búsqueda guardada", example = "3f1c2a9e-8d4b-4c1e-9f6a-2b7d5e8c1a04")
+    private String id;
+
+    @Schema(description = "Identificador de quien recibe las coincidencias", example = "user-42")
+    private String subscriber;
+
+    @Schema(description = "Filtros de la búsqueda")
+    private ProductSearchParams params;
+
+    @Schema(description = "Clave del índice inverso por la que se preselecciona la búsqueda", example = "text:iph")
+    private String anchor;
+
+    @Schema(description = "Coincidencias notificadas desde el registro", example = "3")
+    private long matches;
+
+    @Schema(description = "Fecha de registro")
+    private Instant createdAt;
+}
@@ -0,0 +1,28 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para registrar una búsqueda guardada (alerta de precio, novedades de una tienda, etc.).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Datos para registrar una búsqueda guardada")
+public class StandingQueryRequest {
+
+    @NotBlank(message = "El suscriptor no puede estar vacío")
+    @Schema(description = "Identificador de quien recibe las coincidencias", example = "user-42")
+    private String subscriber;
+
+    @NotNull(message = "Los parámetros de búsqueda son obligatorios")
+    @Schema(description = "Filtros que debe cumplir un producto para notificar la coincidencia")
+    private ProductSearchParams params;
+}
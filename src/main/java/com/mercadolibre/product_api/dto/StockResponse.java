@@ -0,0 +1,20 @@
+package com.mercadolibre.product_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO con el stock disponible de un producto después de una reserva o liberación.
+ */
+@Data
+@Builder
+@Schema(description = "Stock disponible de un producto")
+public class StockResponse {
+
+    @Schema(description = "ID del producto", example = "MLA123456789")
+    private String productId;
+
+    @Schema(description = "Unidades disponibles", example = "41")
+    private int availableStock;
+}
@@ -5,6 +5,7 @@ import com.mercadolibre.product_api.model.ProductRating;
 import com.mercadolibre.product_api.model.Seller;
 import com.mercadolibre.product_api.validation.URLValidator;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Null;
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -51,6 +52,8 @@ public class UpdateProductRequest {
     @Schema(description = "Atributos específicos de la categoría", example = "{\"Marca\": \"Apple\", \"Modelo\": \"iPhone 13\"}")
     private Map<String, String> attributes;
     
-    @Schema(description = "Información de calificaciones y reseñas")
+    // La calificación sólo cambia con reseñas: se rechaza para que no se aparte del almacén de reseñas
+    @Null(message = "La calificación no se modifica directamente; use POST /api/products/{id}/reviews")
+    @Schema(description = "No se acepta: la calificación se calcula a partir de las reseñas", accessMode = Schema.AccessMode.READ_ONLY)
     private ProductRating rating;
 } 
\ No newline at end of file
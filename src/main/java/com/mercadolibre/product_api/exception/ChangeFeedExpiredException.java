@@ -0,0 +1,8 @@
+package com.mercadolibre.product_api.exception;
+
+public class ChangeFeedExpiredException extends RuntimeException {
+    
+    public ChangeFeedExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.mercadolibre.product_api.exception;
+
+import lombok.Getter;
+
+/**
+ * Petición rechazada porque su clase de endpoint alcanzó el límite de concurrencia.
+ * No guarda el stack trace: se lanza justamente cuando el servicio está saturado.
+ */
+@Getter
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitExceededException(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
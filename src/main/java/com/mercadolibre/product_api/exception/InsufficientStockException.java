@@ -0,0 +1,8 @@
+package com.mercadolibre.product_api.exception;
+
+public class InsufficientStockException extends RuntimeException {
+    
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.mercadolibre.product_api.exception;
+
+public class InvalidSearchExpressionException extends RuntimeException {
+    
+    public InvalidSearchExpressionException(String message) {
+        super(message);
+    }
+}
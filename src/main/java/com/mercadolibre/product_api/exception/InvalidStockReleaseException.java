@@ -0,0 +1,12 @@
+package com.mercadolibre.product_api.exception;
+
+/**
+ * Liberación de stock rechazada: supera las unidades reservadas del producto o llevaría el
+ * stock disponible más allá del máximo representable.
+ */
+public class InvalidStockReleaseException extends RuntimeException {
+
+    public InvalidStockReleaseException(String message) {
+        super(message);
+    }
+}
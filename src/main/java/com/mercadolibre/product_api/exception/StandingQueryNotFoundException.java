@@ -0,0 +1,8 @@
+package com.mercadolibre.product_api.exception;
+
+public class StandingQueryNotFoundException extends RuntimeException {
+
+    public StandingQueryNotFoundException(String message) {
+        super(message);
+    }
+}
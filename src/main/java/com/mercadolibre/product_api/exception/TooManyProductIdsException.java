@@ -0,0 +1,8 @@
+package com.mercadolibre.product_api.exception;
+
+public class TooManyProductIdsException extends RuntimeException {
+    
+    public TooManyProductIdsException(int max) {
+        super("No se pueden pedir más de " + max + " productos por petición");
+    }
+}
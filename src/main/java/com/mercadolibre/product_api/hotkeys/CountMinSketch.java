@@ -0,0 +1,79 @@
+package com.mercadolibre.product_api.hotkeys;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sketch count-min: estima cuántas veces se vio cada clave con memoria fija de
+ * {@code depth × width} contadores, sin guardar las claves.
+ * <p>
+ * Cada fila asigna la clave a un contador con una función de hash distinta y la estimación es
+ * el mínimo de sus contadores: nunca es menor que la cuenta real y, con probabilidad
+ * {@code 1 - e^-depth}, la excede en a lo sumo {@code e / width} del total agregado. Los
+ * contadores son atómicos, así que agregar no toma bloqueos.
+ */
+final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final AtomicLongArray counters;
+
+    CountMinSketch(int width, int depth) {
+        this.width = Math.max(1, width);
+        this.depth = Math.max(1, depth);
+        this.counters = new AtomicLongArray(this.width * this.depth);
+    }
+
+    /**
+     * Cuenta una aparición de la clave.
+     *
+     * @return Estimación de la clave después de contarla
+     */
+    long add(String key) {
+        long hash1 = mix(key.hashCode());
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, hash1, hash2)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Estimación de las apariciones de la clave; 0 si nunca se vio.
+     */
+    long estimate(String key) {
+        long hash1 = mix(key.hashCode());
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, hash1, hash2)));
+        }
+        return estimate;
+    }
+
+    int width() {
+        return width;
+    }
+
+    /**
+     * Memoria de los contadores en bytes.
+     */
+    long sizeInBytes() {
+        return (long) width * depth * Long.BYTES;
+    }
+
+    // Doble hashing: la fila i usa hash1 + i·hash2, equivalente a funciones independientes para el sketch
+    private int index(int row, long hash1, long hash2) {
+        return row * width + (int) Long.remainderUnsigned(hash1 + row * hash2, width);
+    }
+
+    // Finalizador de MurmurHash3: reparte los bits de String.hashCode en los 64 bits
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
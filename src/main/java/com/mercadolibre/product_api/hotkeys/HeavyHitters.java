@@ -0,0 +1,163 @@
+package com.mercadolibre.product_api.hotkeys;
+
+import com.mercadolibre.product_api.dto.HotKeyWindow;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Claves más frecuentes de una dimensión (productos o búsquedas) en una ventana deslizante.
+ * <p>
+ * La ventana se divide en {@code buckets} intervalos: cada uno tiene su propio
+ * {@link CountMinSketch} y un conjunto acotado de candidatas a clave frecuente. Contar una clave
+ * incrementa los contadores atómicos del intervalo actual y, sólo si su estimación supera el
+ * umbral del intervalo y todavía no es candidata, la agrega al conjunto; una clave frecuente ya
+ * registrada no escribe nada más. Cuando hay más de {@code 4 × topK} candidatas, un único hilo
+ * las recorta a las {@code topK} mayores y sube el umbral.
+ * <p>
+ * {@link #rotate()} abre un intervalo nuevo y descarta el más antiguo. Un resumen de los últimos
+ * {@code n} intervalos suma, para cada candidata de alguno de ellos, sus estimaciones en esos
+ * intervalos.
+ */
+final class HeavyHitters {
+
+    private final int width;
+    private final int depth;
+    private final int topK;
+    private final int maxCandidates;
+    // Del más reciente al más antiguo; se reemplaza entero al rotar
+    private volatile Bucket[] buckets;
+
+    HeavyHitters(int buckets, int width, int depth, int topK) {
+        this.width = width;
+        this.depth = depth;
+        this.topK = Math.max(1, topK);
+        this.maxCandidates = 4 * this.topK;
+        Bucket[] initial = new Bucket[Math.max(1, buckets)];
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = new Bucket(width, depth);
+        }
+        this.buckets = initial;
+    }
+
+    /**
+     * Cuenta una aparición de la clave en el intervalo actual.
+     */
+    void add(String key) {
+        Bucket bucket = buckets[0];
+        bucket.total.increment();
+        long estimate = bucket.sketch.add(key);
+        if (estimate > bucket.threshold && !bucket.candidates.containsKey(key)) {
+            bucket.candidates.putIfAbsent(key, Boolean.TRUE);
+            if (bucket.candidates.size() > maxCandidates) {
+                prune(bucket);
+            }
+        }
+    }
+
+    /**
+     * Abre un intervalo nuevo; el más antiguo deja de contar.
+     */
+    synchronized void rotate() {
+        Bucket[] current = buckets;
+        Bucket[] rotated = new Bucket[current.length];
+        rotated[0] = new Bucket(width, depth);
+        System.arraycopy(current, 0, rotated, 1, current.length - 1);
+        buckets = rotated;
+    }
+
+    int bucketCount() {
+        return buckets.length;
+    }
+
+    /**
+     * Memoria fija de los sketches de todos los intervalos, en bytes.
+     */
+    long sketchBytes() {
+        return buckets.length * buckets[0].sketch.sizeInBytes();
+    }
+
+    /**
+     * Claves más frecuentes de los últimos intervalos.
+     *
+     * @param intervals Cantidad de intervalos, desde el actual
+     * @param limit     Cantidad máxima de claves
+     * @return Total de apariciones, error máximo de las estimaciones y claves de mayor a menor
+     */
+    HotKeyWindow summarize(int intervals, int limit) {
+        Bucket[] current = buckets;
+        int count = Math.min(Math.max(1, intervals), current.length);
+        long total = 0;
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            total += current[i].total.sum();
+            keys.addAll(current[i].candidates.keySet());
+        }
+        Map<String, Long> estimates = new HashMap<>();
+        for (String key : keys) {
+            long estimate = 0;
+            for (int i = 0; i < count; i++) {
+                estimate += current[i].sketch.estimate(key);
+            }
+            estimates.put(key, estimate);
+        }
+        List<HotKeyWindow.HotKey> top = new ArrayList<>();
+        estimates.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(Math.min(limit, topK))
+                .forEach(entry -> top.add(HotKeyWindow.HotKey.builder()
+                        .key(entry.getKey())
+                        .estimatedCount(entry.getValue())
+                        .build()));
+        return HotKeyWindow.builder()
+                .intervals(count)
+                .total(total)
+                .maxError((long) Math.ceil(Math.E / width * total))
+                .top(top)
+                .build();
+    }
+
+    private void prune(Bucket bucket) {
+        if (!bucket.pruning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Map.Entry<String, Long>> ranked = new ArrayList<>();
+            for (String key : bucket.candidates.keySet()) {
+                ranked.add(Map.entry(key, bucket.sketch.estimate(key)));
+            }
+            ranked.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+            for (Map.Entry<String, Long> entry : ranked.subList(Math.min(topK, ranked.size()), ranked.size())) {
+                bucket.candidates.remove(entry.getKey());
+            }
+            if (ranked.size() >= topK) {
+                bucket.threshold = ranked.get(topK - 1).getValue();
+            }
+        } finally {
+            bucket.pruning.set(false);
+        }
+    }
+
+    private static final class Bucket {
+
+        private final CountMinSketch sketch;
+        private final Map<String, Boolean> candidates = new ConcurrentHashMap<>();
+        private final LongAdder total = new LongAdder();
+        private final AtomicBoolean pruning = new AtomicBoolean();
+        // Estimación mínima para ser candidata: la menor de las topK tras el último recorte
+        private volatile long threshold;
+
+        private Bucket(int width, int depth) {
+            this.sketch = new CountMinSketch(width, depth);
+        }
+    }
+}
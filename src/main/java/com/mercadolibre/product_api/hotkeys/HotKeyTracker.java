@@ -0,0 +1,144 @@
+package com.mercadolibre.product_api.hotkeys;
+
+import com.mercadolibre.product_api.dto.HotKeyWindow;
+import com.mercadolibre.product_api.dto.HotKeysInfo;
+import com.mercadolibre.product_api.dto.ProductSearchParams;
+import com.mercadolibre.product_api.dto.SearchExpression;
+import com.mercadolibre.product_api.search.QueryCompiler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * Detecta los productos y las búsquedas que más carga generan en el nodo.
+ * <p>
+ * Las lecturas por ID y las búsquedas se cuentan en {@link HeavyHitters} de memoria fija (un
+ * sketch count-min de {@code products.hot-keys.sketch-width × sketch-depth} contadores por
+ * intervalo) sin bloqueos en el camino de la petición. Cada {@code products.hot-keys.interval-ms}
+ * se abre un intervalo nuevo y se conservan los últimos {@code products.hot-keys.intervals};
+ * {@link #describe(int)} resume las ventanas de {@code products.hot-keys.windows} intervalos.
+ */
+@Component
+public class HotKeyTracker {
+
+    // Las búsquedas muy largas se truncan: la clave sólo identifica la búsqueda en el resumen
+    private static final int MAX_KEY_LENGTH = 200;
+
+    private final QueryCompiler queryCompiler;
+    private final long intervalMillis;
+    private final List<Integer> windows;
+    private final HeavyHitters products;
+    private final HeavyHitters queries;
+
+    public HotKeyTracker(QueryCompiler queryCompiler,
+                         @Value("${products.hot-keys.interval-ms:60000}") long intervalMillis,
+                         @Value("${products.hot-keys.intervals:15}") int intervals,
+                         @Value("${products.hot-keys.windows:1,5,15}") List<Integer> windows,
+                         @Value("${products.hot-keys.sketch-width:2048}") int sketchWidth,
+                         @Value("${products.hot-keys.sketch-depth:4}") int sketchDepth,
+                         @Value("${products.hot-keys.top-k:50}") int topK) {
+        this.queryCompiler = queryCompiler;
+        this.intervalMillis = intervalMillis;
+        this.windows = List.copyOf(windows);
+        this.products = new HeavyHitters(intervals, sketchWidth, sketchDepth, topK);
+        this.queries = new HeavyHitters(intervals, sketchWidth, sketchDepth, topK);
+    }
+
+    /**
+     * Cuenta una lectura por ID, exista o no el producto.
+     */
+    public void recordProduct(String id) {
+        products.add(truncate(id));
+    }
+
+    /**
+     * Cuenta una búsqueda por parámetros, con los filtros normalizados.
+     */
+    public void recordSearch(ProductSearchParams params) {
+        queries.add(truncate(normalize(params)));
+    }
+
+    /**
+     * Cuenta una búsqueda por expresión, con la forma canónica de su plan compilado (ya en caché
+     * después de ejecutarla).
+     */
+    public void recordSearch(SearchExpression expression) {
+        queries.add(truncate("expression:" + queryCompiler.compile(expression).canonicalKey()));
+    }
+
+    /**
+     * Abre un intervalo nuevo en ambas dimensiones.
+     */
+    @Scheduled(initialDelayString = "${products.hot-keys.interval-ms:60000}",
+            fixedRateString = "${products.hot-keys.interval-ms:60000}")
+    public void rotate() {
+        products.rotate();
+        queries.rotate();
+    }
+
+    /**
+     * Productos y búsquedas más frecuentes en cada ventana configurada.
+     *
+     * @param top Cantidad máxima de claves por ventana (acotada por {@code products.hot-keys.top-k})
+     */
+    public HotKeysInfo describe(int top) {
+        return HotKeysInfo.builder()
+                .intervalSeconds(intervalMillis / 1000)
+                .sketchBytes(products.sketchBytes() + queries.sketchBytes())
+                .products(summarize(products, top))
+                .queries(summarize(queries, top))
+                .build();
+    }
+
+    private List<HotKeyWindow> summarize(HeavyHitters hitters, int top) {
+        List<HotKeyWindow> summaries = new ArrayList<>(windows.size());
+        for (int window : windows) {
+            HotKeyWindow summary = hitters.summarize(window, Math.max(1, top));
+            summary.setWindowSeconds(summary.getIntervals() * intervalMillis / 1000);
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+
+    /**
+     * Forma legible y normalizada de los filtros: sólo los presentes, textos en minúsculas con
+     * los espacios colapsados y precios por valor.
+     */
+    static String normalize(ProductSearchParams params) {
+        StringJoiner key = new StringJoiner("&");
+        add(key, "query", text(params.getQuery()));
+        add(key, "minPrice", plain(params.getMinPrice()));
+        add(key, "maxPrice", plain(params.getMaxPrice()));
+        add(key, "isOfficialStore", params.getIsOfficialStore());
+        add(key, "minRating", params.getMinRating());
+        add(key, "storeName", text(params.getStoreName()));
+        return key.length() == 0 ? "*" : key.toString();
+    }
+
+    private static void add(StringJoiner key, String name, Object value) {
+        if (value != null) {
+            key.add(name + "=" + value);
+        }
+    }
+
+    private static String text(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String plain(BigDecimal value) {
+        return value == null ? null : value.stripTrailingZeros().toPlainString();
+    }
+
+    private static String truncate(String key) {
+        return key.length() <= MAX_KEY_LENGTH ? key : key.substring(0, MAX_KEY_LENGTH);
+    }
+}
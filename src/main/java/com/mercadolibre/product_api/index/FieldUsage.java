@@ -0,0 +1,72 @@
+package com.mercadolibre.product_api.index;
+
+import com.mercadolibre.product_api.search.SearchField;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Uso observado de un campo en las búsquedas: veces que se filtró u ordenó por él y la
+ * selectividad media de esas búsquedas. Mantiene contadores de la ventana actual, que se
+ * reinician en cada evaluación, y totales acumulados.
+ */
+class FieldUsage {
+
+    /**
+     * Contadores de una ventana ya cerrada.
+     */
+    record Window(long filterUses, long sortUses, double averageSelectivity) {
+    }
+
+    private final SearchField field;
+    private final LongAdder windowFilterUses = new LongAdder();
+    private final LongAdder windowSortUses = new LongAdder();
+    private final DoubleAdder windowSelectivity = new DoubleAdder();
+    private final LongAdder totalFilterUses = new LongAdder();
+    private final LongAdder totalSortUses = new LongAdder();
+    private volatile double lastAverageSelectivity = 1.0;
+
+    FieldUsage(SearchField field) {
+        this.field = field;
+    }
+
+    void recordFilter(double selectivity) {
+        windowFilterUses.increment();
+        windowSelectivity.add(selectivity);
+        totalFilterUses.increment();
+    }
+
+    void recordSort() {
+        windowSortUses.increment();
+        totalSortUses.increment();
+    }
+
+    /**
+     * Cierra la ventana actual y devuelve sus contadores.
+     */
+    Window closeWindow() {
+        long filterUses = windowFilterUses.sumThenReset();
+        long sortUses = windowSortUses.sumThenReset();
+        double selectivitySum = windowSelectivity.sumThenReset();
+        if (filterUses > 0) {
+            lastAverageSelectivity = selectivitySum / filterUses;
+        }
+        return new Window(filterUses, sortUses, filterUses > 0 ? selectivitySum / filterUses : 1.0);
+    }
+
+    SearchField getField() {
+        return field;
+    }
+
+    long getTotalFilterUses() {
+        return totalFilterUses.sum();
+    }
+
+    long getTotalSortUses() {
+        return totalSortUses.sum();
+    }
+
+    double getLastAverageSelectivity() {
+        return lastAverageSelectivity;
+    }
+}
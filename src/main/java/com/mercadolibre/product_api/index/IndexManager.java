@@ -0,0 +1,365 @@
+package com.mercadolibre.product_api.index;
+
+import com.mercadolibre.product_api.dto.FieldUsageInfo;
+import com.mercadolibre.product_api.dto.IndexInfo;
+import com.mercadolibre.product_api.dto.IndexReadiness;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.repository.ProductChangeListener;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import com.mercadolibre.product_api.search.FieldConstraint;
+import com.mercadolibre.product_api.search.SearchField;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Administra los índices secundarios a partir de la carga de búsquedas observada.
+ * Registra el uso de cada campo como filtro u orden, construye en segundo plano índices
+ * para los campos más usados y selectivos (con un máximo de construcciones por ciclo)
+ * y descarta los que dejan de usarse.
+ * <p>
+ * Los campos configurados en {@code products.index.warm-fields} se indexan al arrancar, también
+ * en segundo plano: las lecturas por ID se atienden desde el primer momento y las búsquedas
+ * recorren el catálogo hasta que su índice está listo.
+ */
+@Slf4j
+@Component
+public class IndexManager implements ProductChangeListener {
+
+    private final ProductRepository productRepository;
+    private final boolean autoIndexing;
+    private final long minUses;
+    private final double maxSelectivity;
+    private final int maxIndexes;
+    private final int maxBuildsPerCycle;
+    private final long idleTtlMillis;
+    private final List<SearchField> warmFields;
+
+    private final Map<SearchField, SecondaryIndex> indexes = new ConcurrentHashMap<>();
+    private final Map<SearchField, FieldUsage> usage = new EnumMap<>(SearchField.class);
+    private final ExecutorService buildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "index-builder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public IndexManager(ProductRepository productRepository,
+                        @Value("${products.index.auto.enabled:true}") boolean autoIndexing,
+                        @Value("${products.index.auto.min-uses:20}") long minUses,
+                        @Value("${products.index.auto.max-selectivity:0.5}") double maxSelectivity,
+                        @Value("${products.index.auto.max-indexes:8}") int maxIndexes,
+                        @Value("${products.index.auto.max-builds-per-cycle:1}") int maxBuildsPerCycle,
+                        @Value("${products.index.auto.idle-ttl-ms:600000}") long idleTtlMillis,
+                        @Value("${products.index.warm-fields:}") String warmFields) {
+        this.productRepository = productRepository;
+        this.autoIndexing = autoIndexing;
+        this.minUses = minUses;
+        this.maxSelectivity = maxSelectivity;
+        this.maxIndexes = maxIndexes;
+        this.maxBuildsPerCycle = maxBuildsPerCycle;
+        this.idleTtlMillis = idleTtlMillis;
+        this.warmFields = parseFields(warmFields);
+        for (SearchField field : SearchField.values()) {
+            usage.put(field, new FieldUsage(field));
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        productRepository.addChangeListener(this);
+    }
+
+    /**
+     * Programa la construcción de los índices precalentados una vez que la aplicación
+     * ya acepta tráfico, para no alargar el arranque.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (SearchField field : warmFields) {
+            buildIndex(field, true);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        buildExecutor.shutdownNow();
+    }
+
+    // ---------------------------------------------------------------------
+    // Mantenimiento a partir de las mutaciones del repositorio
+    // ---------------------------------------------------------------------
+
+    @Override
+    public void onSave(CreateProduct previous, CreateProduct current) {
+        for (SecondaryIndex index : indexes.values()) {
+            index.put(current);
+        }
+    }
+
+    @Override
+    public void onDelete(CreateProduct removed) {
+        for (SecondaryIndex index : indexes.values()) {
+            index.remove(removed.getId());
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Planificación de búsquedas
+    // ---------------------------------------------------------------------
+
+    /**
+     * Elige, entre las restricciones con índice listo, la que produce menos candidatos.
+     *
+     * @param constraints Restricciones que todo resultado debe cumplir
+     * @return IDs candidatos, o vacío si ninguna restricción tiene índice
+     */
+    public Optional<Collection<String>> candidates(List<FieldConstraint> constraints) {
+        SecondaryIndex best = null;
+        FieldConstraint bestConstraint = null;
+        long bestEstimate = Long.MAX_VALUE;
+        for (FieldConstraint constraint : constraints) {
+            SecondaryIndex index = indexes.get(constraint.field());
+            if (index == null || !index.isReady()) {
+                continue;
+            }
+            long estimate = index.estimate(constraint);
+            if (estimate < bestEstimate) {
+                best = index;
+                bestConstraint = constraint;
+                bestEstimate = estimate;
+            }
+        }
+        return best == null ? Optional.empty() : Optional.of(best.lookup(bestConstraint));
+    }
+
+    /**
+     * Recorre los IDs en el orden de un campo numérico si tiene índice listo.
+     *
+     * @param property  Propiedad de ordenamiento
+     * @param ascending Orden ascendente o descendente
+     * @param consumer  Receptor de cada ID
+     * @return true si el recorrido se hizo con un índice
+     */
+    public boolean forEachOrdered(String property, boolean ascending, Consumer<String> consumer) {
+        SearchField field = SearchField.fromPath(property);
+        if (field == null || field.getKind() != SearchField.Kind.NUMBER) {
+            return false;
+        }
+        SecondaryIndex index = indexes.get(field);
+        if (index == null || !index.isReady()) {
+            return false;
+        }
+        index.forEachOrdered(ascending, consumer);
+        return true;
+    }
+
+    /**
+     * Registra una búsqueda ejecutada para alimentar la decisión de indexado.
+     *
+     * @param constraints Restricciones indexables de la búsqueda
+     * @param sort        Ordenamiento solicitado
+     * @param matched     Cantidad de resultados
+     * @param catalogSize Tamaño del catálogo
+     */
+    public void recordSearch(List<FieldConstraint> constraints, Sort sort, long matched, long catalogSize) {
+        double selectivity = catalogSize == 0 ? 1.0 : (double) matched / catalogSize;
+        for (FieldConstraint constraint : constraints) {
+            usage.get(constraint.field()).recordFilter(selectivity);
+        }
+        for (Sort.Order order : sort) {
+            SearchField field = SearchField.fromPath(order.getProperty());
+            if (field != null) {
+                usage.get(field).recordSort();
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Construcción y descarte automáticos
+    // ---------------------------------------------------------------------
+
+    /**
+     * Cierra la ventana de uso, programa la construcción de los campos más usados y
+     * descarta los índices sin uso reciente.
+     */
+    @Scheduled(fixedDelayString = "${products.index.auto.evaluation-interval-ms:30000}",
+               initialDelayString = "${products.index.auto.evaluation-interval-ms:30000}")
+    public void evaluate() {
+        Map<SearchField, FieldUsage.Window> windows = new EnumMap<>(SearchField.class);
+        usage.forEach((field, fieldUsage) -> windows.put(field, fieldUsage.closeWindow()));
+        if (!autoIndexing) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        indexes.values().removeIf(index -> {
+            boolean cold = !index.isPinned() && index.getState() != SecondaryIndex.State.BUILDING && now - index.getLastHitMillis() > idleTtlMillis;
+            if (cold) {
+                log.info("Índice sobre {} descartado por falta de uso ({} consultas)",
+                        index.getField().getPath(), index.getHits());
+            }
+            return cold;
+        });
+
+        List<Map.Entry<SearchField, FieldUsage.Window>> hot = windows.entrySet().stream()
+                .filter(entry -> !indexes.containsKey(entry.getKey()))
+                .filter(entry -> isHot(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<SearchField, FieldUsage.Window> entry) ->
+                                entry.getValue().filterUses() + entry.getValue().sortUses()).reversed())
+                .toList();
+        int scheduled = 0;
+        for (Map.Entry<SearchField, FieldUsage.Window> entry : hot) {
+            if (scheduled >= maxBuildsPerCycle || indexes.size() >= maxIndexes) {
+                break;
+            }
+            if (buildIndex(entry.getKey())) {
+                scheduled++;
+            }
+        }
+    }
+
+    private boolean isHot(SearchField field, FieldUsage.Window window) {
+        boolean selectiveFilter = window.filterUses() >= minUses && window.averageSelectivity() <= maxSelectivity;
+        boolean frequentSort = field.getKind() == SearchField.Kind.NUMBER && window.sortUses() >= minUses;
+        return selectiveFilter || frequentSort;
+    }
+
+    /**
+     * Programa la construcción de un índice en segundo plano.
+     * El índice se registra antes de recorrer el catálogo para que las mutaciones
+     * concurrentes también se apliquen sobre él.
+     *
+     * @param field Campo a indexar
+     * @return true si se programó una nueva construcción
+     */
+    public boolean buildIndex(SearchField field) {
+        return buildIndex(field, false);
+    }
+
+    private boolean buildIndex(SearchField field, boolean pinned) {
+        SecondaryIndex index = new SecondaryIndex(field, pinned);
+        if (indexes.putIfAbsent(field, index) != null) {
+            return false;
+        }
+        log.info("Construyendo índice sobre {}", field.getPath());
+        buildExecutor.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                List<CreateProduct> snapshot = productRepository.findAll();
+                index.startBuild(snapshot.size());
+                for (CreateProduct product : snapshot) {
+                    index.putIfCurrent(product, id -> productRepository.findById(id).orElse(null));
+                    index.recordScanned();
+                }
+                index.markReady();
+                log.info("Índice sobre {} listo: {} entradas en {} ms", field.getPath(), index.getEntries(),
+                        (System.nanoTime() - start) / 1_000_000);
+            } catch (RuntimeException e) {
+                // Las búsquedas siguen recorriendo el catálogo; el próximo ciclo puede reintentar
+                index.markFailed();
+                indexes.remove(field, index);
+                log.error("Error al construir el índice sobre {}: {}", field.getPath(), e.getMessage());
+            }
+        });
+        return true;
+    }
+
+    // ---------------------------------------------------------------------
+    // Consulta de estado
+    // ---------------------------------------------------------------------
+
+    public List<IndexInfo> describeIndexes() {
+        return indexes.values().stream()
+                .sorted(Comparator.comparing(index -> index.getField().getPath()))
+                .map(index -> IndexInfo.builder()
+                        .field(index.getField().getPath())
+                        .state(index.getState().name())
+                        .pinned(index.isPinned())
+                        .distinctKeys(index.getDistinctKeys())
+                        .entries(index.getEntries())
+                        .estimatedBytes(index.getEstimatedBytes())
+                        .hits(index.getHits())
+                        .createdAt(index.getCreatedAt())
+                        .readyAt(index.getReadyAt())
+                        .lastHitAt(Instant.ofEpochMilli(index.getLastHitMillis()))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Indica si todos los índices precalentados están listos, junto con el estado de cada índice.
+     * Un balanceador puede usarlo para retener el tráfico de búsqueda hasta que los índices estén calientes.
+     *
+     * @return Estado de preparación de los índices
+     */
+    public IndexReadiness readiness() {
+        List<IndexReadiness.Entry> entries = new ArrayList<>();
+        boolean ready = true;
+        for (SearchField field : warmFields) {
+            SecondaryIndex index = indexes.get(field);
+            if (index == null || !index.isReady()) {
+                ready = false;
+            }
+            entries.add(readinessEntry(field, index));
+        }
+        indexes.forEach((field, index) -> {
+            if (!warmFields.contains(field)) {
+                entries.add(readinessEntry(field, index));
+            }
+        });
+        return IndexReadiness.builder().ready(ready).indexes(entries).build();
+    }
+
+    private static IndexReadiness.Entry readinessEntry(SearchField field, SecondaryIndex index) {
+        return IndexReadiness.Entry.builder()
+                .field(field.getPath())
+                // Un índice precalentado que aún no existe se está por construir
+                .state(index == null ? SecondaryIndex.State.BUILDING.name() : index.getState().name())
+                .progress(index == null ? 0.0 : index.getBuildProgress())
+                .pinned(index == null || index.isPinned())
+                .build();
+    }
+
+    public List<FieldUsageInfo> describeWorkload() {
+        return usage.values().stream()
+                .filter(fieldUsage -> fieldUsage.getTotalFilterUses() > 0 || fieldUsage.getTotalSortUses() > 0)
+                .map(fieldUsage -> FieldUsageInfo.builder()
+                        .field(fieldUsage.getField().getPath())
+                        .filterUses(fieldUsage.getTotalFilterUses())
+                        .sortUses(fieldUsage.getTotalSortUses())
+                        .averageSelectivity(fieldUsage.getLastAverageSelectivity())
+                        .indexed(indexes.containsKey(fieldUsage.getField()))
+                        .build())
+                .toList();
+    }
+
+    private static List<SearchField> parseFields(String fields) {
+        List<SearchField> parsed = new ArrayList<>();
+        for (String path : fields.split(",")) {
+            if (path.isBlank()) {
+                continue;
+            }
+            SearchField field = SearchField.fromPath(path.trim());
+            if (field == null) {
+                log.warn("Campo desconocido en products.index.warm-fields: {}", path.trim());
+            } else if (!parsed.contains(field)) {
+                parsed.add(field);
+            }
+        }
+        return List.copyOf(parsed);
+    }
+}
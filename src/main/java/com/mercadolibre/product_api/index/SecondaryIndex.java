@@ -0,0 +1,287 @@
+package com.mercadolibre.product_api.index;
+
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.search.FieldConstraint;
+import com.mercadolibre.product_api.search.SearchField;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Índice secundario ordenado sobre un campo de producto: valor normalizado → IDs.
+ * Las lecturas no bloquean; las escrituras se serializan con un bloqueo propio del índice.
+ */
+public class SecondaryIndex {
+
+    public enum State { BUILDING, READY, FAILED }
+
+    // Estimaciones de memoria por clave distinta y por entrada (nodos de skip list + mapa inverso)
+    private static final long BYTES_PER_KEY = 96;
+    private static final long BYTES_PER_ENTRY = 128;
+
+    private final SearchField field;
+    // Los índices fijados (precalentados al arrancar) no se descartan por falta de uso
+    private final boolean pinned;
+    private final ConcurrentSkipListMap<Comparable<Object>, NavigableSet<String>> postings = new ConcurrentSkipListMap<>();
+    private final Map<String, Comparable<Object>> keyById = new ConcurrentHashMap<>();
+    // Productos sin valor para el campo: no aparecen en los rangos pero sí al recorrer en orden
+    private final NavigableSet<String> missing = new ConcurrentSkipListSet<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong entries = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final Instant createdAt = Instant.now();
+    private volatile Instant readyAt;
+    private volatile long lastHitMillis = System.currentTimeMillis();
+    private volatile State state = State.BUILDING;
+    private volatile long buildTotal;
+    private final AtomicLong buildScanned = new AtomicLong();
+
+    public SecondaryIndex(SearchField field) {
+        this(field, false);
+    }
+
+    public SecondaryIndex(SearchField field, boolean pinned) {
+        this.field = field;
+        this.pinned = pinned;
+    }
+
+    /**
+     * Indexa (o reindexa) un producto.
+     *
+     * @param product Producto a indexar
+     */
+    public void put(CreateProduct product) {
+        lock.lock();
+        try {
+            removeUnlocked(product.getId());
+            addUnlocked(product);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Indexa un producto sólo si sigue siendo la versión vigente en el repositorio.
+     * Se usa durante la construcción para no pisar una versión más nueva que ya
+     * haya indexado el listener de mutaciones.
+     *
+     * @param product Producto leído durante el recorrido de construcción
+     * @param current Función que devuelve la versión vigente de un ID
+     */
+    public void putIfCurrent(CreateProduct product, Function<String, CreateProduct> current) {
+        lock.lock();
+        try {
+            if (current.apply(product.getId()) == product) {
+                removeUnlocked(product.getId());
+                addUnlocked(product);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.lock();
+        try {
+            removeUnlocked(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Devuelve los IDs que cumplen una restricción sobre el campo del índice.
+     *
+     * @param constraint Restricción sobre {@link #getField()}
+     * @return IDs candidatos
+     */
+    public List<String> lookup(FieldConstraint constraint) {
+        List<String> ids = new ArrayList<>();
+        for (NavigableSet<String> set : matchingPostings(constraint)) {
+            ids.addAll(set);
+        }
+        hits.increment();
+        lastHitMillis = System.currentTimeMillis();
+        return ids;
+    }
+
+    /**
+     * Cuenta cuántos IDs cumplirían una restricción sin materializarlos.
+     */
+    public long estimate(FieldConstraint constraint) {
+        long count = 0;
+        for (NavigableSet<String> set : matchingPostings(constraint)) {
+            count += set.size();
+        }
+        return count;
+    }
+
+    /**
+     * Recorre todos los IDs en el orden del campo; los productos sin valor van al final.
+     *
+     * @param ascending Orden ascendente o descendente
+     * @param consumer  Receptor de cada ID
+     */
+    public void forEachOrdered(boolean ascending, Consumer<String> consumer) {
+        hits.increment();
+        lastHitMillis = System.currentTimeMillis();
+        NavigableMap<Comparable<Object>, NavigableSet<String>> view = ascending ? postings : postings.descendingMap();
+        for (NavigableSet<String> set : view.values()) {
+            (ascending ? set : set.descendingSet()).forEach(consumer);
+        }
+        missing.forEach(consumer);
+    }
+
+    private Collection<NavigableSet<String>> matchingPostings(FieldConstraint constraint) {
+        if (constraint instanceof FieldConstraint.Range range) {
+            NavigableMap<Comparable<Object>, NavigableSet<String>> view = postings;
+            if (range.lower() != null) {
+                view = view.tailMap(toKey(range.lower()), range.lowerInclusive());
+            }
+            if (range.upper() != null) {
+                view = view.headMap(toKey(range.upper()), range.upperInclusive());
+            }
+            return view.values();
+        }
+        if (constraint instanceof FieldConstraint.Terms terms) {
+            List<NavigableSet<String>> sets = new ArrayList<>(terms.values().size());
+            for (Object value : terms.values()) {
+                NavigableSet<String> set = postings.get(toKey(value));
+                if (set != null) {
+                    sets.add(set);
+                }
+            }
+            return sets;
+        }
+        FieldConstraint.Prefix prefix = (FieldConstraint.Prefix) constraint;
+        return postings.subMap(toKey(prefix.prefix()), true, toKey(prefix.prefix() + Character.MAX_VALUE), true)
+                .values();
+    }
+
+    private void addUnlocked(CreateProduct product) {
+        Object value = field.extract(product);
+        if (value == null) {
+            missing.add(product.getId());
+        } else {
+            Comparable<Object> key = toKey(value);
+            postings.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>()).add(product.getId());
+            keyById.put(product.getId(), key);
+        }
+        entries.incrementAndGet();
+    }
+
+    private void removeUnlocked(String id) {
+        Comparable<Object> key = keyById.remove(id);
+        if (key != null) {
+            NavigableSet<String> set = postings.get(key);
+            if (set != null) {
+                set.remove(id);
+                if (set.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+            entries.decrementAndGet();
+        } else if (missing.remove(id)) {
+            entries.decrementAndGet();
+        }
+    }
+
+    /**
+     * Normaliza un valor al tipo de clave del índice: BigDecimal para números,
+     * minúsculas para texto y Boolean para booleanos.
+     */
+    @SuppressWarnings("unchecked")
+    private Comparable<Object> toKey(Object value) {
+        Object key = switch (field.getKind()) {
+            case NUMBER -> value instanceof BigDecimal decimal ? decimal
+                    : value instanceof Double || value instanceof Float
+                        ? BigDecimal.valueOf(((Number) value).doubleValue())
+                        : new BigDecimal(value.toString());
+            case STRING -> value.toString().toLowerCase(Locale.ROOT);
+            case BOOLEAN -> value instanceof Boolean bool ? bool : Boolean.valueOf(value.toString());
+        };
+        return (Comparable<Object>) key;
+    }
+
+    void startBuild(long total) {
+        buildTotal = total;
+        buildScanned.set(0);
+    }
+
+    void recordScanned() {
+        buildScanned.incrementAndGet();
+    }
+
+    void markReady() {
+        readyAt = Instant.now();
+        state = State.READY;
+    }
+
+    void markFailed() {
+        state = State.FAILED;
+    }
+
+    /**
+     * Fracción del catálogo recorrida por la construcción (1.0 cuando está listo).
+     */
+    public double getBuildProgress() {
+        if (state == State.READY) {
+            return 1.0;
+        }
+        long total = buildTotal;
+        return total == 0 ? 0.0 : Math.min(1.0, (double) buildScanned.get() / total);
+    }
+
+    public boolean isPinned() {
+        return pinned;
+    }
+
+    public boolean isReady() {
+        return state == State.READY;
+    }
+
+    public SearchField getField() {
+        return field;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int getDistinctKeys() {
+        return postings.size();
+    }
+
+    public long getEntries() {
+        return entries.get();
+    }
+
+    public long getEstimatedBytes() {
+        return postings.size() * BYTES_PER_KEY + entries.get() * BYTES_PER_ENTRY;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getLastHitMillis() {
+        return lastHitMillis;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getReadyAt() {
+        return readyAt;
+    }
+}
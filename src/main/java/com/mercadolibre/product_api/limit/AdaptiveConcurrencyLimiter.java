@@ -0,0 +1,143 @@
+package com.mercadolibre.product_api.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Límite de peticiones concurrentes que se ajusta según la latencia observada.
+ * <p>
+ * Se mantienen dos promedios de la latencia: uno corto, que sigue la carga actual, y una base
+ * que baja enseguida cuando el servicio responde más rápido pero sube muy despacio. La subida
+ * de la base depende del tiempo transcurrido ({@link #BASELINE_WINDOW_NANOS}) y no de la cantidad
+ * de muestras: con miles de peticiones por segundo un pico sostenido se volvería la nueva
+ * normalidad en una fracción de segundo. El gradiente {@code tolerancia × base / corto}
+ * (acotado entre 0,5 y 1) decide el nuevo límite, {@code límite × gradiente + √límite}: mientras
+ * la latencia se mantiene el límite crece de forma aditiva, y cuando sube por encima de la
+ * tolerancia baja de forma multiplicativa. El límite sólo crece si la concurrencia real llegó
+ * al menos a la mitad del límite, para no inflarlo cuando el tráfico es bajo.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_WEIGHT = 0.1;
+    private static final long BASELINE_WINDOW_NANOS = 30_000_000_000L;
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    // Protegidos por this
+    private double estimatedLimit;
+    private double shortLatency;
+    private double baselineLatency;
+    private long lastSampleNanos;
+
+    /**
+     * @param initialLimit Límite inicial
+     * @param minLimit     Límite mínimo
+     * @param maxLimit     Límite máximo
+     * @param tolerance    Cuántas veces la latencia base se tolera antes de bajar el límite
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        if (minLimit < 1 || maxLimit < minLimit || tolerance < 1) {
+            throw new IllegalArgumentException("Límites de concurrencia inválidos: min=" + minLimit
+                    + ", max=" + maxLimit + ", tolerancia=" + tolerance);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.estimatedLimit = clamp(initialLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Reserva un lugar si hay cupo.
+     *
+     * @return false si ya hay {@link #getLimit()} peticiones en curso; la petición debe rechazarse
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera el lugar reservado por {@link #tryAcquire()} y ajusta el límite con la latencia de la petición.
+     *
+     * @param latencyNanos Duración de la petición
+     */
+    public void release(long latencyNanos) {
+        int concurrency = inFlight.getAndDecrement();
+        onSample(Math.max(1, latencyNanos), concurrency, System.nanoTime());
+    }
+
+    private synchronized void onSample(long latencyNanos, int concurrency, long now) {
+        long elapsed = now - lastSampleNanos;
+        lastSampleNanos = now;
+        if (shortLatency == 0) {
+            shortLatency = latencyNanos;
+            baselineLatency = latencyNanos;
+            return;
+        }
+        shortLatency += (latencyNanos - shortLatency) * SHORT_WEIGHT;
+        baselineLatency = shortLatency < baselineLatency
+                ? shortLatency
+                : baselineLatency + (shortLatency - baselineLatency) * Math.min(1.0, (double) elapsed / BASELINE_WINDOW_NANOS);
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * baselineLatency / shortLatency));
+        if (gradient == 1.0 && concurrency * 2 < estimatedLimit) {
+            return;
+        }
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = clamp(estimatedLimit * (1 - SMOOTHING) + target * SMOOTHING);
+        limit = (int) estimatedLimit;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Latencia promedio reciente en nanosegundos (0 sin muestras).
+     */
+    public synchronized double getLatencyNanos() {
+        return shortLatency;
+    }
+
+    /**
+     * Latencia base en nanosegundos contra la que se compara la reciente (0 sin muestras).
+     */
+    public synchronized double getBaselineLatencyNanos() {
+        return baselineLatency;
+    }
+}
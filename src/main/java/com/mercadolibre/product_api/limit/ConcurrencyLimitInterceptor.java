@@ -0,0 +1,98 @@
+package com.mercadolibre.product_api.limit;
+
+import com.mercadolibre.product_api.dto.ConcurrencyLimitInfo;
+import com.mercadolibre.product_api.exception.ConcurrencyLimitExceededException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aplica un {@link AdaptiveConcurrencyLimiter} por {@link EndpointClass} delante de los
+ * controladores de productos. Si la clase de la petición no tiene cupo se rechaza enseguida con
+ * 503 y {@code Retry-After} (ver {@code GlobalExceptionHandler}), antes de tocar el servicio.
+ * <p>
+ * Las respuestas en streaming terminan en un despacho asíncrono: el lugar se reserva en el
+ * primer despacho y se libera recién cuando la respuesta termina de escribirse.
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".PERMIT";
+
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+    private final Map<EndpointClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(EndpointClass.class);
+
+    public ConcurrencyLimitInterceptor(@Value("${products.limits.enabled:true}") boolean enabled,
+                                       @Value("${products.limits.initial:20}") int initialLimit,
+                                       @Value("${products.limits.min:4}") int minLimit,
+                                       @Value("${products.limits.max:200}") int maxLimit,
+                                       @Value("${products.limits.latency-tolerance:2.0}") double tolerance,
+                                       @Value("${products.limits.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.enabled = enabled;
+        this.retryAfterSeconds = retryAfterSeconds;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            limiters.put(endpointClass, new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, tolerance));
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || request.getDispatcherType() == DispatcherType.ASYNC
+                || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        EndpointClass endpointClass = EndpointClass.of(request.getMethod(),
+                pattern != null ? pattern.toString() : request.getRequestURI(),
+                request.getParameter("ids") != null);
+        AdaptiveConcurrencyLimiter limiter = limiters.get(endpointClass);
+        if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException("Límite de concurrencia alcanzado para " + endpointClass
+                    + " (" + limiter.getLimit() + " peticiones en curso)", retryAfterSeconds);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.limiter().release(System.nanoTime() - permit.startNanos());
+        }
+    }
+
+    /**
+     * Estado actual del límite de cada clase de endpoints.
+     */
+    public List<ConcurrencyLimitInfo> describe() {
+        List<ConcurrencyLimitInfo> infos = new ArrayList<>(limiters.size());
+        limiters.forEach((endpointClass, limiter) -> infos.add(ConcurrencyLimitInfo.builder()
+                .endpointClass(endpointClass.name())
+                .limit(limiter.getLimit())
+                .inFlight(limiter.getInFlight())
+                .accepted(limiter.getAccepted())
+                .rejected(limiter.getRejected())
+                .latencyMillis(limiter.getLatencyNanos() / 1_000_000)
+                .baselineLatencyMillis(limiter.getBaselineLatencyNanos() / 1_000_000)
+                .build()));
+        return infos;
+    }
+
+    public AdaptiveConcurrencyLimiter limiter(EndpointClass endpointClass) {
+        return limiters.get(endpointClass);
+    }
+
+    private record Permit(AdaptiveConcurrencyLimiter limiter, long startNanos) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.mercadolibre.product_api.limit;
+
+/**
+ * Clases de endpoints con límites de concurrencia independientes: una búsqueda cara no debe
+ * consumir el cupo de las lecturas por ID ni de las escrituras.
+ */
+public enum EndpointClass {
+
+    /** Lecturas por ID (también del stock) y multi-get. */
+    POINT_READ,
+
+    /** Listados, búsquedas y exportación. */
+    SEARCH,
+
+    /** Altas, actualizaciones, bajas, cargas masivas e importación. */
+    WRITE;
+
+    /**
+     * Clasifica una petición según su método HTTP y el patrón de ruta que la atiende.
+     *
+     * @param method     Método HTTP
+     * @param pattern    Patrón de la ruta (ej. {@code /api/products/{id}})
+     * @param hasIdParam Si la petición trae el parámetro {@code ids}
+     */
+    public static EndpointClass of(String method, String pattern, boolean hasIdParam) {
+        boolean get = "GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method);
+        if (pattern.endsWith("/batch-get") || (get && (hasIdParam || pattern.endsWith("/{id}") || pattern.endsWith("/{id}/stock")))) {
+            return POINT_READ;
+        }
+        if (get || pattern.endsWith("/search")) {
+            return SEARCH;
+        }
+        return WRITE;
+    }
+}
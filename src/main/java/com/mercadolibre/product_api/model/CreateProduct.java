@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,7 +20,7 @@ import java.util.List;
 import java.util.Map;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -51,12 +52,14 @@ public class CreateProduct {
     private Seller seller;
 
     @Schema(description = "Cantidad de unidades disponibles", example = "100")
+    @PositiveOrZero(message = "El stock disponible no puede ser negativo")
     private Integer availableStock;
 
     @Schema(description = "Métodos de pago aceptados")
     private List<String> paymentMethods = new ArrayList<>();
 
     @Schema(description = "Información de calificaciones y reseñas del producto")
+    @RatingValidator
     private ProductRating rating;
 
     @Schema(description = "Categoría del producto")
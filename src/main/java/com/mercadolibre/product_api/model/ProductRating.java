@@ -25,6 +25,9 @@ public class ProductRating {
     @Schema(description = "Número total de calificaciones recibidas", example = "100")
     private Integer totalRatings;
 
-    @Schema(description = "Lista de reseñas del producto")
+    @Schema(description = "Cantidad de reseñas por calificación, de 1 a 5 estrellas", example = "[2, 0, 5, 20, 73]")
+    private List<Integer> ratingHistogram;
+
+    @Schema(description = "Reseñas más recientes del producto; todas se obtienen en GET /api/products/{id}/reviews")
     private List<Review> reviews = new ArrayList<>();
 } 
\ No newline at end of file
@@ -22,6 +22,9 @@ public class Seller {
     @NotBlank(message = "El nombre del vendedor es obligatorio")
     private String name;
 
+    @Schema(description = "Nombre de la tienda del vendedor", example = "Tienda Electrónica")
+    private String storeName;
+
     @Schema(description = "Indica si es una tienda oficial", example = "true")
     @NotNull(message = "Debe especificar si es tienda oficial")
     private Boolean isOfficialStore;
@@ -0,0 +1,80 @@
+package com.mercadolibre.product_api.percolator;
+
+import com.mercadolibre.product_api.dto.ProductSearchParams;
+import com.mercadolibre.product_api.model.CreateProduct;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Búsqueda guardada: sus filtros, el predicado que los evalúa y la clave del índice
+ * inverso por la que se la preselecciona al percolar un producto.
+ */
+public class StandingQuery {
+
+    /**
+     * Tipo de clave por la que la búsqueda se registra en el índice inverso.
+     */
+    public enum AnchorType { TEXT, STORE, MIN_PRICE, MAX_PRICE, MIN_RATING, OFFICIAL_STORE, ALL }
+
+    /**
+     * Clave del índice inverso: un trigrama del texto, un límite numérico o un valor booleano.
+     */
+    public record Anchor(AnchorType type, Object key) {
+
+        @Override
+        public String toString() {
+            return key == null ? type.name().toLowerCase() : type.name().toLowerCase() + ":" + key;
+        }
+    }
+
+    private final String id;
+    private final String subscriber;
+    private final ProductSearchParams params;
+    private final Predicate<CreateProduct> predicate;
+    private final Anchor anchor;
+    private final Instant createdAt = Instant.now();
+    private final LongAdder matches = new LongAdder();
+
+    StandingQuery(String id, String subscriber, ProductSearchParams params,
+                  Predicate<CreateProduct> predicate, Anchor anchor) {
+        this.id = id;
+        this.subscriber = subscriber;
+        this.params = params;
+        this.predicate = predicate;
+        this.anchor = anchor;
+    }
+
+    boolean matches(CreateProduct product) {
+        return product != null && predicate.test(product);
+    }
+
+    void recordMatch() {
+        matches.increment();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getSubscriber() {
+        return subscriber;
+    }
+
+    public ProductSearchParams getParams() {
+        return params;
+    }
+
+    public Anchor getAnchor() {
+        return anchor;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getMatches() {
+        return matches.sum();
+    }
+}
@@ -0,0 +1,14 @@
+package com.mercadolibre.product_api.percolator;
+
+import java.time.Instant;
+
+/**
+ * Evento publicado cuando un producto creado o actualizado pasa a cumplir una búsqueda guardada.
+ *
+ * @param queryId    ID de la búsqueda guardada
+ * @param subscriber Suscriptor de la búsqueda
+ * @param productId  ID del producto que la cumple
+ * @param matchedAt  Momento de la coincidencia
+ */
+public record StandingQueryMatchEvent(String queryId, String subscriber, String productId, Instant matchedAt) {
+}
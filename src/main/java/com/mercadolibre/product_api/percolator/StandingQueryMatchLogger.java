@@ -0,0 +1,19 @@
+package com.mercadolibre.product_api.percolator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumidor local de coincidencias: las deja en el log hasta que haya un canal de notificación.
+ */
+@Slf4j
+@Component
+public class StandingQueryMatchLogger {
+
+    @EventListener
+    public void onMatch(StandingQueryMatchEvent event) {
+        log.info("Búsqueda guardada {} de {} cumplida por el producto {}",
+                event.queryId(), event.subscriber(), event.productId());
+    }
+}
@@ -0,0 +1,291 @@
+package com.mercadolibre.product_api.percolator;
+
+import com.mercadolibre.product_api.dto.ProductSearchParams;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.repository.ProductChangeListener;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Registro de búsquedas guardadas con un índice inverso sobre ellas (percolador).
+ * <p>
+ * Cada búsqueda se ancla por una sola de sus condiciones, la más selectiva disponible: un
+ * trigrama del texto buscado, un trigrama del nombre de tienda, un límite de precio, la
+ * calificación mínima o el filtro de tienda oficial; las que no filtran nada quedan en un
+ * grupo aparte. Al guardar un producto sólo se evalúan las búsquedas cuyo ancla aparece en él,
+ * sin recorrer el registro completo, y se publica un {@link StandingQueryMatchEvent} por cada
+ * búsqueda que el producto pasa a cumplir (no la cumplía su versión anterior).
+ * <p>
+ * La percolación corre en un hilo propio para no alargar el bloqueo de escritura del repositorio;
+ * al ser uno solo, los eventos se publican en el mismo orden que las mutaciones.
+ */
+@Slf4j
+@Component
+public class StandingQueryRegistry implements ProductChangeListener {
+
+    private static final int TRIGRAM = 3;
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, StandingQuery> queries = new ConcurrentHashMap<>();
+    // Índice inverso: clave del ancla → IDs de búsquedas
+    private final Map<String, Set<String>> byTextTrigram = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byStoreTrigram = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<BigDecimal, Set<String>> byMinPrice = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<BigDecimal, Set<String>> byMaxPrice = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<Double, Set<String>> byMinRating = new ConcurrentSkipListMap<>();
+    private final Map<Boolean, Set<String>> byOfficialStore = new ConcurrentHashMap<>();
+    private final Set<String> unanchored = ConcurrentHashMap.newKeySet();
+    // Serializa altas y bajas; la percolación lee las estructuras concurrentes sin bloquear
+    private final ReentrantLock registrationLock = new ReentrantLock();
+    private final ExecutorService percolateExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "percolator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public StandingQueryRegistry(ProductRepository productRepository, ApplicationEventPublisher eventPublisher) {
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    public void init() {
+        productRepository.addChangeListener(this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        percolateExecutor.shutdownNow();
+    }
+
+    // ---------------------------------------------------------------------
+    // Altas y bajas
+    // ---------------------------------------------------------------------
+
+    /**
+     * Registra una búsqueda guardada y la ancla en el índice inverso.
+     *
+     * @param subscriber Suscriptor que recibirá las coincidencias
+     * @param params     Filtros de la búsqueda
+     * @param predicate  Predicado equivalente a los filtros
+     * @return Búsqueda registrada
+     */
+    public StandingQuery register(String subscriber, ProductSearchParams params, Predicate<CreateProduct> predicate) {
+        registrationLock.lock();
+        try {
+            StandingQuery query = new StandingQuery(UUID.randomUUID().toString(), subscriber, params,
+                    predicate, chooseAnchor(params));
+            queries.put(query.getId(), query);
+            anchorMap(query.getAnchor()).ifPresentOrElse(
+                    map -> map.computeIfAbsent(query.getAnchor().key(), k -> ConcurrentHashMap.newKeySet())
+                            .add(query.getId()),
+                    () -> unanchored.add(query.getId()));
+            return query;
+        } finally {
+            registrationLock.unlock();
+        }
+    }
+
+    /**
+     * Elimina una búsqueda guardada.
+     *
+     * @param id ID de la búsqueda
+     * @return true si existía
+     */
+    public boolean remove(String id) {
+        registrationLock.lock();
+        try {
+            StandingQuery query = queries.remove(id);
+            if (query == null) {
+                return false;
+            }
+            anchorMap(query.getAnchor()).ifPresentOrElse(
+                    map -> map.computeIfPresent(query.getAnchor().key(), (key, ids) -> {
+                        ids.remove(id);
+                        return ids.isEmpty() ? null : ids;
+                    }),
+                    () -> unanchored.remove(id));
+            return true;
+        } finally {
+            registrationLock.unlock();
+        }
+    }
+
+    public Optional<StandingQuery> findById(String id) {
+        return Optional.ofNullable(queries.get(id));
+    }
+
+    public List<StandingQuery> findAll() {
+        List<StandingQuery> result = new ArrayList<>(queries.values());
+        result.sort(Comparator.comparing(StandingQuery::getCreatedAt));
+        return result;
+    }
+
+    /**
+     * Elige el ancla más selectiva de la búsqueda. Para el texto y la tienda se usa el
+     * trigrama con menos búsquedas ya ancladas, así los grupos del índice quedan parejos.
+     */
+    private StandingQuery.Anchor chooseAnchor(ProductSearchParams params) {
+        if (hasTrigram(params.getQuery())) {
+            return new StandingQuery.Anchor(StandingQuery.AnchorType.TEXT,
+                    leastUsedTrigram(params.getQuery(), byTextTrigram));
+        }
+        if (hasTrigram(params.getStoreName())) {
+            return new StandingQuery.Anchor(StandingQuery.AnchorType.STORE,
+                    leastUsedTrigram(params.getStoreName(), byStoreTrigram));
+        }
+        if (params.getMinPrice() != null) {
+            return new StandingQuery.Anchor(StandingQuery.AnchorType.MIN_PRICE, params.getMinPrice());
+        }
+        if (params.getMaxPrice() != null) {
+            return new StandingQuery.Anchor(StandingQuery.AnchorType.MAX_PRICE, params.getMaxPrice());
+        }
+        if (params.getMinRating() != null) {
+            return new StandingQuery.Anchor(StandingQuery.AnchorType.MIN_RATING, params.getMinRating());
+        }
+        if (params.getIsOfficialStore() != null) {
+            return new StandingQuery.Anchor(StandingQuery.AnchorType.OFFICIAL_STORE, params.getIsOfficialStore());
+        }
+        return new StandingQuery.Anchor(StandingQuery.AnchorType.ALL, null);
+    }
+
+    private String leastUsedTrigram(String text, Map<String, Set<String>> index) {
+        String best = null;
+        int bestSize = Integer.MAX_VALUE;
+        for (String trigram : trigrams(text)) {
+            Set<String> ids = index.get(trigram);
+            int size = ids == null ? 0 : ids.size();
+            if (size < bestSize) {
+                best = trigram;
+                bestSize = size;
+            }
+        }
+        return best;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Optional<Map<Object, Set<String>>> anchorMap(StandingQuery.Anchor anchor) {
+        Map map = switch (anchor.type()) {
+            case TEXT -> byTextTrigram;
+            case STORE -> byStoreTrigram;
+            case MIN_PRICE -> byMinPrice;
+            case MAX_PRICE -> byMaxPrice;
+            case MIN_RATING -> byMinRating;
+            case OFFICIAL_STORE -> byOfficialStore;
+            case ALL -> null;
+        };
+        return Optional.ofNullable((Map<Object, Set<String>>) map);
+    }
+
+    // ---------------------------------------------------------------------
+    // Percolación a partir de las mutaciones del repositorio
+    // ---------------------------------------------------------------------
+
+    @Override
+    public void onSave(CreateProduct previous, CreateProduct current) {
+        if (!queries.isEmpty()) {
+            percolateExecutor.execute(() -> percolate(previous, current));
+        }
+    }
+
+    @Override
+    public void onDelete(CreateProduct removed) {
+        // Un producto eliminado no puede empezar a cumplir ninguna búsqueda
+    }
+
+    /**
+     * Evalúa las búsquedas candidatas contra la nueva versión del producto y publica las
+     * que pasa a cumplir.
+     */
+    private void percolate(CreateProduct previous, CreateProduct current) {
+        for (String queryId : candidates(current)) {
+            StandingQuery query = queries.get(queryId);
+            if (query == null) {
+                continue;
+            }
+            try {
+                if (query.matches(current) && !query.matches(previous)) {
+                    query.recordMatch();
+                    eventPublisher.publishEvent(new StandingQueryMatchEvent(
+                            query.getId(), query.getSubscriber(), current.getId(), Instant.now()));
+                }
+            } catch (RuntimeException e) {
+                log.warn("No se pudo evaluar la búsqueda guardada {} sobre el producto {}", queryId, current.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * Reúne las búsquedas cuyo ancla aparece en el producto.
+     */
+    Set<String> candidates(CreateProduct product) {
+        Set<String> ids = new HashSet<>(unanchored);
+        if (!byTextTrigram.isEmpty()) {
+            collect(byTextTrigram, trigrams(product.getTitle()), ids);
+            collect(byTextTrigram, trigrams(product.getDescription()), ids);
+        }
+        if (!byStoreTrigram.isEmpty() && product.getSeller() != null) {
+            collect(byStoreTrigram, trigrams(product.getSeller().getStoreName()), ids);
+        }
+        if (product.getPrice() != null) {
+            byMinPrice.headMap(product.getPrice(), true).values().forEach(ids::addAll);
+            byMaxPrice.tailMap(product.getPrice(), true).values().forEach(ids::addAll);
+        }
+        // Sin promedio no hay ancla de rating que coincida (headMap no acepta null)
+        Double averageRating = product.getRating() == null ? null : product.getRating().getAverageRating();
+        if (averageRating != null) {
+            byMinRating.headMap(averageRating, true).values().forEach(ids::addAll);
+        }
+        if (product.getSeller() != null && product.getSeller().getIsOfficialStore() != null) {
+            Set<String> official = byOfficialStore.get(product.getSeller().getIsOfficialStore());
+            if (official != null) {
+                ids.addAll(official);
+            }
+        }
+        return ids;
+    }
+
+    private static void collect(Map<String, Set<String>> index, Set<String> trigrams, Set<String> ids) {
+        for (String trigram : trigrams) {
+            Set<String> anchored = index.get(trigram);
+            if (anchored != null) {
+                ids.addAll(anchored);
+            }
+        }
+    }
+
+    private static boolean hasTrigram(String text) {
+        return text != null && text.length() >= TRIGRAM;
+    }
+
+    /**
+     * Trigramas del texto en minúsculas, igual que la comparación de los filtros.
+     */
+    private static Set<String> trigrams(String text) {
+        if (!hasTrigram(text)) {
+            return Set.of();
+        }
+        String normalized = text.toLowerCase();
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM <= normalized.length(); i++) {
+            trigrams.add(normalized.substring(i, i + TRIGRAM));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,202 @@
+package com.mercadolibre.product_api.popularity;
+
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.repository.ProductChangeListener;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Popularidad de los productos a partir de sus vistas y compras.
+ * <p>
+ * Cada vista ({@code GET /api/products/{id}}) y cada unidad reservada suma en un {@link LongAdder}
+ * del producto: los incrementos concurrentes sobre un producto muy visto se reparten entre
+ * celdas y no compiten por una misma variable. Cada {@code products.popularity.recalculate-interval-ms}
+ * una tarea en segundo plano vuelca los contadores en un puntaje que decae con una vida media de
+ * {@code products.popularity.half-life-ms} (las compras pesan {@code products.popularity.purchase-weight}
+ * vistas) y arma el ranking completo del catálogo. Las búsquedas con {@code sort=popularity}
+ * recorren ese ranking ya ordenado en lugar de ordenar en cada petición.
+ */
+@Slf4j
+@Component
+public class PopularityTracker implements ProductChangeListener {
+
+    public static final String SORT_PROPERTY = "popularity";
+
+    private static final double MIN_SCORE = 1e-3;
+
+    private final ProductRepository productRepository;
+    private final long intervalMillis;
+    private final long halfLifeMillis;
+    private final double purchaseWeight;
+    private final Map<String, LongAdder> views = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> purchases = new ConcurrentHashMap<>();
+    // Productos creados que todavía no están en el ranking publicado
+    private final Set<String> created = ConcurrentHashMap.newKeySet();
+    private volatile Ranking ranking = new Ranking(Map.of(), List.of(), Set.of(), System.currentTimeMillis());
+
+    public PopularityTracker(ProductRepository productRepository,
+                             @Value("${products.popularity.recalculate-interval-ms:60000}") long intervalMillis,
+                             @Value("${products.popularity.half-life-ms:3600000}") long halfLifeMillis,
+                             @Value("${products.popularity.purchase-weight:5}") double purchaseWeight) {
+        this.productRepository = productRepository;
+        this.intervalMillis = intervalMillis;
+        this.halfLifeMillis = halfLifeMillis;
+        this.purchaseWeight = purchaseWeight;
+    }
+
+    @PostConstruct
+    public void init() {
+        productRepository.addChangeListener(this);
+        recalculate();
+    }
+
+    /**
+     * Registra una vista del producto.
+     */
+    public void recordView(String id) {
+        counter(views, id).increment();
+    }
+
+    /**
+     * Registra unidades compradas (reservadas) del producto.
+     */
+    public void recordPurchase(String id, int quantity) {
+        counter(purchases, id).add(quantity);
+    }
+
+    private static LongAdder counter(Map<String, LongAdder> counters, String id) {
+        LongAdder counter = counters.get(id);
+        return counter != null ? counter : counters.computeIfAbsent(id, key -> new LongAdder());
+    }
+
+    /**
+     * Puntaje de popularidad del último recálculo; 0 si el producto no tuvo actividad.
+     */
+    public double scoreOf(String id) {
+        return ranking.scores().getOrDefault(id, 0.0);
+    }
+
+    /**
+     * Recorre los IDs de productos por popularidad: el ranking del último recálculo y al final
+     * (al principio si es ascendente) los productos creados después.
+     *
+     * @param ascending Si se recorre de menos a más popular
+     * @param consumer  Receptor de cada ID; puede recibir IDs de productos ya eliminados
+     */
+    public void forEachOrdered(boolean ascending, Consumer<String> consumer) {
+        Ranking current = ranking;
+        List<String> order = current.order();
+        List<String> newer = new ArrayList<>();
+        for (String id : created) {
+            if (!current.members().contains(id)) {
+                newer.add(id);
+            }
+        }
+        newer.sort(Comparator.naturalOrder());
+        if (ascending) {
+            newer.forEach(consumer);
+            for (int i = order.size() - 1; i >= 0; i--) {
+                consumer.accept(order.get(i));
+            }
+        } else {
+            order.forEach(consumer);
+            newer.forEach(consumer);
+        }
+    }
+
+    /**
+     * Vuelca los contadores en los puntajes con decaimiento exponencial y publica el nuevo ranking.
+     */
+    @Scheduled(initialDelayString = "${products.popularity.recalculate-interval-ms:60000}",
+            fixedDelayString = "${products.popularity.recalculate-interval-ms:60000}")
+    public synchronized void recalculate() {
+        long now = System.currentTimeMillis();
+        Ranking previous = ranking;
+        double decay = halfLifeMillis <= 0 ? 0 : Math.pow(0.5, (double) (now - previous.calculatedAt()) / halfLifeMillis);
+
+        Map<String, Double> scores = new HashMap<>();
+        for (Map.Entry<String, Double> entry : previous.scores().entrySet()) {
+            scores.put(entry.getKey(), entry.getValue() * decay);
+        }
+        drain(views, 1.0, scores);
+        drain(purchases, purchaseWeight, scores);
+        forgetDeleted(views);
+        forgetDeleted(purchases);
+        // Se descartan los puntajes despreciables y los de productos eliminados
+        scores.entrySet().removeIf(entry -> entry.getValue() < MIN_SCORE || !productRepository.existsById(entry.getKey()));
+
+        List<String> order = new ArrayList<>(scores.keySet());
+        order.sort(Comparator.<String>comparingDouble(scores::get).reversed().thenComparing(Comparator.naturalOrder()));
+        // Sin actividad, a continuación y por ID, así el orden entre páginas es estable
+        List<String> unscored = new ArrayList<>();
+        productRepository.forEach(product -> {
+            if (!scores.containsKey(product.getId())) {
+                unscored.add(product.getId());
+            }
+        });
+        unscored.sort(Comparator.naturalOrder());
+        order.addAll(unscored);
+
+        Set<String> members = Set.copyOf(order);
+        ranking = new Ranking(Map.copyOf(scores), List.copyOf(order), members, now);
+        // Los creados durante el recálculo no quedaron en el ranking y siguen como nuevos
+        created.removeAll(members);
+        log.debug("Popularidad recalculada: {} productos con puntaje", scores.size());
+    }
+
+    private static void drain(Map<String, LongAdder> counters, double weight, Map<String, Double> scores) {
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                scores.merge(entry.getKey(), count * weight, Double::sum);
+            }
+        }
+    }
+
+    /**
+     * Quita los contadores de productos ya eliminados. Los demás se conservan aunque estén en 0:
+     * quitarlos podría perder una vista que llegue entre la lectura y la eliminación.
+     */
+    private void forgetDeleted(Map<String, LongAdder> counters) {
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            if (!productRepository.existsById(entry.getKey())) {
+                counters.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public void onSave(CreateProduct previous, CreateProduct current) {
+        // Los productos nuevos se recorren detrás del ranking hasta el próximo recálculo
+        if (previous == null) {
+            created.add(current.getId());
+        }
+    }
+
+    @Override
+    public void onDelete(CreateProduct removed) {
+        created.remove(removed.getId());
+        views.remove(removed.getId());
+        purchases.remove(removed.getId());
+    }
+
+    /**
+     * Resultado de un recálculo: puntajes y orden descendente de todo el catálogo en ese momento.
+     */
+    private record Ranking(Map<String, Double> scores, List<String> order, Set<String> members, long calculatedAt) {
+    }
+}
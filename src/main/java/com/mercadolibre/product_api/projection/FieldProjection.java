@@ -0,0 +1,113 @@
+package com.mercadolibre.product_api.projection;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Árbol de propiedades pedidas en el parámetro {@code fields}, por ejemplo
+ * {@code id,title,price,seller.name,rating.averageRating}. Un nodo sin hijos incluye
+ * todo el sub-objeto ({@code seller} incluye todos los campos del vendedor).
+ */
+public final class FieldProjection {
+
+    // Nodo que incluye todo lo que está debajo
+    static final FieldProjection ALL = new FieldProjection(null);
+
+    private final Map<String, FieldProjection> children;
+
+    private FieldProjection(Map<String, FieldProjection> children) {
+        this.children = children;
+    }
+
+    /**
+     * Compila una lista de rutas separadas por coma.
+     *
+     * @param fields Rutas de propiedades, con punto para las anidadas
+     * @return Proyección compilada
+     */
+    public static FieldProjection parse(String fields) {
+        Map<String, Object> tree = new TreeMap<>();
+        for (String raw : fields.split(",")) {
+            String path = raw.trim();
+            if (path.isEmpty()) {
+                continue;
+            }
+            add(tree, path.split("\\."), 0);
+        }
+        return build(tree);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void add(Map<String, Object> tree, String[] segments, int position) {
+        String name = segments[position].trim();
+        if (name.isEmpty()) {
+            return;
+        }
+        if (position == segments.length - 1) {
+            // La ruta completa del sub-objeto gana sobre rutas más específicas
+            tree.put(name, ALL);
+            return;
+        }
+        Object child = tree.get(name);
+        if (child == ALL) {
+            return;
+        }
+        if (child == null) {
+            child = new TreeMap<String, Object>();
+            tree.put(name, child);
+        }
+        add((Map<String, Object>) child, segments, position + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FieldProjection build(Map<String, Object> tree) {
+        Map<String, FieldProjection> children = new TreeMap<>();
+        tree.forEach((name, child) -> children.put(name,
+                child == ALL ? ALL : build((Map<String, Object>) child)));
+        return new FieldProjection(Collections.unmodifiableMap(children));
+    }
+
+    /**
+     * Indica si la propiedad se incluye en este nivel.
+     */
+    public boolean includes(String name) {
+        return children == null || children.containsKey(name);
+    }
+
+    /**
+     * Proyección del sub-objeto de una propiedad, o null si la propiedad no se incluye.
+     */
+    public FieldProjection child(String name) {
+        return children == null ? ALL : children.get(name);
+    }
+
+    public boolean isAll() {
+        return children == null;
+    }
+
+    /**
+     * Forma canónica de la proyección: rutas ordenadas y sin duplicados.
+     */
+    public String canonical() {
+        if (children == null) {
+            return "*";
+        }
+        StringBuilder builder = new StringBuilder();
+        children.forEach((name, child) -> {
+            if (!builder.isEmpty()) {
+                builder.append(',');
+            }
+            builder.append(name);
+            if (!child.isAll()) {
+                builder.append('(').append(child.canonical()).append(')');
+            }
+        });
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return canonical();
+    }
+}
@@ -0,0 +1,48 @@
+package com.mercadolibre.product_api.projection;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compila el parámetro {@code fields} a un proveedor de filtros de Jackson.
+ * Los filtros compilados se guardan en una caché LRU por texto del parámetro, así las
+ * proyecciones repetidas (las de cada pantalla) no se vuelven a parsear.
+ */
+@Component
+public class FieldProjectionCompiler {
+
+    private final Map<String, FilterProvider> cache;
+
+    public FieldProjectionCompiler(@Value("${products.projection.cache-size:128}") int cacheSize) {
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, FilterProvider> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Devuelve los filtros para una lista de campos.
+     *
+     * @param fields Valor del parámetro fields
+     * @return Proveedor de filtros, o null si el parámetro está vacío
+     */
+    public FilterProvider compile(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        return cache.computeIfAbsent(fields, key -> new SimpleFilterProvider()
+                .addFilter(FieldProjectionFilter.ID, new FieldProjectionFilter(FieldProjection.parse(key))));
+    }
+
+    int cachedProjections() {
+        return cache.size();
+    }
+}
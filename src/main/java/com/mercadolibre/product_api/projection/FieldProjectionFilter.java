@@ -0,0 +1,74 @@
+package com.mercadolibre.product_api.projection;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.mercadolibre.product_api.model.CreateProduct;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Filtro de Jackson que aplica una {@link FieldProjection} a los productos y a sus objetos anidados.
+ * La ruta de cada propiedad se obtiene del contexto de escritura del generador, desde el producto
+ * más cercano, así que el mismo filtro sirve para un producto suelto, una página o una lista.
+ */
+public class FieldProjectionFilter extends SimpleBeanPropertyFilter {
+
+    /**
+     * ID del filtro declarado con {@code @JsonFilter} sobre los modelos.
+     */
+    public static final String ID = "fieldProjection";
+
+    private final FieldProjection projection;
+
+    public FieldProjectionFilter(FieldProjection projection) {
+        this.projection = projection;
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator generator, SerializerProvider provider,
+                                 PropertyWriter writer) throws Exception {
+        FieldProjection node = projectionFor(generator.getOutputContext());
+        if (node == null || node.includes(writer.getName())) {
+            writer.serializeAsField(pojo, generator, provider);
+        } else if (!generator.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, generator, provider);
+        }
+    }
+
+    /**
+     * Ubica el nodo de la proyección que corresponde al objeto que se está escribiendo.
+     * También lo usan los serializadores propios de los modelos, que no pasan por el filtro.
+     *
+     * @return Nodo del objeto actual, o null si no está dentro de un producto
+     */
+    public FieldProjection projectionFor(JsonStreamContext context) {
+        Deque<String> path = new ArrayDeque<>(4);
+        JsonStreamContext current = context;
+        while (!(current.getCurrentValue() instanceof CreateProduct)) {
+            JsonStreamContext parent = current.getParent();
+            if (parent == null) {
+                return null;
+            }
+            if (parent.inObject()) {
+                path.push(parent.getCurrentName());
+            }
+            current = parent;
+        }
+        FieldProjection node = projection;
+        for (String name : path) {
+            if (node.isAll()) {
+                return node;
+            }
+            node = node.child(name);
+            if (node == null) {
+                // Sólo ocurre si el objeto padre se escribió sin filtrar; no recortamos más
+                return null;
+            }
+        }
+        return node;
+    }
+}
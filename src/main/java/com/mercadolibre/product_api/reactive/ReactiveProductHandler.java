@@ -0,0 +1,210 @@
+package com.mercadolibre.product_api.reactive;
+
+import com.mercadolibre.product_api.dto.CreateProductRequest;
+import com.mercadolibre.product_api.dto.MultiGetRequest;
+import com.mercadolibre.product_api.dto.ProductSearchParams;
+import com.mercadolibre.product_api.exception.GlobalExceptionHandler.ErrorResponse;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.service.ProductService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Variante reactiva de los endpoints de {@code ProductController} (obtener, multi-get, listar,
+ * buscar, exportar y crear), pensada para correr sobre pocos hilos de event loop.
+ * <p>
+ * Las lecturas resuelven contra el catálogo en memoria sin bloquear. La búsqueda y la
+ * exportación se emiten como un {@link Flux} en NDJSON: cada producto se escribe en cuanto se
+ * encuentra y la demanda del cliente regula el recorrido. El repositorio persiste cada
+ * escritura en el archivo de datos de forma sincrónica, así que las altas se ejecutan en
+ * {@code writeScheduler} y el event loop nunca espera al disco.
+ */
+public class ReactiveProductHandler {
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
+    private final ProductService productService;
+    private final Validator validator;
+    private final Scheduler writeScheduler;
+
+    public ReactiveProductHandler(ProductService productService, Validator validator, Scheduler writeScheduler) {
+        this.productService = productService;
+        this.validator = validator;
+        this.writeScheduler = writeScheduler;
+    }
+
+    /**
+     * GET /api/products/{id}
+     */
+    public Mono<ServerResponse> getProductById(ServerRequest request) {
+        return Mono.fromCallable(() -> productService.getProductById(request.pathVariable("id")))
+                .flatMap(product -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(product));
+    }
+
+    /**
+     * GET /api/products?ids=a,b,c
+     */
+    public Mono<ServerResponse> getProductsByIds(ServerRequest request) {
+        List<String> ids = Arrays.stream(request.queryParam("ids").orElse("").split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .toList();
+        return multiGet(ids);
+    }
+
+    /**
+     * POST /api/products/batch-get
+     */
+    public Mono<ServerResponse> batchGetProducts(ServerRequest request) {
+        return request.bodyToMono(MultiGetRequest.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Falta el cuerpo de la petición")))
+                .flatMap(body -> {
+                    Map<String, String> errors = validate(body);
+                    return errors.isEmpty() ? multiGet(body.getIds()) : validationError(errors);
+                });
+    }
+
+    private Mono<ServerResponse> multiGet(List<String> ids) {
+        if (ids.size() > MultiGetRequest.MAX_IDS) {
+            return Mono.error(new ServerWebInputException(
+                    "No se pueden pedir más de " + MultiGetRequest.MAX_IDS + " productos por petición"));
+        }
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(productService.getProductsByIds(ids));
+    }
+
+    /**
+     * GET /api/products?page=&size=&sort=
+     */
+    public Mono<ServerResponse> getAllProducts(ServerRequest request) {
+        return Mono.fromCallable(() -> productService.searchProducts(ProductSearchParams.builder().build(), pageable(request)))
+                .flatMap(page -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(page));
+    }
+
+    /**
+     * GET /api/products/search: los resultados se emiten en NDJSON a medida que se encuentran.
+     * Con {@code limit} se deja de recorrer el catálogo al llegar a esa cantidad.
+     */
+    public Mono<ServerResponse> searchProducts(ServerRequest request) {
+        return Mono.defer(() -> streamSearch(request));
+    }
+
+    private Mono<ServerResponse> streamSearch(ServerRequest request) {
+        ProductSearchParams params = ProductSearchParams.builder()
+                .query(request.queryParam("query").orElse(null))
+                .minPrice(param(request, "minPrice", BigDecimal::new))
+                .maxPrice(param(request, "maxPrice", BigDecimal::new))
+                .isOfficialStore(param(request, "isOfficialStore", Boolean::valueOf))
+                .minRating(param(request, "minRating", Double::valueOf))
+                .storeName(request.queryParam("storeName").orElse(null))
+                .build();
+        Integer limit = param(request, "limit", Integer::valueOf);
+        Flux<CreateProduct> results = Flux.fromStream(() -> productService.streamProducts(params));
+        if (limit != null) {
+            results = results.take(Math.max(0, limit), true);
+        }
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON).body(results, CreateProduct.class);
+    }
+
+    /**
+     * GET /api/products/_export: el catálogo completo en NDJSON, un producto por línea.
+     */
+    public Mono<ServerResponse> exportCatalog(ServerRequest request) {
+        Flux<CreateProduct> products = Flux.fromStream(() -> productService.streamProducts(ProductSearchParams.builder().build()));
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.ndjson\"")
+                .body(products, CreateProduct.class);
+    }
+
+    /**
+     * POST /api/products: el cuerpo se decodifica sin bloquear y la persistencia corre en {@code writeScheduler}.
+     */
+    public Mono<ServerResponse> createProduct(ServerRequest request) {
+        return request.bodyToMono(CreateProductRequest.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Falta el cuerpo de la petición")))
+                .flatMap(body -> {
+                    Map<String, String> errors = validate(body);
+                    if (!errors.isEmpty()) {
+                        return validationError(errors);
+                    }
+                    return Mono.fromCallable(() -> productService.createProduct(body))
+                            .subscribeOn(writeScheduler)
+                            .flatMap(product -> ServerResponse.created(URI.create("/api/products/" + product.getId()))
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .bodyValue(product));
+                });
+    }
+
+    private Map<String, String> validate(Object body) {
+        Map<String, String> errors = new HashMap<>();
+        for (ConstraintViolation<Object> violation : validator.validate(body)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    private static Mono<ServerResponse> validationError(Map<String, String> errors) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Error de validación",
+                "Hay errores en los datos enviados",
+                LocalDateTime.now(),
+                errors);
+        return ServerResponse.badRequest().contentType(MediaType.APPLICATION_JSON).bodyValue(error);
+    }
+
+    /**
+     * Paginación con los mismos parámetros y valores por defecto que el controlador MVC
+     * ({@code page}, {@code size}, {@code sort=campo,dirección}; por defecto 10 por página ordenado por id).
+     */
+    private static Pageable pageable(ServerRequest request) {
+        Integer page = param(request, "page", Integer::valueOf);
+        Integer size = param(request, "size", Integer::valueOf);
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String sort : request.queryParams().getOrDefault("sort", List.of())) {
+            String[] parts = sort.split(",");
+            if (parts[0].isBlank()) {
+                continue;
+            }
+            boolean descending = parts.length > 1 && "desc".equalsIgnoreCase(parts[1].trim());
+            orders.add(descending ? Sort.Order.desc(parts[0].trim()) : Sort.Order.asc(parts[0].trim()));
+        }
+        return PageRequest.of(
+                page == null ? 0 : Math.max(0, page),
+                size == null ? DEFAULT_PAGE_SIZE : Math.max(1, size),
+                orders.isEmpty() ? Sort.by("id") : Sort.by(orders));
+    }
+
+    private static <T> T param(ServerRequest request, String name, Function<String, T> parser) {
+        Optional<String> value = request.queryParam(name).filter(text -> !text.isBlank());
+        try {
+            return value.map(String::trim).map(parser).orElse(null);
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("Valor inválido para el parámetro " + name + ": " + value.get());
+        }
+    }
+}
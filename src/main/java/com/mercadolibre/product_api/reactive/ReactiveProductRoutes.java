@@ -0,0 +1,48 @@
+package com.mercadolibre.product_api.reactive;
+
+import com.mercadolibre.product_api.exception.GlobalExceptionHandler.ErrorResponse;
+import com.mercadolibre.product_api.exception.ProductNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rutas de los endpoints reactivos, con las mismas URLs que {@code ProductController}.
+ * Los errores se responden con el mismo formato que {@code GlobalExceptionHandler}.
+ */
+public final class ReactiveProductRoutes {
+
+    private ReactiveProductRoutes() {
+    }
+
+    public static RouterFunction<ServerResponse> routes(ReactiveProductHandler handler) {
+        return RouterFunctions.route()
+                .GET("/api/products/search", handler::searchProducts)
+                .GET("/api/products/_export", handler::exportCatalog)
+                .POST("/api/products/batch-get", handler::batchGetProducts)
+                .GET("/api/products/{id}", handler::getProductById)
+                .GET("/api/products", RequestPredicates.queryParam("ids", ids -> true), handler::getProductsByIds)
+                .GET("/api/products", handler::getAllProducts)
+                .POST("/api/products", handler::createProduct)
+                .onError(ProductNotFoundException.class, (e, request) ->
+                        error(HttpStatus.NOT_FOUND, "Producto no encontrado", e.getMessage()))
+                .onError(ResponseStatusException.class, (e, request) -> {
+                    ResponseStatusException statusException = (ResponseStatusException) e;
+                    return error(statusException.getStatusCode(), "Petición inválida", statusException.getReason());
+                })
+                .build();
+    }
+
+    private static Mono<ServerResponse> error(HttpStatusCode status, String error, String message) {
+        ErrorResponse body = new ErrorResponse(status.value(), error, message, LocalDateTime.now());
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+    }
+}
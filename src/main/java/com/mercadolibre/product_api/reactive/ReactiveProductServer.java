@@ -0,0 +1,77 @@
+package com.mercadolibre.product_api.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+
+/**
+ * Servidor Reactor Netty propio para los endpoints reactivos, en un puerto distinto al de
+ * Tomcat: la aplicación sigue siendo MVC y ambos stacks quedan disponibles para comparar.
+ * Las peticiones se atienden en un grupo fijo de hilos de event loop.
+ */
+@Slf4j
+public class ReactiveProductServer implements SmartLifecycle {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpHandler httpHandler;
+    private final int port;
+    private final int eventLoopThreads;
+
+    private volatile LoopResources loops;
+    private volatile DisposableServer server;
+
+    /**
+     * @param httpHandler      Handler con las rutas reactivas
+     * @param port             Puerto a escuchar (0 elige uno libre)
+     * @param eventLoopThreads Hilos de event loop; 0 usa la cantidad de procesadores
+     */
+    public ReactiveProductServer(HttpHandler httpHandler, int port, int eventLoopThreads) {
+        this.httpHandler = httpHandler;
+        this.port = port;
+        this.eventLoopThreads = eventLoopThreads > 0 ? eventLoopThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public void start() {
+        loops = LoopResources.create("reactive-products", eventLoopThreads, true);
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loops)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Endpoints reactivos escuchando en el puerto {} con {} hilos de event loop", server.port(), eventLoopThreads);
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer running = server;
+        if (running != null) {
+            running.disposeNow(SHUTDOWN_TIMEOUT);
+            server = null;
+        }
+        if (loops != null) {
+            loops.disposeLater().block(SHUTDOWN_TIMEOUT);
+            loops = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Puerto en el que escucha el servidor, o -1 si no está iniciado.
+     */
+    public int getPort() {
+        DisposableServer running = server;
+        return running == null ? -1 : running.port();
+    }
+}
@@ -0,0 +1,78 @@
+package com.mercadolibre.product_api.repository;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Lista inmutable a la que se agrega un elemento en O(1) amortizado obteniendo otra lista.
+ * <p>
+ * Las listas que resultan de agregar sobre la última versión comparten el mismo arreglo: cada
+ * una sólo ve sus primeros {@code size} elementos y nadie escribe posiciones ya visibles, así
+ * que una lectura concurrente de una versión anterior nunca ve cambios. Agregar sobre una
+ * versión que ya no es la última (o sobre cualquier otra lista) copia los elementos una vez.
+ * Las llamadas a {@link #append} deben estar serializadas por quien las hace;
+ * {@link ReviewRepository} las ejecuta bajo su bloqueo de escritura.
+ */
+final class AppendOnlyList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Storage storage;
+    private final Object[] elements;
+    private final int size;
+
+    private AppendOnlyList(Storage storage, Object[] elements, int size) {
+        this.storage = storage;
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Devuelve una lista con los elementos de {@code list} más {@code element} al final.
+     *
+     * @param list    Lista de partida; null equivale a vacía
+     * @param element Elemento a agregar
+     */
+    static <E> List<E> append(List<E> list, E element) {
+        if (list instanceof AppendOnlyList<E> current && current.storage.length == current.size) {
+            Object[] elements = current.elements;
+            if (current.size < elements.length) {
+                elements[current.size] = element;
+                current.storage.length = current.size + 1;
+                return new AppendOnlyList<>(current.storage, elements, current.size + 1);
+            }
+        }
+        int size = list == null ? 0 : list.size();
+        Object[] elements = new Object[Math.max(INITIAL_CAPACITY, size * 2)];
+        if (list != null) {
+            System.arraycopy(list.toArray(), 0, elements, 0, size);
+        }
+        elements[size] = element;
+        Storage storage = new Storage();
+        storage.length = size + 1;
+        return new AppendOnlyList<>(storage, elements, size + 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Cantidad de posiciones ocupadas del arreglo compartido: sólo la lista con ese tamaño
+     * puede seguir agregando sin copiar.
+     */
+    private static final class Storage {
+        private int length;
+    }
+}
@@ -0,0 +1,104 @@
+package com.mercadolibre.product_api.repository;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.product_api.model.ProductRating;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Log NDJSON de los cambios del catálogo que todavía no están en {@code products.json}.
+ * <p>
+ * Cada línea guarda el valor resultante (no el delta) de los campos cambiados de un producto,
+ * así reaplicar una línea que el archivo ya incorporaba no cambia nada. Lo usa
+ * {@link ProductRepository}, que lo escribe y lo vacía bajo su bloqueo de escritura.
+ */
+@Slf4j
+class CatalogJournal {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private int pending;
+
+    CatalogJournal(ObjectMapper objectMapper, Path file) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+    }
+
+    /**
+     * Agrega entradas al final del log.
+     */
+    void append(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (Entry entry : entries) {
+                writer.write(objectMapper.writeValueAsString(entry));
+                writer.write('\n');
+            }
+            pending += entries.size();
+        } catch (IOException e) {
+            log.error("Error al guardar cambios en {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Recorre las entradas del log en orden de escritura.
+     *
+     * @return Cantidad de entradas leídas
+     */
+    int replay(Consumer<Entry> consumer) {
+        if (Files.notExists(file)) {
+            return 0;
+        }
+        int lines = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                consumer.accept(objectMapper.readValue(line, Entry.class));
+                lines++;
+            }
+        } catch (IOException e) {
+            log.error("Error al cargar cambios desde {}: {}", file, e.getMessage());
+        }
+        pending = lines;
+        return lines;
+    }
+
+    /**
+     * Vacía el log, una vez que {@code products.json} ya incorpora todas sus entradas.
+     */
+    void clear() {
+        try {
+            Files.deleteIfExists(file);
+            pending = 0;
+        } catch (IOException e) {
+            log.error("Error al vaciar {}: {}", file, e.getMessage());
+        }
+    }
+
+    boolean isEmpty() {
+        return pending == 0;
+    }
+
+    /**
+     * Línea del log: el stock disponible o la calificación resultante de un producto; el campo
+     * que no cambió queda en null.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Entry(String id, Integer availableStock, ProductRating rating) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.mercadolibre.product_api.repository;
+
+import com.mercadolibre.product_api.model.CreateProduct;
+
+/**
+ * Recibe las mutaciones del repositorio para mantener estructuras derivadas (índices, cachés).
+ * Los métodos se invocan dentro del bloqueo de escritura del repositorio, en el mismo orden
+ * en que se aplican las mutaciones, por lo que deben ser rápidos y no bloquear.
+ */
+public interface ProductChangeListener {
+
+    /**
+     * Un producto fue creado o reemplazado.
+     *
+     * @param previous Versión anterior del producto o null si es nuevo
+     * @param current  Versión guardada
+     */
+    void onSave(CreateProduct previous, CreateProduct current);
+
+    /**
+     * Un producto fue eliminado.
+     *
+     * @param removed Última versión del producto eliminado
+     */
+    void onDelete(CreateProduct removed);
+}
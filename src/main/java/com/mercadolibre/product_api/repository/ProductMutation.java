@@ -0,0 +1,41 @@
+package com.mercadolibre.product_api.repository;
+
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.Review;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Mutación de un lote aplicado con {@link ProductRepository#applyAll(java.util.List)}.
+ */
+public sealed interface ProductMutation {
+
+    /**
+     * Crea o reemplaza un producto.
+     */
+    record Save(CreateProduct product) implements ProductMutation {
+    }
+
+    /**
+     * Elimina un producto por ID.
+     */
+    record Delete(String id) implements ProductMutation {
+    }
+
+    /**
+     * Reemplaza sólo el stock disponible de un producto existente, sobre su versión vigente.
+     * El valor se obtiene al aplicar la mutación, dentro del bloqueo de escritura, así refleja
+     * lo que haya cambiado hasta ese momento. Si el producto ya no existe se ignora.
+     */
+    record SetStock(String id, IntSupplier availableStock) implements ProductMutation {
+    }
+
+    /**
+     * Agrega una reseña a un producto existente y actualiza su promedio, su total y su histograma
+     * de calificaciones sobre la versión vigente, sin recorrer las reseñas anteriores. El producto
+     * conserva sólo las {@code recentCount} reseñas más recientes; el resto vive en
+     * {@link ReviewRepository}. Si el producto ya no existe se ignora.
+     */
+    record AppendReview(String id, Review review, int recentCount) implements ProductMutation {
+    }
+}
@@ -2,93 +2,527 @@ package com.mercadolibre.product_api.repository;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.product_api.config.RequestTiming;
 import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.ProductRating;
+import com.mercadolibre.product_api.model.Review;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
+/**
+ * Catálogo en memoria persistido en {@code products.json}.
+ * <p>
+ * Cada operación de colección, escritura y persistencia registra su duración en el timer
+ * {@value #OPERATION_TIMER} (etiqueta {@code operation}) y los bytes leídos o escritos del archivo
+ * en {@value #FILE_BYTES}; la escritura del archivo también se suma al {@code Server-Timing} de la
+ * petición como {@code persist}. Las lecturas O(1) por ID ({@code findById}, {@code existsById},
+ * {@code versionOf}) no se miden: las búsquedas las llaman por cada candidato y medirlas costaría
+ * más que la lectura.
+ * <p>
+ * Los cambios frecuentes y pequeños (el stock de las reservas y la calificación que actualiza
+ * cada reseña) no reescriben el archivo: se
+ * agregan a un journal NDJSON que se relee al arrancar y que el archivo incorpora cada
+ * {@code products.journal.compact-interval-ms}, o antes si otra escritura lo reescribe.
+ */
 @Slf4j
 @Repository
 public class ProductRepository {
-    
+
+    static final String OPERATION_TIMER = "products.repository.operations";
+    static final String FILE_BYTES = "products.repository.file.bytes";
+
     private static final String DATA_FILE = "products.json";
+    private static final String JOURNAL_FILE = "products.journal.ndjson";
+    private static final int HISTOGRAM_BUCKETS = 5;
     private final ObjectMapper objectMapper;
-    private List<CreateProduct> products;
-    
-    public ProductRepository(ObjectMapper objectMapper) {
+    // Mapa por ID: las lecturas no bloquean y las búsquedas por ID son O(1)
+    private final Map<String, CreateProduct> products = new ConcurrentHashMap<>();
+    // Serializa las mutaciones y la escritura del archivo
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final List<ProductChangeListener> listeners = new CopyOnWriteArrayList<>();
+    // Versión de cada producto: se toma de una secuencia global en cada escritura, así
+    // las validaciones de caché no necesitan serializar ni comparar contenido
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    // Distingue versiones de distintos arranques, ya que la secuencia se reinicia
+    private final long epoch = System.currentTimeMillis();
+    private final Timer findAllTimer;
+    private final Timer findAllByIdTimer;
+    private final Timer saveTimer;
+    private final Timer applyAllTimer;
+    private final Timer deleteTimer;
+    private final Timer flushTimer;
+    private final Timer loadTimer;
+    private final Timer persistTimer;
+    private final DistributionSummary loadedBytes;
+    private final DistributionSummary writtenBytes;
+    // Cambios aplicados en memoria que products.json todavía no incorpora
+    private final CatalogJournal journal;
+
+    @Autowired
+    public ProductRepository(ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${products.journal.file:" + JOURNAL_FILE + "}") String journalFile) {
         this.objectMapper = objectMapper;
-        this.products = new ArrayList<>();
+        this.journal = new CatalogJournal(objectMapper, Path.of(journalFile));
+        this.findAllTimer = operationTimer(meterRegistry, "findAll");
+        this.findAllByIdTimer = operationTimer(meterRegistry, "findAllById");
+        this.saveTimer = operationTimer(meterRegistry, "save");
+        this.applyAllTimer = operationTimer(meterRegistry, "applyAll");
+        this.deleteTimer = operationTimer(meterRegistry, "deleteById");
+        this.flushTimer = operationTimer(meterRegistry, "flush");
+        this.loadTimer = operationTimer(meterRegistry, "loadData");
+        this.persistTimer = operationTimer(meterRegistry, "saveData");
+        this.loadedBytes = fileBytes(meterRegistry, "loadData");
+        this.writtenBytes = fileBytes(meterRegistry, "saveData");
+    }
+
+    public ProductRepository(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this(objectMapper, meterRegistry, JOURNAL_FILE);
     }
 
     public ProductRepository() {
-        this.objectMapper = new ObjectMapper();
-        this.products = new ArrayList<>();
+        this(new ObjectMapper(), new SimpleMeterRegistry());
         // Constructor vacío para pruebas unitarias
     }
-    
+
+    private static Timer operationTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(OPERATION_TIMER)
+                .description("Duración de las operaciones del repositorio de productos")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static DistributionSummary fileBytes(MeterRegistry meterRegistry, String operation) {
+        return DistributionSummary.builder(FILE_BYTES)
+                .description("Tamaño del archivo de productos leído o escrito")
+                .baseUnit("bytes")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
     @PostConstruct
     public void init() {
         loadData();
     }
-    
+
+    /**
+     * Registra un listener que será notificado de cada mutación.
+     *
+     * @param listener Listener a registrar
+     */
+    public void addChangeListener(ProductChangeListener listener) {
+        listeners.add(listener);
+    }
+
     public Optional<CreateProduct> findById(String id) {
-        return products.stream().filter(p -> Objects.equals(p.getId(), id)).findFirst();
+        return id == null ? Optional.empty() : Optional.ofNullable(products.get(id));
+    }
+
+    /**
+     * Obtiene los productos existentes entre los IDs indicados, en el mismo orden.
+     * Los IDs inexistentes se omiten.
+     *
+     * @param ids IDs a buscar
+     * @return Productos encontrados
+     */
+    public List<CreateProduct> findAllById(Collection<String> ids) {
+        long started = System.nanoTime();
+        List<CreateProduct> found = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            CreateProduct product = id == null ? null : products.get(id);
+            if (product != null) {
+                found.add(product);
+            }
+        }
+        findAllByIdTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return found;
     }
-    
+
     public List<CreateProduct> findAll() {
-        return new ArrayList<>(products);
+        long started = System.nanoTime();
+        List<CreateProduct> all = new ArrayList<>(products.values());
+        findAllTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return all;
+    }
+
+    /**
+     * Recorre todos los productos sin copiarlos. El recorrido es débilmente consistente:
+     * no bloquea las escrituras y puede reflejar o no las que ocurran durante el recorrido.
+     *
+     * @param consumer Receptor de cada producto
+     */
+    public void forEach(Consumer<CreateProduct> consumer) {
+        products.values().forEach(consumer);
+    }
+
+    /**
+     * Devuelve la versión vigente de un producto; cambia en cada escritura del producto.
+     *
+     * @param id ID del producto
+     * @return Versión, o 0 si el producto no existe
+     */
+    public long versionOf(String id) {
+        Long version = id == null ? null : versions.get(id);
+        return version == null ? 0 : version;
+    }
+
+    /**
+     * Versión del catálogo completo: la última versión asignada a cualquier escritura.
+     */
+    public long catalogVersion() {
+        return sequence.get();
+    }
+
+    /**
+     * Momento de arranque del repositorio, para que las versiones no se repitan entre reinicios.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long count() {
+        return products.size();
     }
 
     public CreateProduct save(CreateProduct product) {
         if (product.getId() == null) {
             product.setId(UUID.randomUUID().toString());
         }
-        // Eliminar el producto existente si ya existe (por ID)
-        products.removeIf(p -> Objects.equals(p.getId(), product.getId()));
-        products.add(product);
-        saveData();
+        // Las escrituras se miden con la espera del bloqueo y la persistencia incluidas
+        long started = System.nanoTime();
+        writeLock.lock();
+        try {
+            // Reemplazamos el producto existente si ya existe (por ID)
+            CreateProduct previous = products.put(product.getId(), product);
+            versions.put(product.getId(), sequence.incrementAndGet());
+            for (ProductChangeListener listener : listeners) {
+                listener.onSave(previous, product);
+            }
+            saveData();
+        } finally {
+            writeLock.unlock();
+            saveTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
         return product;
     }
 
+    /**
+     * Aplica un lote de mutaciones en orden bajo un único bloqueo y persiste el archivo una sola vez.
+     * Los listeners reciben cada mutación igual que con {@link #save} y {@link #deleteById}.
+     *
+     * @param mutations Mutaciones a aplicar
+     */
+    public void applyAll(List<ProductMutation> mutations) {
+        applyAll(mutations, true);
+    }
+
+    /**
+     * Aplica un lote de mutaciones en orden bajo un único bloqueo.
+     * Con {@code persist} en false el archivo no se reescribe: quien encadena varios lotes
+     * (una importación) llama a {@link #flush()} al terminar.
+     *
+     * @param mutations Mutaciones a aplicar
+     * @param persist   Si se persiste el archivo al terminar el lote
+     */
+    public void applyAll(List<ProductMutation> mutations, boolean persist) {
+        if (mutations.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        writeLock.lock();
+        try {
+            for (ProductMutation mutation : mutations) {
+                if (mutation instanceof ProductMutation.Save save) {
+                    CreateProduct product = save.product();
+                    if (product.getId() == null) {
+                        product.setId(UUID.randomUUID().toString());
+                    }
+                    CreateProduct previous = products.put(product.getId(), product);
+                    versions.put(product.getId(), sequence.incrementAndGet());
+                    for (ProductChangeListener listener : listeners) {
+                        listener.onSave(previous, product);
+                    }
+                } else if (mutation instanceof ProductMutation.SetStock setStock) {
+                    CreateProduct previous = products.get(setStock.id());
+                    if (previous != null) {
+                        // Copia: las lecturas concurrentes pueden estar usando la instancia anterior
+                        CreateProduct product = previous.toBuilder()
+                                .availableStock(setStock.availableStock().getAsInt())
+                                .build();
+                        products.put(product.getId(), product);
+                        versions.put(product.getId(), sequence.incrementAndGet());
+                        for (ProductChangeListener listener : listeners) {
+                            listener.onSave(previous, product);
+                        }
+                    }
+                } else if (mutation instanceof ProductMutation.AppendReview append) {
+                    CreateProduct previous = products.get(append.id());
+                    if (previous != null) {
+                        CreateProduct product = previous.toBuilder()
+                                .rating(withReview(previous.getRating(), append.review(), append.recentCount()))
+                                .build();
+                        products.put(product.getId(), product);
+                        versions.put(product.getId(), sequence.incrementAndGet());
+                        for (ProductChangeListener listener : listeners) {
+                            listener.onSave(previous, product);
+                        }
+                    }
+                } else if (mutation instanceof ProductMutation.Delete delete) {
+                    CreateProduct removed = products.remove(delete.id());
+                    if (removed != null) {
+                        versions.remove(delete.id());
+                        sequence.incrementAndGet();
+                        for (ProductChangeListener listener : listeners) {
+                            listener.onDelete(removed);
+                        }
+                    }
+                }
+            }
+            if (persist) {
+                saveData();
+            }
+        } finally {
+            writeLock.unlock();
+            applyAllTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Aplica un lote de cambios de stock o de reseñas sin reescribir {@code products.json}: el
+     * stock o la calificación resultante de cada producto se agrega al journal
+     * ({@code products.journal.file}), que se relee al arrancar, y el archivo lo incorpora en la
+     * próxima escritura completa o en {@link #compactJournal()}.
+     *
+     * @param mutations Mutaciones {@link ProductMutation.SetStock} o {@link ProductMutation.AppendReview}
+     * @throws IllegalArgumentException si el lote trae otro tipo de mutación
+     */
+    public void applyJournaled(List<? extends ProductMutation> mutations) {
+        if (mutations.isEmpty()) {
+            return;
+        }
+        for (ProductMutation mutation : mutations) {
+            if (!(mutation instanceof ProductMutation.SetStock) && !(mutation instanceof ProductMutation.AppendReview)) {
+                throw new IllegalArgumentException("Mutación sin soporte en el journal: " + mutation);
+            }
+        }
+        writeLock.lock();
+        try {
+            applyAll(List.copyOf(mutations), false);
+            List<CatalogJournal.Entry> entries = new ArrayList<>(mutations.size());
+            for (ProductMutation mutation : mutations) {
+                if (mutation instanceof ProductMutation.SetStock setStock) {
+                    CreateProduct product = products.get(setStock.id());
+                    if (product != null) {
+                        entries.add(new CatalogJournal.Entry(product.getId(), product.getAvailableStock(), null));
+                    }
+                } else if (mutation instanceof ProductMutation.AppendReview append) {
+                    CreateProduct product = products.get(append.id());
+                    if (product != null) {
+                        entries.add(new CatalogJournal.Entry(product.getId(), null, product.getRating()));
+                    }
+                }
+            }
+            journal.append(entries);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Incorpora el journal a {@code products.json} si tiene cambios pendientes.
+     */
+    @Scheduled(fixedDelayString = "${products.journal.compact-interval-ms:30000}")
+    @PreDestroy
+    public void compactJournal() {
+        writeLock.lock();
+        try {
+            if (!journal.isEmpty()) {
+                saveData();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Persiste el estado actual en el archivo.
+     */
+    public void flush() {
+        long started = System.nanoTime();
+        writeLock.lock();
+        try {
+            saveData();
+        } finally {
+            writeLock.unlock();
+            flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
     public boolean existsById(String id) {
-        return products.stream().anyMatch(p -> Objects.equals(p.getId(), id));
+        return id != null && products.containsKey(id);
     }
 
     public void deleteById(String id) {
-        products.removeIf(p -> Objects.equals(p.getId(), id));
-        saveData();
+        long started = System.nanoTime();
+        writeLock.lock();
+        try {
+            CreateProduct removed = products.remove(id);
+            if (removed != null) {
+                versions.remove(id);
+                sequence.incrementAndGet();
+                for (ProductChangeListener listener : listeners) {
+                    listener.onDelete(removed);
+                }
+            }
+            saveData();
+        } finally {
+            writeLock.unlock();
+            deleteTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Calificación con una reseña más, en O(1): el promedio se actualiza de forma incremental
+     * (o exacta desde el histograma cuando éste cubre todas las calificaciones) y el producto
+     * conserva sólo las {@code recentCount} reseñas más recientes. Un histograma ausente, de
+     * datos anteriores, se arma una sola vez con las reseñas que tenga el producto.
+     */
+    private static ProductRating withReview(ProductRating rating, Review review, int recentCount) {
+        List<Review> reviews = rating == null ? null : rating.getReviews();
+        int total = rating == null || rating.getTotalRatings() == null ? 0 : rating.getTotalRatings();
+        double average = rating == null || rating.getAverageRating() == null ? 0.0 : rating.getAverageRating();
+
+        int[] histogram = new int[HISTOGRAM_BUCKETS];
+        if (rating != null && rating.getRatingHistogram() != null) {
+            List<Integer> previous = rating.getRatingHistogram();
+            for (int i = 0; i < Math.min(HISTOGRAM_BUCKETS, previous.size()); i++) {
+                histogram[i] = previous.get(i) == null ? 0 : previous.get(i);
+            }
+        } else if (reviews != null) {
+            for (Review existing : reviews) {
+                addToHistogram(histogram, existing.getRating());
+            }
+        }
+        addToHistogram(histogram, review.getRating());
+
+        int newTotal = total + 1;
+        long counted = 0;
+        long sum = 0;
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            counted += histogram[i];
+            sum += (long) histogram[i] * (i + 1);
+        }
+        double newAverage = counted == newTotal
+                ? (double) sum / newTotal
+                : average + (review.getRating() - average) / newTotal;
+
+        return ProductRating.builder()
+                .averageRating(newAverage)
+                .totalRatings(newTotal)
+                .ratingHistogram(Arrays.stream(histogram).boxed().toList())
+                .reviews(recent(reviews, review, recentCount))
+                .build();
+    }
+
+    private static List<Review> recent(List<Review> reviews, Review review, int recentCount) {
+        if (recentCount <= 0) {
+            return List.of();
+        }
+        List<Review> recent = new ArrayList<>(recentCount);
+        if (reviews != null) {
+            recent.addAll(reviews.subList(Math.max(0, reviews.size() - recentCount + 1), reviews.size()));
+        }
+        recent.add(review);
+        return List.copyOf(recent.subList(Math.max(0, recent.size() - recentCount), recent.size()));
+    }
+
+    private static void addToHistogram(int[] histogram, Integer rating) {
+        if (rating != null && rating >= 1 && rating <= HISTOGRAM_BUCKETS) {
+            histogram[rating - 1]++;
+        }
     }
 
     private void loadData() {
         File file = new File(DATA_FILE);
+        products.clear();
+        versions.clear();
         if (file.exists()) {
+            long started = System.nanoTime();
             try {
-                products = objectMapper.readValue(file, new TypeReference<List<CreateProduct>>() {});
+                List<CreateProduct> loaded = objectMapper.readValue(file, new TypeReference<List<CreateProduct>>() {});
+                for (CreateProduct product : loaded) {
+                    products.put(product.getId(), product);
+                    versions.put(product.getId(), sequence.incrementAndGet());
+                }
+                loadTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                loadedBytes.record(file.length());
                 log.info("Datos cargados exitosamente desde {}", DATA_FILE);
             } catch (IOException e) {
                 log.error("Error al cargar datos desde {}: {}", DATA_FILE, e.getMessage());
-                products = new ArrayList<>();
             }
         } else {
             log.warn("Archivo {} no encontrado. Iniciando con lista vacía.", DATA_FILE);
-            products = new ArrayList<>();
+        }
+        int replayed = journal.replay(entry -> {
+            CreateProduct product = products.get(entry.id());
+            if (product != null) {
+                CreateProduct.CreateProductBuilder updated = product.toBuilder();
+                if (entry.availableStock() != null) {
+                    updated.availableStock(entry.availableStock());
+                }
+                if (entry.rating() != null) {
+                    updated.rating(entry.rating());
+                }
+                products.put(entry.id(), updated.build());
+                versions.put(entry.id(), sequence.incrementAndGet());
+            }
+        });
+        if (replayed > 0) {
+            log.info("{} cambios pendientes reaplicados desde el journal", replayed);
         }
     }
 
     private void saveData() {
+        long started = System.nanoTime();
         try {
-            objectMapper.writeValue(new File(DATA_FILE), products);
+            File file = new File(DATA_FILE);
+            objectMapper.writeValue(file, products.values());
+            long elapsed = System.nanoTime() - started;
+            persistTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            RequestTiming.record("persist", elapsed);
+            writtenBytes.record(file.length());
+            // El archivo ya incluye todo lo que estaba en el journal
+            journal.clear();
             log.info("Datos guardados exitosamente en {}", DATA_FILE);
         } catch (IOException e) {
             log.error("Error al guardar datos en {}: {}", DATA_FILE, e.getMessage());
         }
     }
-} 
\ No newline at end of file
+}
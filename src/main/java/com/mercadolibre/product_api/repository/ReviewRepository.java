@@ -0,0 +1,182 @@
+package com.mercadolibre.product_api.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.product_api.model.Review;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reseñas de cada producto, guardadas fuera del producto.
+ * <p>
+ * En memoria, cada producto tiene una lista de sólo agregado en orden de llegada: la posición
+ * de una reseña no cambia nunca, así que sirve de clave para paginar por cursor sin contar
+ * desde el principio. Las lecturas no bloquean y ven la lista vigente al momento de leer.
+ * <p>
+ * En disco es un log NDJSON al que cada reseña agrega una línea, en lugar de reescribir todo
+ * el archivo; eliminar las reseñas de un producto agrega una línea sin reseña. El log se
+ * relee completo al arrancar.
+ */
+@Slf4j
+@Repository
+public class ReviewRepository {
+
+    private final ObjectMapper objectMapper;
+    private final Path logFile;
+    private final Map<String, List<Review>> reviews = new ConcurrentHashMap<>();
+    // Serializa los agregados y las escrituras del log
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Autowired
+    public ReviewRepository(ObjectMapper objectMapper,
+                            @Value("${products.reviews.file:reviews.ndjson}") String logFile) {
+        this.objectMapper = objectMapper;
+        this.logFile = Path.of(logFile);
+    }
+
+    @PostConstruct
+    public void init() {
+        loadData();
+    }
+
+    /**
+     * Agrega reseñas al final de las de un producto.
+     *
+     * @param productId ID del producto
+     * @param added     Reseñas en orden de llegada
+     * @return Cantidad de reseñas del producto después de agregar
+     */
+    public int appendAll(String productId, List<Review> added) {
+        if (added.isEmpty()) {
+            return count(productId);
+        }
+        writeLock.lock();
+        try {
+            List<Review> current = reviews.get(productId);
+            for (Review review : added) {
+                current = AppendOnlyList.append(current, review);
+            }
+            reviews.put(productId, current);
+            List<LogEntry> entries = new ArrayList<>(added.size());
+            for (Review review : added) {
+                entries.add(new LogEntry(productId, review));
+            }
+            writeLog(entries);
+            return current.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Agrega una reseña al final de las de un producto.
+     *
+     * @return Cantidad de reseñas del producto después de agregar
+     */
+    public int append(String productId, Review review) {
+        return appendAll(productId, List.of(review));
+    }
+
+    /**
+     * Reseñas de un producto de la más reciente a la más antigua, a partir de una posición.
+     *
+     * @param productId ID del producto
+     * @param before    Posición exclusiva desde la que se sigue hacia atrás; null empieza por la más reciente
+     * @param limit     Cantidad máxima de reseñas
+     * @return Reseñas de la página, la primera es la más reciente
+     */
+    public List<Review> findPage(String productId, Integer before, int limit) {
+        List<Review> current = reviews.getOrDefault(productId, List.of());
+        int end = before == null ? current.size() : Math.min(before, current.size());
+        int start = Math.max(0, end - limit);
+        List<Review> page = new ArrayList<>(current.subList(start, end));
+        Collections.reverse(page);
+        return page;
+    }
+
+    /**
+     * Todas las reseñas de un producto en orden de llegada.
+     */
+    public List<Review> findAll(String productId) {
+        return reviews.getOrDefault(productId, List.of());
+    }
+
+    public int count(String productId) {
+        return reviews.getOrDefault(productId, List.of()).size();
+    }
+
+    /**
+     * Elimina las reseñas de un producto.
+     *
+     * @param productId ID del producto
+     */
+    public void deleteByProductId(String productId) {
+        writeLock.lock();
+        try {
+            if (reviews.remove(productId) != null) {
+                writeLog(List.of(new LogEntry(productId, null)));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void loadData() {
+        reviews.clear();
+        if (Files.notExists(logFile)) {
+            return;
+        }
+        long lines = 0;
+        try (BufferedReader reader = Files.newBufferedReader(logFile, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                LogEntry entry = objectMapper.readValue(line, LogEntry.class);
+                if (entry.review() == null) {
+                    reviews.remove(entry.productId());
+                } else {
+                    reviews.put(entry.productId(), AppendOnlyList.append(reviews.get(entry.productId()), entry.review()));
+                }
+                lines++;
+            }
+            log.info("Reseñas cargadas exitosamente desde {} ({} líneas)", logFile, lines);
+        } catch (IOException e) {
+            log.error("Error al cargar reseñas desde {}: {}", logFile, e.getMessage());
+        }
+    }
+
+    private void writeLog(List<LogEntry> entries) {
+        try (Writer writer = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (LogEntry entry : entries) {
+                writer.write(objectMapper.writeValueAsString(entry));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            log.error("Error al guardar reseñas en {}: {}", logFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Línea del log: una reseña de un producto, o la eliminación de todas si {@code review} es null.
+     */
+    record LogEntry(String productId, Review review) {
+    }
+}
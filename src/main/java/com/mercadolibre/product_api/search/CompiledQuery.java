@@ -0,0 +1,25 @@
+package com.mercadolibre.product_api.search;
+
+import com.mercadolibre.product_api.model.CreateProduct;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Plan de búsqueda ya compilado: un único predicado fusionado listo para evaluarse
+ * sobre cada producto, junto con su clave canónica, los campos que consulta y las
+ * restricciones de nivel superior que un índice secundario puede resolver.
+ *
+ * @param canonicalKey Forma canónica de la expresión normalizada
+ * @param predicate    Predicado compilado
+ * @param fields       Campos referenciados por la expresión
+ * @param constraints  Restricciones que todo resultado cumple (conjunciones de nivel superior)
+ */
+public record CompiledQuery(String canonicalKey, Predicate<CreateProduct> predicate, Set<SearchField> fields,
+                            List<FieldConstraint> constraints) {
+
+    public boolean matches(CreateProduct product) {
+        return predicate.test(product);
+    }
+}
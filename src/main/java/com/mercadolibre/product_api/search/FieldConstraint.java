@@ -0,0 +1,33 @@
+package com.mercadolibre.product_api.search;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * Restricción sobre un único campo que debe cumplir todo resultado de una búsqueda.
+ * Es la parte de un plan que puede resolverse con un índice secundario; el predicado
+ * completo se sigue evaluando sobre los candidatos que devuelve el índice.
+ */
+public sealed interface FieldConstraint {
+
+    SearchField field();
+
+    /**
+     * Rango numérico; un límite null significa que ese extremo está abierto.
+     */
+    record Range(SearchField field, BigDecimal lower, boolean lowerInclusive,
+                 BigDecimal upper, boolean upperInclusive) implements FieldConstraint {
+    }
+
+    /**
+     * Igualdad contra un conjunto de valores normalizados (cadenas en minúsculas, booleanos).
+     */
+    record Terms(SearchField field, Set<Object> values) implements FieldConstraint {
+    }
+
+    /**
+     * Prefijo en minúsculas sobre un campo de texto.
+     */
+    record Prefix(SearchField field, String prefix) implements FieldConstraint {
+    }
+}
@@ -0,0 +1,464 @@
+package com.mercadolibre.product_api.search;
+
+import com.mercadolibre.product_api.dto.SearchExpression;
+import com.mercadolibre.product_api.exception.InvalidSearchExpressionException;
+import com.mercadolibre.product_api.model.CreateProduct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Valida, normaliza y compila expresiones de búsqueda a un predicado fusionado.
+ * Los planes compilados se guardan en una caché LRU indexada por la forma canónica
+ * de la expresión normalizada, de modo que expresiones equivalentes comparten plan.
+ */
+@Slf4j
+@Component
+public class QueryCompiler {
+
+    static final int MAX_DEPTH = 16;
+    static final int MAX_NODES = 256;
+
+    private final Map<String, CompiledQuery> planCache;
+
+    public QueryCompiler(@Value("${products.search.plan-cache-size:256}") int planCacheSize) {
+        // LinkedHashMap en orden de acceso para desalojar el plan menos usado
+        this.planCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledQuery> eldest) {
+                return size() > planCacheSize;
+            }
+        });
+    }
+
+    /**
+     * Compila una expresión de búsqueda, reutilizando el plan si ya existe uno equivalente.
+     *
+     * @param expression Expresión recibida del cliente
+     * @return Plan compilado
+     * @throws InvalidSearchExpressionException si la expresión no es válida
+     */
+    public CompiledQuery compile(SearchExpression expression) {
+        QueryNode normalized = normalize(parse(expression, 0, new int[1]));
+        String key = normalized.canonical();
+        CompiledQuery cached = planCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Set<SearchField> fields = EnumSet.noneOf(SearchField.class);
+        collectFields(normalized, fields);
+        CompiledQuery compiled = new CompiledQuery(key, compileNode(normalized),
+                Collections.unmodifiableSet(fields), topLevelConstraints(normalized));
+        planCache.put(key, compiled);
+        log.debug("Plan de búsqueda compilado: {}", key);
+        return compiled;
+    }
+
+    int cachedPlans() {
+        return planCache.size();
+    }
+
+    // ---------------------------------------------------------------------
+    // Validación y conversión a nodos internos
+    // ---------------------------------------------------------------------
+
+    private QueryNode parse(SearchExpression expr, int depth, int[] nodeCount) {
+        if (expr == null || expr.getType() == null) {
+            throw new InvalidSearchExpressionException("Cada nodo de la expresión debe indicar su tipo");
+        }
+        if (depth > MAX_DEPTH) {
+            throw new InvalidSearchExpressionException("La expresión supera la profundidad máxima de " + MAX_DEPTH);
+        }
+        if (++nodeCount[0] > MAX_NODES) {
+            throw new InvalidSearchExpressionException("La expresión supera el máximo de " + MAX_NODES + " nodos");
+        }
+        return switch (expr.getType()) {
+            case AND, OR -> {
+                if (expr.getChildren() == null || expr.getChildren().isEmpty()) {
+                    throw new InvalidSearchExpressionException(
+                            "El nodo " + expr.getType().name().toLowerCase() + " requiere al menos un hijo");
+                }
+                List<QueryNode> children = new ArrayList<>(expr.getChildren().size());
+                for (SearchExpression child : expr.getChildren()) {
+                    children.add(parse(child, depth + 1, nodeCount));
+                }
+                yield expr.getType() == SearchExpression.Type.AND
+                        ? new QueryNode.And(children)
+                        : new QueryNode.Or(children);
+            }
+            case NOT -> {
+                if (expr.getChild() == null) {
+                    throw new InvalidSearchExpressionException("El nodo not requiere un hijo");
+                }
+                yield new QueryNode.Not(parse(expr.getChild(), depth + 1, nodeCount));
+            }
+            case RANGE -> parseRange(expr);
+            case TERM -> parseTerm(expr);
+            case PREFIX -> parsePrefix(expr);
+            case ATTRIBUTE -> parseAttribute(expr);
+        };
+    }
+
+    private QueryNode parseRange(SearchExpression expr) {
+        SearchField field = requireField(expr, SearchField.Kind.NUMBER);
+        if (expr.getGte() != null && expr.getGt() != null || expr.getLte() != null && expr.getLt() != null) {
+            throw new InvalidSearchExpressionException("Un rango no puede combinar gte con gt ni lte con lt");
+        }
+        BigDecimal lower = expr.getGte() != null ? expr.getGte() : expr.getGt();
+        BigDecimal upper = expr.getLte() != null ? expr.getLte() : expr.getLt();
+        if (lower == null && upper == null) {
+            throw new InvalidSearchExpressionException("El rango sobre '" + field.getPath() + "' no tiene límites");
+        }
+        return new QueryNode.Range(field, canonicalNumber(lower), expr.getGt() == null,
+                canonicalNumber(upper), expr.getLt() == null);
+    }
+
+    private QueryNode parseTerm(SearchExpression expr) {
+        SearchField field = requireField(expr, null);
+        Object value = expr.getValue();
+        if (value == null) {
+            throw new InvalidSearchExpressionException("El término sobre '" + field.getPath() + "' requiere un valor");
+        }
+        return switch (field.getKind()) {
+            case NUMBER -> {
+                // Una igualdad numérica es un rango cerrado de un solo punto
+                BigDecimal number = toNumber(field, value);
+                yield new QueryNode.Range(field, number, true, number, true);
+            }
+            case BOOLEAN -> new QueryNode.Term(field, Set.of(toBoolean(field, value)));
+            case STRING -> new QueryNode.Term(field, Set.of(value.toString().toLowerCase(Locale.ROOT)));
+        };
+    }
+
+    private QueryNode parsePrefix(SearchExpression expr) {
+        SearchField field = requireField(expr, SearchField.Kind.STRING);
+        if (!(expr.getValue() instanceof String prefix) || prefix.isEmpty()) {
+            throw new InvalidSearchExpressionException("El prefijo sobre '" + field.getPath() + "' debe ser un texto no vacío");
+        }
+        return new QueryNode.Prefix(field, prefix.toLowerCase(Locale.ROOT));
+    }
+
+    private QueryNode parseAttribute(SearchExpression expr) {
+        if (expr.getName() == null || expr.getName().isBlank()) {
+            throw new InvalidSearchExpressionException("El nodo attribute requiere el nombre del atributo");
+        }
+        String value = expr.getValue() == null ? null : expr.getValue().toString().toLowerCase(Locale.ROOT);
+        return new QueryNode.Attribute(expr.getName().toLowerCase(Locale.ROOT), value);
+    }
+
+    private SearchField requireField(SearchExpression expr, SearchField.Kind expectedKind) {
+        SearchField field = SearchField.fromPath(expr.getField());
+        if (field == null) {
+            throw new InvalidSearchExpressionException("Campo de búsqueda desconocido: " + expr.getField());
+        }
+        if (expectedKind != null && field.getKind() != expectedKind) {
+            throw new InvalidSearchExpressionException("El campo '" + field.getPath() + "' no admite el nodo "
+                    + expr.getType().name().toLowerCase());
+        }
+        return field;
+    }
+
+    private BigDecimal toNumber(SearchField field, Object value) {
+        try {
+            return canonicalNumber(new BigDecimal(value.toString()));
+        } catch (NumberFormatException e) {
+            throw new InvalidSearchExpressionException("El campo '" + field.getPath() + "' requiere un valor numérico");
+        }
+    }
+
+    private Boolean toBoolean(SearchField field, Object value) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        if ("true".equalsIgnoreCase(value.toString()) || "false".equalsIgnoreCase(value.toString())) {
+            return Boolean.valueOf(value.toString());
+        }
+        throw new InvalidSearchExpressionException("El campo '" + field.getPath() + "' requiere un valor booleano");
+    }
+
+    private static BigDecimal canonicalNumber(BigDecimal number) {
+        return number == null ? null : number.stripTrailingZeros();
+    }
+
+    // ---------------------------------------------------------------------
+    // Normalización
+    // ---------------------------------------------------------------------
+
+    private QueryNode normalize(QueryNode node) {
+        if (node instanceof QueryNode.And and) {
+            return normalizeAnd(and);
+        }
+        if (node instanceof QueryNode.Or or) {
+            return normalizeOr(or);
+        }
+        if (node instanceof QueryNode.Not not) {
+            QueryNode child = normalize(not.child());
+            if (child instanceof QueryNode.Not inner) {
+                return inner.child();
+            }
+            if (child.equals(QueryNode.TRUE)) {
+                return QueryNode.FALSE;
+            }
+            if (child.equals(QueryNode.FALSE)) {
+                return QueryNode.TRUE;
+            }
+            return new QueryNode.Not(child);
+        }
+        if (node instanceof QueryNode.Range range && range.isEmpty()) {
+            return QueryNode.FALSE;
+        }
+        return node;
+    }
+
+    private QueryNode normalizeAnd(QueryNode.And and) {
+        List<QueryNode> flat = new ArrayList<>();
+        for (QueryNode child : and.children()) {
+            QueryNode normalized = normalize(child);
+            if (normalized.equals(QueryNode.FALSE)) {
+                return QueryNode.FALSE;
+            }
+            if (normalized instanceof QueryNode.And inner) {
+                flat.addAll(inner.children());
+            } else {
+                flat.add(normalized);
+            }
+        }
+        // Fusionamos todos los rangos sobre un mismo campo en uno solo
+        Map<SearchField, QueryNode.Range> ranges = new EnumMap<>(SearchField.class);
+        List<QueryNode> others = new ArrayList<>();
+        for (QueryNode child : flat) {
+            if (child instanceof QueryNode.Range range) {
+                ranges.merge(range.field(), range, QueryNode.Range::intersect);
+            } else {
+                others.add(child);
+            }
+        }
+        for (QueryNode.Range range : ranges.values()) {
+            if (range.isEmpty()) {
+                return QueryNode.FALSE;
+            }
+            others.add(range);
+        }
+        List<QueryNode> children = sortedDistinct(others);
+        return children.size() == 1 ? children.get(0) : new QueryNode.And(children);
+    }
+
+    private QueryNode normalizeOr(QueryNode.Or or) {
+        List<QueryNode> flat = new ArrayList<>();
+        for (QueryNode child : or.children()) {
+            QueryNode normalized = normalize(child);
+            if (normalized.equals(QueryNode.TRUE)) {
+                return QueryNode.TRUE;
+            }
+            if (normalized instanceof QueryNode.Or inner) {
+                flat.addAll(inner.children());
+            } else {
+                flat.add(normalized);
+            }
+        }
+        // Fusionamos los términos sobre un mismo campo en un único conjunto de valores
+        Map<SearchField, Set<Object>> terms = new EnumMap<>(SearchField.class);
+        List<QueryNode> others = new ArrayList<>();
+        for (QueryNode child : flat) {
+            if (child instanceof QueryNode.Term term) {
+                terms.computeIfAbsent(term.field(), f -> new HashSet<>()).addAll(term.values());
+            } else {
+                others.add(child);
+            }
+        }
+        terms.forEach((field, values) -> others.add(new QueryNode.Term(field, Set.copyOf(values))));
+        List<QueryNode> children = sortedDistinct(others);
+        return children.size() == 1 ? children.get(0) : new QueryNode.Or(children);
+    }
+
+    private static List<QueryNode> sortedDistinct(List<QueryNode> nodes) {
+        Map<String, QueryNode> byKey = new TreeMap<>();
+        for (QueryNode node : nodes) {
+            byKey.putIfAbsent(node.canonical(), node);
+        }
+        return List.copyOf(byKey.values());
+    }
+
+    private static void collectFields(QueryNode node, Set<SearchField> fields) {
+        if (node instanceof QueryNode.And and) {
+            and.children().forEach(child -> collectFields(child, fields));
+        } else if (node instanceof QueryNode.Or or) {
+            or.children().forEach(child -> collectFields(child, fields));
+        } else if (node instanceof QueryNode.Not not) {
+            collectFields(not.child(), fields);
+        } else if (node instanceof QueryNode.Range range) {
+            fields.add(range.field());
+        } else if (node instanceof QueryNode.Term term) {
+            fields.add(term.field());
+        } else if (node instanceof QueryNode.Prefix prefix) {
+            fields.add(prefix.field());
+        }
+    }
+
+    /**
+     * Extrae las hojas indexables que todo resultado debe cumplir: la propia hoja o
+     * los hijos hoja de una conjunción de nivel superior.
+     */
+    private static List<FieldConstraint> topLevelConstraints(QueryNode node) {
+        List<QueryNode> conjuncts = node instanceof QueryNode.And and ? and.children() : List.of(node);
+        List<FieldConstraint> constraints = new ArrayList<>();
+        for (QueryNode conjunct : conjuncts) {
+            if (conjunct instanceof QueryNode.Range range) {
+                constraints.add(new FieldConstraint.Range(range.field(), range.lower(), range.lowerInclusive(),
+                        range.upper(), range.upperInclusive()));
+            } else if (conjunct instanceof QueryNode.Term term) {
+                constraints.add(new FieldConstraint.Terms(term.field(), term.values()));
+            } else if (conjunct instanceof QueryNode.Prefix prefix) {
+                constraints.add(new FieldConstraint.Prefix(prefix.field(), prefix.prefix()));
+            }
+        }
+        return List.copyOf(constraints);
+    }
+
+    // ---------------------------------------------------------------------
+    // Compilación a predicados
+    // ---------------------------------------------------------------------
+
+    private Predicate<CreateProduct> compileNode(QueryNode node) {
+        if (node instanceof QueryNode.And and) {
+            if (and.children().isEmpty()) {
+                return product -> true;
+            }
+            Predicate<CreateProduct>[] parts = compileOrderedByCost(and.children());
+            return product -> {
+                for (Predicate<CreateProduct> part : parts) {
+                    if (!part.test(product)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+        if (node instanceof QueryNode.Or or) {
+            if (or.children().isEmpty()) {
+                return product -> false;
+            }
+            Predicate<CreateProduct>[] parts = compileOrderedByCost(or.children());
+            return product -> {
+                for (Predicate<CreateProduct> part : parts) {
+                    if (part.test(product)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+        if (node instanceof QueryNode.Not not) {
+            return compileNode(not.child()).negate();
+        }
+        if (node instanceof QueryNode.Range range) {
+            return compileRange(range);
+        }
+        if (node instanceof QueryNode.Term term) {
+            return compileTerm(term);
+        }
+        if (node instanceof QueryNode.Prefix prefix) {
+            SearchField field = prefix.field();
+            String value = prefix.prefix();
+            return product -> field.extract(product) instanceof String s
+                    && s.regionMatches(true, 0, value, 0, value.length());
+        }
+        QueryNode.Attribute attribute = (QueryNode.Attribute) node;
+        return product -> matchesAttribute(product, attribute.name(), attribute.value());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate<CreateProduct>[] compileOrderedByCost(List<QueryNode> children) {
+        // Evaluamos primero los predicados más baratos para cortar antes
+        return children.stream()
+                .sorted(Comparator.comparingInt(QueryCompiler::cost))
+                .map(this::compileNode)
+                .toArray(Predicate[]::new);
+    }
+
+    private static Predicate<CreateProduct> compileRange(QueryNode.Range range) {
+        SearchField field = range.field();
+        BigDecimal lower = range.lower();
+        BigDecimal upper = range.upper();
+        boolean lowerInclusive = range.lowerInclusive();
+        boolean upperInclusive = range.upperInclusive();
+        double lowerDouble = lower == null ? Double.NEGATIVE_INFINITY : lower.doubleValue();
+        double upperDouble = upper == null ? Double.POSITIVE_INFINITY : upper.doubleValue();
+        return product -> {
+            Object value = field.extract(product);
+            if (value == null) {
+                return false;
+            }
+            if (value instanceof BigDecimal decimal) {
+                if (lower != null) {
+                    int cmp = decimal.compareTo(lower);
+                    if (cmp < 0 || (cmp == 0 && !lowerInclusive)) {
+                        return false;
+                    }
+                }
+                if (upper != null) {
+                    int cmp = decimal.compareTo(upper);
+                    return cmp < 0 || (cmp == 0 && upperInclusive);
+                }
+                return true;
+            }
+            double number = ((Number) value).doubleValue();
+            return (lowerInclusive ? number >= lowerDouble : number > lowerDouble)
+                    && (upperInclusive ? number <= upperDouble : number < upperDouble);
+        };
+    }
+
+    private static Predicate<CreateProduct> compileTerm(QueryNode.Term term) {
+        SearchField field = term.field();
+        if (field.getKind() == SearchField.Kind.BOOLEAN) {
+            Set<Object> values = term.values();
+            return product -> {
+                Object value = field.extract(product);
+                return value != null && values.contains(value);
+            };
+        }
+        if (term.values().size() == 1) {
+            String expected = (String) term.values().iterator().next();
+            return product -> field.extract(product) instanceof String s && s.equalsIgnoreCase(expected);
+        }
+        Set<Object> values = term.values();
+        return product -> field.extract(product) instanceof String s
+                && values.contains(s.toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean matchesAttribute(CreateProduct product, String name, String value) {
+        Map<String, String> attributes = product.getAttributes();
+        if (attributes == null) {
+            return false;
+        }
+        for (Map.Entry<String, String> entry : attributes.entrySet()) {
+            if (entry.getKey() != null && entry.getKey().equalsIgnoreCase(name)) {
+                return value == null || (entry.getValue() != null && entry.getValue().equalsIgnoreCase(value));
+            }
+        }
+        return false;
+    }
+
+    private static int cost(QueryNode node) {
+        if (node instanceof QueryNode.And and) {
+            return and.children().stream().mapToInt(QueryCompiler::cost).sum();
+        }
+        if (node instanceof QueryNode.Or or) {
+            return or.children().stream().mapToInt(QueryCompiler::cost).sum();
+        }
+        if (node instanceof QueryNode.Not not) {
+            return cost(not.child());
+        }
+        if (node instanceof QueryNode.Term term) {
+            return term.field().getKind() == SearchField.Kind.BOOLEAN ? 1 : 3;
+        }
+        if (node instanceof QueryNode.Range) {
+            return 2;
+        }
+        return node instanceof QueryNode.Prefix ? 4 : 5;
+    }
+}
@@ -0,0 +1,132 @@
+package com.mercadolibre.product_api.search;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Representación interna y normalizada de una expresión de búsqueda.
+ * Cada nodo sabe generar su forma canónica, que se usa como clave de caché de planes.
+ */
+sealed interface QueryNode {
+
+    /** Conjunción vacía: coincide con todos los productos. */
+    QueryNode TRUE = new And(List.of());
+
+    /** Disyunción vacía: no coincide con ningún producto. */
+    QueryNode FALSE = new Or(List.of());
+
+    String canonical();
+
+    record And(List<QueryNode> children) implements QueryNode {
+        @Override
+        public String canonical() {
+            return children.isEmpty() ? "true" : join("and", children);
+        }
+    }
+
+    record Or(List<QueryNode> children) implements QueryNode {
+        @Override
+        public String canonical() {
+            return children.isEmpty() ? "false" : join("or", children);
+        }
+    }
+
+    record Not(QueryNode child) implements QueryNode {
+        @Override
+        public String canonical() {
+            return "not(" + child.canonical() + ")";
+        }
+    }
+
+    /**
+     * Rango numérico; un límite null significa que ese extremo está abierto.
+     */
+    record Range(SearchField field, BigDecimal lower, boolean lowerInclusive,
+                 BigDecimal upper, boolean upperInclusive) implements QueryNode {
+
+        boolean isEmpty() {
+            if (lower == null || upper == null) {
+                return false;
+            }
+            int cmp = lower.compareTo(upper);
+            return cmp > 0 || (cmp == 0 && !(lowerInclusive && upperInclusive));
+        }
+
+        /**
+         * Intersecta este rango con otro sobre el mismo campo, quedándose con los límites más estrictos.
+         */
+        Range intersect(Range other) {
+            BigDecimal newLower = lower;
+            boolean newLowerInclusive = lowerInclusive;
+            if (other.lower != null) {
+                int cmp = lower == null ? -1 : lower.compareTo(other.lower);
+                if (cmp < 0 || (cmp == 0 && !other.lowerInclusive)) {
+                    newLower = other.lower;
+                    newLowerInclusive = other.lowerInclusive;
+                }
+            }
+            BigDecimal newUpper = upper;
+            boolean newUpperInclusive = upperInclusive;
+            if (other.upper != null) {
+                int cmp = upper == null ? 1 : upper.compareTo(other.upper);
+                if (cmp > 0 || (cmp == 0 && !other.upperInclusive)) {
+                    newUpper = other.upper;
+                    newUpperInclusive = other.upperInclusive;
+                }
+            }
+            return new Range(field, newLower, newLowerInclusive, newUpper, newUpperInclusive);
+        }
+
+        @Override
+        public String canonical() {
+            return "range(" + field.getPath() + ","
+                    + (lower == null ? "(*" : (lowerInclusive ? "[" : "(") + lower.toPlainString()) + ","
+                    + (upper == null ? "*)" : upper.toPlainString() + (upperInclusive ? "]" : ")")) + ")";
+        }
+    }
+
+    /**
+     * Igualdad contra un conjunto de valores (ya normalizados: cadenas en minúsculas, booleanos).
+     */
+    record Term(SearchField field, Set<Object> values) implements QueryNode {
+        @Override
+        public String canonical() {
+            return "term(" + field.getPath() + "," + values.stream()
+                    .map(v -> quote(String.valueOf(v)))
+                    .sorted()
+                    .collect(Collectors.joining("|")) + ")";
+        }
+    }
+
+    record Prefix(SearchField field, String prefix) implements QueryNode {
+        @Override
+        public String canonical() {
+            return "prefix(" + field.getPath() + "," + quote(prefix) + ")";
+        }
+    }
+
+    /**
+     * Atributo de categoría; un valor null sólo exige que el atributo exista.
+     */
+    record Attribute(String name, String value) implements QueryNode {
+        @Override
+        public String canonical() {
+            return "attribute(" + quote(name) + "," + (value == null ? "*" : quote(value)) + ")";
+        }
+    }
+
+    /**
+     * Entrecomilla un valor libre para que la forma canónica no sea ambigua.
+     */
+    private static String quote(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    private static String join(String operator, List<QueryNode> children) {
+        return operator + "(" + children.stream()
+                .map(QueryNode::canonical)
+                .collect(Collectors.joining(",")) + ")";
+    }
+}
@@ -0,0 +1,119 @@
+package com.mercadolibre.product_api.search;
+
+import com.mercadolibre.product_api.config.RequestTiming;
+import com.mercadolibre.product_api.model.CreateProduct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa búsquedas idénticas que llegan al mismo tiempo ("single-flight"): la primera calcula
+ * el resultado y las demás esperan y reciben esa misma página, en lugar de copiar, filtrar y
+ * ordenar el catálogo cada una por su cuenta.
+ * <p>
+ * La clave combina los criterios normalizados, la página pedida y la versión del catálogo: una
+ * búsqueda que llega después de una escritura no se une a un cálculo anterior a ella. Sólo se
+ * comparten cálculos en curso; al terminar, la entrada se descarta y no queda nada en caché.
+ */
+@Component
+public class SearchCoalescer {
+
+    private final boolean enabled;
+    private final Map<Key, CompletableFuture<Page<CreateProduct>>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SearchCoalescer(@Value("${products.search.coalescing.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Ejecuta la búsqueda o se une a una idéntica en curso.
+     *
+     * @param criteria       Criterios normalizados (búsquedas equivalentes deben dar el mismo texto)
+     * @param pageable       Página y orden pedidos
+     * @param catalogVersion Versión del catálogo al recibir la búsqueda
+     * @param search         Cálculo de la página
+     * @return Página calculada por esta petición o por la que ya estaba en curso
+     */
+    public Page<CreateProduct> execute(String criteria, Pageable pageable, long catalogVersion,
+                                       Supplier<Page<CreateProduct>> search) {
+        if (!enabled) {
+            executions.increment();
+            return search.get();
+        }
+        Key key = new Key(criteria, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), catalogVersion);
+        CompletableFuture<Page<CreateProduct>> created = new CompletableFuture<>();
+        CompletableFuture<Page<CreateProduct>> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            // Las fases las mide la petición que calcula; ésta sólo registra cuánto esperó
+            long started = System.nanoTime();
+            try {
+                return await(existing);
+            } finally {
+                RequestTiming.record("coalesced-wait", System.nanoTime() - started);
+            }
+        }
+
+        executions.increment();
+        try {
+            Page<CreateProduct> page = search.get();
+            created.complete(page);
+            return page;
+        } catch (RuntimeException | Error e) {
+            // Los que esperaban reciben el mismo error
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private static Page<CreateProduct> await(CompletableFuture<Page<CreateProduct>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Búsquedas calculadas (no agrupadas) desde el arranque.
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /**
+     * Búsquedas que recibieron el resultado de otra idéntica en curso.
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Búsquedas distintas calculándose en este momento.
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    private record Key(String criteria, int page, int size, Sort sort, long catalogVersion) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.mercadolibre.product_api.search;
+
+import com.mercadolibre.product_api.model.CreateProduct;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Campos de producto sobre los que se pueden construir predicados de búsqueda.
+ * Cada campo conoce su tipo y cómo extraer su valor sin reflexión.
+ */
+public enum SearchField {
+
+    ID("id", Kind.STRING, CreateProduct::getId),
+    TITLE("title", Kind.STRING, CreateProduct::getTitle),
+    DESCRIPTION("description", Kind.STRING, CreateProduct::getDescription),
+    PRICE("price", Kind.NUMBER, CreateProduct::getPrice),
+    AVAILABLE_STOCK("availableStock", Kind.NUMBER, CreateProduct::getAvailableStock),
+    RATING("rating", Kind.NUMBER,
+            p -> p.getRating() == null ? null : p.getRating().getAverageRating()),
+    SELLER_ID("seller.id", Kind.STRING,
+            p -> p.getSeller() == null ? null : p.getSeller().getId()),
+    SELLER_NAME("seller.name", Kind.STRING,
+            p -> p.getSeller() == null ? null : p.getSeller().getName()),
+    SELLER_STORE_NAME("seller.storeName", Kind.STRING,
+            p -> p.getSeller() == null ? null : p.getSeller().getStoreName()),
+    SELLER_OFFICIAL_STORE("seller.isOfficialStore", Kind.BOOLEAN,
+            p -> p.getSeller() == null ? null : p.getSeller().getIsOfficialStore()),
+    SELLER_RATING("seller.rating", Kind.NUMBER,
+            p -> p.getSeller() == null ? null : p.getSeller().getRating()),
+    CATEGORY_ID("category.id", Kind.STRING,
+            p -> p.getCategory() == null ? null : p.getCategory().getId()),
+    CATEGORY_NAME("category.name", Kind.STRING,
+            p -> p.getCategory() == null ? null : p.getCategory().getName()),
+    CATEGORY_PARENT_ID("category.parentId", Kind.STRING,
+            p -> p.getCategory() == null ? null : p.getCategory().getParentId());
+
+    public enum Kind { STRING, NUMBER, BOOLEAN }
+
+    private static final Map<String, SearchField> BY_PATH = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(SearchField::getPath, Function.identity()));
+
+    private final String path;
+    private final Kind kind;
+    private final Function<CreateProduct, Object> extractor;
+
+    SearchField(String path, Kind kind, Function<CreateProduct, Object> extractor) {
+        this.path = path;
+        this.kind = kind;
+        this.extractor = extractor;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Object extract(CreateProduct product) {
+        return extractor.apply(product);
+    }
+
+    /**
+     * Busca un campo por su ruta pública (por ejemplo "seller.isOfficialStore").
+     *
+     * @param path Ruta del campo
+     * @return Campo encontrado o null si no existe
+     */
+    public static SearchField fromPath(String path) {
+        return path == null ? null : BY_PATH.get(path);
+    }
+}
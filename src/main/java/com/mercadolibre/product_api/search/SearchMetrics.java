@@ -0,0 +1,93 @@
+package com.mercadolibre.product_api.search;
+
+import com.mercadolibre.product_api.config.RequestTiming;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas de la ejecución de búsquedas: duración de cada fase en {@value #PHASE_TIMER} y, por
+ * plan de ejecución, productos evaluados ({@value #CANDIDATES}) y coincidencias ({@value #RESULTS}).
+ * Los medidores se registran una sola vez; registrar una búsqueda no busca en el registro. Las
+ * fases también se suman al {@code Server-Timing} de la petición ({@link RequestTiming}).
+ */
+@Component
+public class SearchMetrics {
+
+    static final String PHASE_TIMER = "products.search.phase";
+    static final String CANDIDATES = "products.search.candidates";
+    static final String RESULTS = "products.search.results";
+
+    /**
+     * Fases de una búsqueda. En un recorrido ordenado ({@link Plan#ORDERED}) el filtrado y la
+     * paginación ocurren juntos mientras se recorre el orden y se miden como {@code SCAN}.
+     */
+    public enum Phase {
+        FETCH, FILTER, SORT, PAGE, SCAN
+    }
+
+    /**
+     * Cómo se resolvió la búsqueda.
+     */
+    public enum Plan {
+        /** Recorrido de un índice ordenado o del ranking de popularidad */
+        ORDERED,
+        /** Candidatos de un índice secundario */
+        INDEX,
+        /** Recorrido del catálogo completo */
+        FULL_SCAN
+    }
+
+    private final Map<Phase, Timer> phases = new EnumMap<>(Phase.class);
+    private final Map<Phase, String> phaseNames = new EnumMap<>(Phase.class);
+    private final Map<Plan, DistributionSummary> candidates = new EnumMap<>(Plan.class);
+    private final Map<Plan, DistributionSummary> results = new EnumMap<>(Plan.class);
+
+    public SearchMetrics(MeterRegistry meterRegistry) {
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, Timer.builder(PHASE_TIMER)
+                    .description("Duración de cada fase de una búsqueda")
+                    .tag("phase", tagValue(phase))
+                    .register(meterRegistry));
+            phaseNames.put(phase, tagValue(phase));
+        }
+        for (Plan plan : Plan.values()) {
+            candidates.put(plan, DistributionSummary.builder(CANDIDATES)
+                    .description("Productos evaluados por búsqueda")
+                    .tag("plan", tagValue(plan))
+                    .register(meterRegistry));
+            results.put(plan, DistributionSummary.builder(RESULTS)
+                    .description("Productos que cumplen los filtros por búsqueda")
+                    .tag("plan", tagValue(plan))
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Registra la duración de una fase desde {@code startedNanos} y devuelve el instante actual,
+     * para encadenar la fase siguiente.
+     */
+    public long recordPhase(Phase phase, long startedNanos) {
+        long now = System.nanoTime();
+        phases.get(phase).record(now - startedNanos, TimeUnit.NANOSECONDS);
+        RequestTiming.record(phaseNames.get(phase), now - startedNanos);
+        return now;
+    }
+
+    /**
+     * Registra los productos evaluados y las coincidencias de una búsqueda.
+     */
+    public void recordCounts(Plan plan, long evaluated, long matched) {
+        candidates.get(plan).record(evaluated);
+        results.get(plan).record(matched);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,39 @@
+package com.mercadolibre.product_api.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.mercadolibre.product_api.model.Category;
+
+import java.io.IOException;
+
+/**
+ * Deserializador de {@link Category} sin reflexión.
+ */
+public class CategoryJsonDeserializer extends ModelDeserializer<Category> {
+
+    public CategoryJsonDeserializer() {
+        super(Category.class);
+    }
+
+    @Override
+    protected Category create() {
+        return new Category();
+    }
+
+    @Override
+    protected boolean readField(Category category, String name, JsonParser parser,
+                                DeserializationContext context) throws IOException {
+        switch (name) {
+            case "id" -> category.setId(readString(parser, context));
+            case "name" -> category.setName(readString(parser, context));
+            case "description" -> category.setDescription(readString(parser, context));
+            case "parentId" -> category.setParentId(readString(parser, context));
+            case "attributes" -> category.setAttributes(readStrings(parser, context));
+            case "active" -> category.setActive(readBoolean(parser, context));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+}
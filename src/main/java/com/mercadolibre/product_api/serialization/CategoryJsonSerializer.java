@@ -0,0 +1,25 @@
+package com.mercadolibre.product_api.serialization;
+
+import com.mercadolibre.product_api.model.Category;
+
+import java.io.IOException;
+
+/**
+ * Serializador de {@link Category} sin reflexión.
+ */
+public class CategoryJsonSerializer extends ModelSerializer<Category> {
+
+    public CategoryJsonSerializer() {
+        super(Category.class);
+    }
+
+    @Override
+    protected void writeFields(Category category, Fields fields) throws IOException {
+        fields.string("id", category.getId());
+        fields.string("name", category.getName());
+        fields.string("description", category.getDescription());
+        fields.string("parentId", category.getParentId());
+        fields.strings("attributes", category.getAttributes());
+        fields.bool("active", category.getActive());
+    }
+}
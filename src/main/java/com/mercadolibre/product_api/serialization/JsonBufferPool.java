@@ -0,0 +1,104 @@
+package com.mercadolibre.product_api.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Pool acotado de buffers de salida para serializar a {@code byte[]}.
+ * <p>
+ * {@link ObjectMapper#writeValueAsBytes} arma cada resultado con un buffer nuevo que crece por
+ * bloques, así que un producto con muchas reseñas asigna varios bloques intermedios por
+ * serialización. Aquí cada buffer es un único arreglo que conserva su capacidad al volver al
+ * pool, y las serializaciones siguientes escriben en él sin volver a crecer; sólo se asigna el
+ * arreglo final. Los buffers que crecieron más de {@link #MAX_RETAINED_BYTES} no se conservan.
+ */
+public final class JsonBufferPool {
+
+    private static final int INITIAL_BYTES = 4096;
+    private static final int MAX_RETAINED_BYTES = 256 * 1024;
+
+    private final BlockingQueue<Buffer> buffers;
+
+    /**
+     * @param capacity Cantidad máxima de buffers libres que se conservan
+     */
+    public JsonBufferPool(int capacity) {
+        this.buffers = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Serializa un valor con un buffer del pool.
+     *
+     * @param objectMapper Mapper con la configuración de la respuesta
+     * @param value        Valor a serializar
+     * @return Bytes UTF-8 del JSON
+     */
+    public byte[] writeValueAsBytes(ObjectMapper objectMapper, Object value) throws IOException {
+        Buffer buffer = buffers.poll();
+        if (buffer == null) {
+            buffer = new Buffer();
+        }
+        try {
+            objectMapper.writeValue(buffer, value);
+            return buffer.toByteArray();
+        } finally {
+            buffer.reset();
+            if (buffer.capacity() <= MAX_RETAINED_BYTES) {
+                buffers.offer(buffer);
+            }
+        }
+    }
+
+    /**
+     * Cantidad de buffers libres en el pool.
+     */
+    public int available() {
+        return buffers.size();
+    }
+
+    /**
+     * Arreglo que crece al doble y se reutiliza; sin sincronización porque cada buffer
+     * lo usa un solo hilo a la vez.
+     */
+    private static final class Buffer extends OutputStream {
+
+        private byte[] bytes = new byte[INITIAL_BYTES];
+        private int length;
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(length + 1);
+            bytes[length++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] source, int offset, int count) {
+            ensureCapacity(length + count);
+            System.arraycopy(source, offset, bytes, length, count);
+            length += count;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+
+        void reset() {
+            length = 0;
+        }
+
+        int capacity() {
+            return bytes.length;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.mercadolibre.product_api.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base de los deserializadores escritos a mano para los modelos: recorren los tokens del
+ * objeto y asignan cada propiedad conocida sin pasar por reflexión.
+ * <p>
+ * Mantienen el comportamiento de la deserialización por reflexión en lo que usa la API: el
+ * objeto se crea con su constructor vacío (conserva los valores por defecto), los números y
+ * booleanos se aceptan también como texto, un texto vacío en un campo numérico es null y las
+ * propiedades desconocidas se delegan en el contexto, que las ignora o falla según
+ * {@code FAIL_ON_UNKNOWN_PROPERTIES}.
+ */
+abstract class ModelDeserializer<T> extends StdDeserializer<T> {
+
+    protected ModelDeserializer(Class<T> type) {
+        super(type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public final T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (T) context.handleUnexpectedToken(handledType(), parser);
+        }
+        T value = create();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            try {
+                if (!readField(value, name, parser, context)) {
+                    context.handleUnknownProperty(parser, this, value, name);
+                }
+            } catch (JsonMappingException e) {
+                throw JsonMappingException.wrapWithPath(e, value, name);
+            }
+        }
+        return value;
+    }
+
+    protected abstract T create();
+
+    /**
+     * Lee el valor de una propiedad; el parser está sobre el primer token del valor.
+     *
+     * @return false si la propiedad no es del modelo
+     */
+    protected abstract boolean readField(T value, String name, JsonParser parser,
+                                         DeserializationContext context) throws IOException;
+
+    // ---------------------------------------------------------------------
+    // Lectura de valores
+    // ---------------------------------------------------------------------
+
+    static String readString(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            return parser.getValueAsString();
+        }
+        return (String) context.handleUnexpectedToken(String.class, parser);
+    }
+
+    static Integer readInteger(JsonParser parser, DeserializationContext context) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getValueAsInt();
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                if (text.isEmpty()) {
+                    return null;
+                }
+                try {
+                    return Integer.valueOf(text);
+                } catch (NumberFormatException e) {
+                    return (Integer) context.handleWeirdStringValue(Integer.class, text, "not a valid `Integer` value");
+                }
+            default:
+                return (Integer) context.handleUnexpectedToken(Integer.class, parser);
+        }
+    }
+
+    static Double readDouble(JsonParser parser, DeserializationContext context) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                if (text.isEmpty()) {
+                    return null;
+                }
+                try {
+                    return Double.valueOf(text);
+                } catch (NumberFormatException e) {
+                    return (Double) context.handleWeirdStringValue(Double.class, text, "not a valid `Double` value");
+                }
+            default:
+                return (Double) context.handleUnexpectedToken(Double.class, parser);
+        }
+    }
+
+    static BigDecimal readDecimal(JsonParser parser, DeserializationContext context) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDecimalValue();
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                if (text.isEmpty()) {
+                    return null;
+                }
+                try {
+                    return new BigDecimal(text);
+                } catch (NumberFormatException e) {
+                    return (BigDecimal) context.handleWeirdStringValue(BigDecimal.class, text,
+                            "not a valid `BigDecimal` value");
+                }
+            default:
+                return (BigDecimal) context.handleUnexpectedToken(BigDecimal.class, parser);
+        }
+    }
+
+    static Boolean readBoolean(JsonParser parser, DeserializationContext context) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                if (text.isEmpty()) {
+                    return null;
+                }
+                if ("true".equalsIgnoreCase(text)) {
+                    return Boolean.TRUE;
+                }
+                if ("false".equalsIgnoreCase(text)) {
+                    return Boolean.FALSE;
+                }
+                return (Boolean) context.handleWeirdStringValue(Boolean.class, text, "only \"true\" or \"false\" recognized");
+            default:
+                return (Boolean) context.handleUnexpectedToken(Boolean.class, parser);
+        }
+    }
+
+    static List<String> readStrings(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            return castList(context.handleUnexpectedToken(List.class, parser));
+        }
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readString(parser, context));
+        }
+        return values;
+    }
+
+    static List<Integer> readIntegers(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            return castList(context.handleUnexpectedToken(List.class, parser));
+        }
+        List<Integer> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readInteger(parser, context));
+        }
+        return values;
+    }
+
+    static Map<String, String> readStringMap(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            return castMap(context.handleUnexpectedToken(Map.class, parser));
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.currentName();
+            parser.nextToken();
+            values.put(key, readString(parser, context));
+        }
+        return values;
+    }
+
+    static <V> V readObject(JsonParser parser, DeserializationContext context,
+                            ModelDeserializer<V> deserializer) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : deserializer.deserialize(parser, context);
+    }
+
+    static <V> List<V> readObjects(JsonParser parser, DeserializationContext context,
+                                   ModelDeserializer<V> deserializer) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            return castList(context.handleUnexpectedToken(List.class, parser));
+        }
+        List<V> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readObject(parser, context, deserializer));
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> List<V> castList(Object value) {
+        return (List<V>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> castMap(Object value) {
+        return (Map<String, String>) value;
+    }
+}
@@ -0,0 +1,203 @@
+package com.mercadolibre.product_api.serialization;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.mercadolibre.product_api.projection.FieldProjection;
+import com.mercadolibre.product_api.projection.FieldProjectionFilter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base de los serializadores escritos a mano para los modelos: escriben cada propiedad
+ * directamente sobre el generador, en el mismo orden que la serialización por reflexión.
+ * <p>
+ * Respetan la proyección {@code fields=} (el filtro declarado con {@code @JsonFilter} no se
+ * aplica a un serializador propio) y la inclusión configurada: con {@code non_null} se omiten
+ * las propiedades nulas, con {@code always} se escriben como {@code null}.
+ */
+abstract class ModelSerializer<T> extends StdSerializer<T> {
+
+    protected ModelSerializer(Class<T> type) {
+        super(type);
+    }
+
+    @Override
+    public final void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(value);
+        writeFields(value, new Fields(generator, projectionOf(value, generator, provider), writeNulls(provider)));
+        generator.writeEndObject();
+    }
+
+    /**
+     * Escribe el objeto como valor de una propiedad de otro modelo, con la proyección y la
+     * política de nulos ya resueltas por el padre.
+     */
+    final void serializeNested(T value, Fields fields) throws IOException {
+        fields.generator.writeStartObject(value);
+        writeFields(value, fields);
+        fields.generator.writeEndObject();
+    }
+
+    protected abstract void writeFields(T value, Fields fields) throws IOException;
+
+    private FieldProjection projectionOf(T value, JsonGenerator generator, SerializerProvider provider) {
+        FilterProvider filters = provider.getFilterProvider();
+        if (filters == null) {
+            return null;
+        }
+        PropertyFilter filter = filters.findPropertyFilter(FieldProjectionFilter.ID, value);
+        return filter instanceof FieldProjectionFilter projection
+                ? projection.projectionFor(generator.getOutputContext())
+                : null;
+    }
+
+    private boolean writeNulls(SerializerProvider provider) {
+        JsonInclude.Include inclusion = provider.getConfig()
+                .getDefaultPropertyInclusion(handledType())
+                .getValueInclusion();
+        return inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+    }
+
+    /**
+     * Escritura de las propiedades de un objeto; cada método decide si la propiedad
+     * se incluye según la proyección y si es nula.
+     */
+    static final class Fields {
+
+        private final JsonGenerator generator;
+        // null cuando no hay proyección: se escribe todo
+        private final FieldProjection projection;
+        private final boolean writeNulls;
+
+        private Fields(JsonGenerator generator, FieldProjection projection, boolean writeNulls) {
+            this.generator = generator;
+            this.projection = projection;
+            this.writeNulls = writeNulls;
+        }
+
+        void string(String name, String value) throws IOException {
+            if (name(name, value)) {
+                generator.writeString(value);
+            }
+        }
+
+        void number(String name, BigDecimal value) throws IOException {
+            if (name(name, value)) {
+                generator.writeNumber(value);
+            }
+        }
+
+        void number(String name, Integer value) throws IOException {
+            if (name(name, value)) {
+                generator.writeNumber(value.intValue());
+            }
+        }
+
+        void number(String name, Double value) throws IOException {
+            if (name(name, value)) {
+                generator.writeNumber(value.doubleValue());
+            }
+        }
+
+        void bool(String name, Boolean value) throws IOException {
+            if (name(name, value)) {
+                generator.writeBoolean(value);
+            }
+        }
+
+        void strings(String name, List<String> values) throws IOException {
+            if (name(name, values)) {
+                generator.writeStartArray(values, values.size());
+                for (String value : values) {
+                    generator.writeString(value);
+                }
+                generator.writeEndArray();
+            }
+        }
+
+        void integers(String name, List<Integer> values) throws IOException {
+            if (name(name, values)) {
+                generator.writeStartArray(values, values.size());
+                for (Integer value : values) {
+                    if (value == null) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeNumber(value.intValue());
+                    }
+                }
+                generator.writeEndArray();
+            }
+        }
+
+        void stringMap(String name, Map<String, String> values) throws IOException {
+            if (name(name, values)) {
+                generator.writeStartObject(values, values.size());
+                for (Map.Entry<String, String> entry : values.entrySet()) {
+                    // Igual que Jackson: la inclusión también rige para los valores nulos del mapa
+                    if (entry.getValue() == null && !writeNulls) {
+                        continue;
+                    }
+                    generator.writeFieldName(entry.getKey());
+                    generator.writeString(entry.getValue());
+                }
+                generator.writeEndObject();
+            }
+        }
+
+        <V> void object(String name, V value, ModelSerializer<V> serializer) throws IOException {
+            if (name(name, value)) {
+                serializer.serializeNested(value, child(name));
+            }
+        }
+
+        <V> void objects(String name, List<V> values, ModelSerializer<V> serializer) throws IOException {
+            if (name(name, values)) {
+                Fields child = child(name);
+                generator.writeStartArray(values, values.size());
+                for (V value : values) {
+                    if (value == null) {
+                        generator.writeNull();
+                    } else {
+                        serializer.serializeNested(value, child);
+                    }
+                }
+                generator.writeEndArray();
+            }
+        }
+
+        /**
+         * Escribe el nombre de la propiedad si corresponde incluirla.
+         *
+         * @return true si falta escribir el valor; false si se omitió o ya se escribió null
+         */
+        private boolean name(String name, Object value) throws IOException {
+            if (projection != null && !projection.includes(name)) {
+                return false;
+            }
+            if (value == null) {
+                if (writeNulls) {
+                    generator.writeNullField(name);
+                }
+                return false;
+            }
+            generator.writeFieldName(name);
+            return true;
+        }
+
+        /**
+         * Escritura del sub-objeto de una propiedad. Sin proyección (o si incluye todo el
+         * sub-objeto) se reutiliza la misma instancia, así no se asigna una por cada objeto anidado.
+         */
+        private Fields child(String name) {
+            FieldProjection child = projection == null ? null : projection.child(name);
+            return child == projection ? this : new Fields(generator, child, writeNulls);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.mercadolibre.product_api.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.mercadolibre.product_api.model.CreateProduct;
+
+import java.io.IOException;
+
+/**
+ * Deserializador de {@link CreateProduct} sin reflexión.
+ */
+public class ProductJsonDeserializer extends ModelDeserializer<CreateProduct> {
+
+    private final SellerJsonDeserializer sellerDeserializer = new SellerJsonDeserializer();
+    private final ProductRatingJsonDeserializer ratingDeserializer = new ProductRatingJsonDeserializer();
+    private final CategoryJsonDeserializer categoryDeserializer = new CategoryJsonDeserializer();
+
+    public ProductJsonDeserializer() {
+        super(CreateProduct.class);
+    }
+
+    @Override
+    protected CreateProduct create() {
+        return new CreateProduct();
+    }
+
+    @Override
+    protected boolean readField(CreateProduct product, String name, JsonParser parser,
+                                DeserializationContext context) throws IOException {
+        switch (name) {
+            case "id" -> product.setId(readString(parser, context));
+            case "title" -> product.setTitle(readString(parser, context));
+            case "description" -> product.setDescription(readString(parser, context));
+            case "price" -> product.setPrice(readDecimal(parser, context));
+            case "images" -> product.setImages(readStrings(parser, context));
+            case "seller" -> product.setSeller(readObject(parser, context, sellerDeserializer));
+            case "availableStock" -> product.setAvailableStock(readInteger(parser, context));
+            case "paymentMethods" -> product.setPaymentMethods(readStrings(parser, context));
+            case "rating" -> product.setRating(readObject(parser, context, ratingDeserializer));
+            case "category" -> product.setCategory(readObject(parser, context, categoryDeserializer));
+            case "attributes" -> product.setAttributes(readStringMap(parser, context));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,29 @@
+package com.mercadolibre.product_api.serialization;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.mercadolibre.product_api.model.Category;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.ProductRating;
+import com.mercadolibre.product_api.model.Review;
+import com.mercadolibre.product_api.model.Seller;
+
+/**
+ * Módulo de Jackson que reemplaza la (de)serialización por reflexión de los modelos del
+ * catálogo por los serializadores escritos a mano de este paquete.
+ */
+public class ProductJsonModule extends SimpleModule {
+
+    public ProductJsonModule() {
+        super("ProductJsonModule");
+        addSerializer(CreateProduct.class, new ProductJsonSerializer());
+        addSerializer(Seller.class, new SellerJsonSerializer());
+        addSerializer(Category.class, new CategoryJsonSerializer());
+        addSerializer(ProductRating.class, new ProductRatingJsonSerializer());
+        addSerializer(Review.class, new ReviewJsonSerializer());
+        addDeserializer(CreateProduct.class, new ProductJsonDeserializer());
+        addDeserializer(Seller.class, new SellerJsonDeserializer());
+        addDeserializer(Category.class, new CategoryJsonDeserializer());
+        addDeserializer(ProductRating.class, new ProductRatingJsonDeserializer());
+        addDeserializer(Review.class, new ReviewJsonDeserializer());
+    }
+}
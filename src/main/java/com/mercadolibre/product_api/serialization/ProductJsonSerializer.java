@@ -0,0 +1,35 @@
+package com.mercadolibre.product_api.serialization;
+
+import com.mercadolibre.product_api.model.CreateProduct;
+
+import java.io.IOException;
+
+/**
+ * Serializador de {@link CreateProduct} sin reflexión. Los objetos anidados se escriben con
+ * sus propios serializadores, pasándoles el nodo de la proyección ya resuelto.
+ */
+public class ProductJsonSerializer extends ModelSerializer<CreateProduct> {
+
+    private final SellerJsonSerializer sellerSerializer = new SellerJsonSerializer();
+    private final ProductRatingJsonSerializer ratingSerializer = new ProductRatingJsonSerializer();
+    private final CategoryJsonSerializer categorySerializer = new CategoryJsonSerializer();
+
+    public ProductJsonSerializer() {
+        super(CreateProduct.class);
+    }
+
+    @Override
+    protected void writeFields(CreateProduct product, Fields fields) throws IOException {
+        fields.string("id", product.getId());
+        fields.string("title", product.getTitle());
+        fields.string("description", product.getDescription());
+        fields.number("price", product.getPrice());
+        fields.strings("images", product.getImages());
+        fields.object("seller", product.getSeller(), sellerSerializer);
+        fields.number("availableStock", product.getAvailableStock());
+        fields.strings("paymentMethods", product.getPaymentMethods());
+        fields.object("rating", product.getRating(), ratingSerializer);
+        fields.object("category", product.getCategory(), categorySerializer);
+        fields.stringMap("attributes", product.getAttributes());
+    }
+}
@@ -0,0 +1,39 @@
+package com.mercadolibre.product_api.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.mercadolibre.product_api.model.ProductRating;
+
+import java.io.IOException;
+
+/**
+ * Deserializador de {@link ProductRating} sin reflexión.
+ */
+public class ProductRatingJsonDeserializer extends ModelDeserializer<ProductRating> {
+
+    private final ReviewJsonDeserializer reviewDeserializer = new ReviewJsonDeserializer();
+
+    public ProductRatingJsonDeserializer() {
+        super(ProductRating.class);
+    }
+
+    @Override
+    protected ProductRating create() {
+        return new ProductRating();
+    }
+
+    @Override
+    protected boolean readField(ProductRating rating, String name, JsonParser parser,
+                                DeserializationContext context) throws IOException {
+        switch (name) {
+            case "averageRating" -> rating.setAverageRating(readDouble(parser, context));
+            case "totalRatings" -> rating.setTotalRatings(readInteger(parser, context));
+            case "ratingHistogram" -> rating.setRatingHistogram(readIntegers(parser, context));
+            case "reviews" -> rating.setReviews(readObjects(parser, context, reviewDeserializer));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+}
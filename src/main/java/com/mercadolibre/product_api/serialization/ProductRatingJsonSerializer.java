@@ -0,0 +1,26 @@
+package com.mercadolibre.product_api.serialization;
+
+import com.mercadolibre.product_api.model.ProductRating;
+
+import java.io.IOException;
+
+/**
+ * Serializador de {@link ProductRating} sin reflexión; las reseñas se escriben con
+ * {@link ReviewJsonSerializer}.
+ */
+public class ProductRatingJsonSerializer extends ModelSerializer<ProductRating> {
+
+    private final ReviewJsonSerializer reviewSerializer = new ReviewJsonSerializer();
+
+    public ProductRatingJsonSerializer() {
+        super(ProductRating.class);
+    }
+
+    @Override
+    protected void writeFields(ProductRating rating, Fields fields) throws IOException {
+        fields.number("averageRating", rating.getAverageRating());
+        fields.number("totalRatings", rating.getTotalRatings());
+        fields.integers("ratingHistogram", rating.getRatingHistogram());
+        fields.objects("reviews", rating.getReviews(), reviewSerializer);
+    }
+}
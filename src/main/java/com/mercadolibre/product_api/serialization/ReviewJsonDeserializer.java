@@ -0,0 +1,37 @@
+package com.mercadolibre.product_api.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.mercadolibre.product_api.model.Review;
+
+import java.io.IOException;
+
+/**
+ * Deserializador de {@link Review} sin reflexión.
+ */
+public class ReviewJsonDeserializer extends ModelDeserializer<Review> {
+
+    public ReviewJsonDeserializer() {
+        super(Review.class);
+    }
+
+    @Override
+    protected Review create() {
+        return new Review();
+    }
+
+    @Override
+    protected boolean readField(Review review, String name, JsonParser parser,
+                                DeserializationContext context) throws IOException {
+        switch (name) {
+            case "userId" -> review.setUserId(readString(parser, context));
+            case "comment" -> review.setComment(readString(parser, context));
+            case "rating" -> review.setRating(readInteger(parser, context));
+            case "date" -> review.setDate(readString(parser, context));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,23 @@
+package com.mercadolibre.product_api.serialization;
+
+import com.mercadolibre.product_api.model.Review;
+
+import java.io.IOException;
+
+/**
+ * Serializador de {@link Review} sin reflexión.
+ */
+public class ReviewJsonSerializer extends ModelSerializer<Review> {
+
+    public ReviewJsonSerializer() {
+        super(Review.class);
+    }
+
+    @Override
+    protected void writeFields(Review review, Fields fields) throws IOException {
+        fields.string("userId", review.getUserId());
+        fields.string("comment", review.getComment());
+        fields.number("rating", review.getRating());
+        fields.string("date", review.getDate());
+    }
+}
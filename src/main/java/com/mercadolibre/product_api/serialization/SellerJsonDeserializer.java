@@ -0,0 +1,38 @@
+package com.mercadolibre.product_api.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.mercadolibre.product_api.model.Seller;
+
+import java.io.IOException;
+
+/**
+ * Deserializador de {@link Seller} sin reflexión.
+ */
+public class SellerJsonDeserializer extends ModelDeserializer<Seller> {
+
+    public SellerJsonDeserializer() {
+        super(Seller.class);
+    }
+
+    @Override
+    protected Seller create() {
+        return new Seller();
+    }
+
+    @Override
+    protected boolean readField(Seller seller, String name, JsonParser parser,
+                                DeserializationContext context) throws IOException {
+        switch (name) {
+            case "id" -> seller.setId(readString(parser, context));
+            case "name" -> seller.setName(readString(parser, context));
+            case "storeName" -> seller.setStoreName(readString(parser, context));
+            case "isOfficialStore" -> seller.setIsOfficialStore(readBoolean(parser, context));
+            case "rating" -> seller.setRating(readDouble(parser, context));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+}
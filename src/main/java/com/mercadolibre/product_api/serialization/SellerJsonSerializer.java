@@ -0,0 +1,24 @@
+package com.mercadolibre.product_api.serialization;
+
+import com.mercadolibre.product_api.model.Seller;
+
+import java.io.IOException;
+
+/**
+ * Serializador de {@link Seller} sin reflexión.
+ */
+public class SellerJsonSerializer extends ModelSerializer<Seller> {
+
+    public SellerJsonSerializer() {
+        super(Seller.class);
+    }
+
+    @Override
+    protected void writeFields(Seller seller, Fields fields) throws IOException {
+        fields.string("id", seller.getId());
+        fields.string("name", seller.getName());
+        fields.string("storeName", seller.getStoreName());
+        fields.bool("isOfficialStore", seller.getIsOfficialStore());
+        fields.number("rating", seller.getRating());
+    }
+}
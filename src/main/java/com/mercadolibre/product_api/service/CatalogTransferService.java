@@ -0,0 +1,163 @@
+package com.mercadolibre.product_api.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.mercadolibre.product_api.dto.ImportLineError;
+import com.mercadolibre.product_api.dto.ImportResponse;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.repository.ProductMutation;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Servicio de exportación e importación del catálogo completo en NDJSON (un producto por línea).
+ * Ambos sentidos trabajan en streaming con memoria constante: la exportación escribe
+ * cada producto a medida que recorre el repositorio y la importación lee de a un producto
+ * y aplica lotes de tamaño fijo. Como la lectura del cuerpo es bloqueante, no se lee el
+ * siguiente lote hasta haber aplicado el anterior, y el emisor queda frenado por TCP.
+ */
+@Slf4j
+@Service
+public class CatalogTransferService {
+
+    // Líneas rechazadas que se detallan en la respuesta; el resto sólo se cuenta
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ProductRepository productRepository;
+    private final ReviewService reviewService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int batchSize;
+
+    public CatalogTransferService(ProductRepository productRepository,
+                                  ReviewService reviewService,
+                                  ObjectMapper objectMapper,
+                                  Validator validator,
+                                  @Value("${products.import.batch-size:1000}") int batchSize) {
+        this.productRepository = productRepository;
+        this.reviewService = reviewService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Escribe todos los productos como NDJSON.
+     *
+     * @param outputStream Salida; no se cierra
+     * @return Cantidad de productos exportados
+     * @throws IOException si falla la escritura
+     */
+    public long exportCatalog(OutputStream outputStream) throws IOException {
+        long[] exported = new long[1];
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream)) {
+            productRepository.forEach(product -> {
+                try {
+                    writer.write(product);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                exported[0]++;
+            });
+            writer.flush();
+            if (exported[0] > 0) {
+                outputStream.write('\n');
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("Catálogo exportado: {} productos", exported[0]);
+        return exported[0];
+    }
+
+    /**
+     * Lee productos NDJSON de la entrada y los aplica por lotes. Los productos sin ID reciben uno nuevo;
+     * los que ya existen se reemplazan. La calificación de cada línea no se toma tal cual: se
+     * recalcula desde el almacén de reseñas (ver {@link ReviewService#withStoredRating}). El
+     * archivo de datos se persiste una sola vez al final.
+     * <p>
+     * Cada producto se valida con sus anotaciones, igual que las operaciones de {@code _bulk}: las
+     * líneas inválidas no se aplican y se informan por número de línea.
+     *
+     * @param inputStream Entrada NDJSON
+     * @return Cantidad de productos y lotes aplicados, y las líneas rechazadas
+     * @throws IOException si la entrada no es NDJSON válido; los lotes anteriores al error quedan aplicados
+     */
+    public ImportResponse importCatalog(InputStream inputStream) throws IOException {
+        long start = System.nanoTime();
+        long imported = 0;
+        long batches = 0;
+        long rejected = 0;
+        List<ImportLineError> errors = new ArrayList<>();
+        List<ProductMutation> batch = new ArrayList<>(batchSize);
+        try (MappingIterator<CreateProduct> iterator = objectMapper.readerFor(CreateProduct.class)
+                .readValues(inputStream)) {
+            while (iterator.hasNextValue()) {
+                CreateProduct product = iterator.nextValue();
+                Map<String, String> violations = validate(product);
+                if (!violations.isEmpty()) {
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(ImportLineError.builder()
+                                .line(iterator.getParser().currentTokenLocation().getLineNr())
+                                .id(product.getId())
+                                .details(violations)
+                                .build());
+                    }
+                    continue;
+                }
+                // Se valida antes: una línea rechazada no lleva sus reseñas al almacén
+                batch.add(new ProductMutation.Save(reviewService.withStoredRating(product)));
+                if (batch.size() == batchSize) {
+                    productRepository.applyAll(batch, false);
+                    imported += batch.size();
+                    batches++;
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                productRepository.applyAll(batch, false);
+                imported += batch.size();
+                batches++;
+            }
+        } finally {
+            if (batches > 0) {
+                productRepository.flush();
+            }
+        }
+        log.info("Catálogo importado: {} productos en {} lotes, {} líneas rechazadas", imported, batches, rejected);
+        return ImportResponse.builder()
+                .imported(imported)
+                .rejected(rejected)
+                .errors(errors)
+                .batches(batches)
+                .tookMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+    }
+
+    private Map<String, String> validate(CreateProduct product) {
+        Map<String, String> errors = new HashMap<>();
+        for (ConstraintViolation<CreateProduct> violation : validator.validate(product)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,67 @@
+package com.mercadolibre.product_api.service;
+
+import com.mercadolibre.product_api.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Calcula ETags fuertes a partir de las versiones que el repositorio asigna en cada escritura,
+ * sin serializar los productos, y expone la política de Cache-Control de cada endpoint.
+ */
+@Service
+public class ProductETagService {
+
+    private final ProductRepository productRepository;
+    private final String productCacheControl;
+    private final String listCacheControl;
+
+    public ProductETagService(ProductRepository productRepository,
+                              @Value("${products.http.cache-control.product:no-cache}") String productCacheControl,
+                              @Value("${products.http.cache-control.list:no-cache}") String listCacheControl) {
+        this.productRepository = productRepository;
+        this.productCacheControl = productCacheControl;
+        this.listCacheControl = listCacheControl;
+    }
+
+    /**
+     * ETag de un producto. Se obtiene antes de leer el producto: si una escritura ocurre en medio,
+     * el ETag queda más viejo que el cuerpo y el cliente simplemente vuelve a descargarlo.
+     *
+     * @param id ID del producto
+     * @return ETag, o null si el producto no existe
+     */
+    public String forProduct(String id) {
+        long version = productRepository.versionOf(id);
+        return version == 0 ? null : quote(Long.toHexString(version));
+    }
+
+    /**
+     * ETag de una página de resultados: combina la clave de la búsqueda, la paginación y la
+     * versión del catálogo, así se puede comparar antes de buscar. Se obtiene antes de la
+     * búsqueda, igual que en forProduct: cualquier escritura lo invalida, aunque no toque la página.
+     *
+     * @param searchKey Clave normalizada de la búsqueda (ver ProductService#searchKey)
+     * @param pageable Paginación y ordenamiento pedidos
+     * @return ETag de la página
+     */
+    public String forSearch(String searchKey, Pageable pageable) {
+        long hash = 17;
+        hash = 31 * hash + searchKey.hashCode();
+        hash = 31 * hash + pageable.hashCode();
+        hash = 31 * hash + productRepository.catalogVersion();
+        return quote(Long.toHexString(hash));
+    }
+
+    private String quote(String value) {
+        return "\"" + Long.toHexString(productRepository.getEpoch()) + "-" + value + "\"";
+    }
+
+    public String getProductCacheControl() {
+        return productCacheControl;
+    }
+
+    public String getListCacheControl() {
+        return listCacheControl;
+    }
+}
@@ -2,17 +2,42 @@
 package com.mercadolibre.product_api.service;
 
 // Importamos los DTOs
+import com.mercadolibre.product_api.dto.BulkItemResult;
+import com.mercadolibre.product_api.dto.BulkOperation;
+import com.mercadolibre.product_api.dto.BulkResponse;
 import com.mercadolibre.product_api.dto.CreateProductRequest;
+import com.mercadolibre.product_api.dto.MultiGetResponse;
 import com.mercadolibre.product_api.dto.PagedResponse;
 import com.mercadolibre.product_api.dto.ProductSearchParams;
+import com.mercadolibre.product_api.dto.SearchExpression;
+import com.mercadolibre.product_api.dto.StandingQueryInfo;
+import com.mercadolibre.product_api.dto.StandingQueryRequest;
 import com.mercadolibre.product_api.dto.UpdateProductRequest;
-// Importamos la excepción personalizada
+// Importamos las excepciones personalizadas
 import com.mercadolibre.product_api.exception.ProductNotFoundException;
+import com.mercadolibre.product_api.exception.StandingQueryNotFoundException;
 // Importamos las clases del modelo
 import com.mercadolibre.product_api.model.CreateProduct;
 import com.mercadolibre.product_api.model.ProductRating;
-// Importamos el repositorio
+// Importamos el registro de búsquedas guardadas
+import com.mercadolibre.product_api.percolator.StandingQuery;
+import com.mercadolibre.product_api.percolator.StandingQueryRegistry;
+// Importamos el seguimiento de popularidad
+import com.mercadolibre.product_api.popularity.PopularityTracker;
+// Importamos el repositorio y el administrador de índices secundarios
+import com.mercadolibre.product_api.index.IndexManager;
+import com.mercadolibre.product_api.repository.ProductMutation;
 import com.mercadolibre.product_api.repository.ProductRepository;
+// Importamos el compilador de expresiones de búsqueda
+import com.mercadolibre.product_api.search.CompiledQuery;
+import com.mercadolibre.product_api.search.FieldConstraint;
+import com.mercadolibre.product_api.search.QueryCompiler;
+import com.mercadolibre.product_api.search.SearchCoalescer;
+import com.mercadolibre.product_api.search.SearchField;
+import com.mercadolibre.product_api.search.SearchMetrics;
+// Importamos la validación de Bean Validation para validar cada operación de una carga masiva
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 // Importamos Lombok para reducir código boilerplate
 import lombok.RequiredArgsConstructor;
 // Importamos anotación de servicio de Spring
@@ -20,11 +45,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 // Importamos clases de utilidad
+import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Servicio que implementa la lógica de negocio para la gestión de productos.
@@ -45,6 +74,27 @@ public class ProductService {
     // Inyectamos el repositorio de productos
     private final ProductRepository productRepository;
 
+    // Inyectamos el compilador de expresiones de búsqueda
+    private final QueryCompiler queryCompiler;
+
+    // Inyectamos el administrador de índices secundarios
+    private final IndexManager indexManager;
+
+    // Inyectamos el registro de búsquedas guardadas
+    private final StandingQueryRegistry standingQueryRegistry;
+
+    // Inyectamos el validador para las operaciones de carga masiva
+    private final Validator validator;
+
+    // Inyectamos el agrupador de búsquedas idénticas concurrentes
+    private final SearchCoalescer searchCoalescer;
+
+    // Inyectamos el seguimiento de popularidad para ordenar por sort=popularity
+    private final PopularityTracker popularityTracker;
+
+    // Inyectamos las métricas de duración por fase y cantidad de candidatos de las búsquedas
+    private final SearchMetrics searchMetrics;
+
     /**
      * Obtiene un producto por su ID.
      * 
@@ -59,6 +109,35 @@ public class ProductService {
                         "Producto no encontrado con ID: " + id));
     }
 
+    /**
+     * Obtiene varios productos por ID en una sola pasada sobre el repositorio.
+     * Los IDs repetidos se resuelven una sola vez y los inexistentes se informan aparte.
+     * 
+     * @param ids IDs de los productos a obtener
+     * @return Productos encontrados en el orden pedido e IDs inexistentes
+     */
+    public MultiGetResponse getProductsByIds(Collection<String> ids) {
+        Set<String> uniqueIds = new LinkedHashSet<>(ids);
+        List<CreateProduct> products = productRepository.findAllById(uniqueIds);
+
+        // Los IDs sin producto son los que no aparecen entre los encontrados
+        Set<String> foundIds = new HashSet<>(products.size() * 2);
+        for (CreateProduct product : products) {
+            foundIds.add(product.getId());
+        }
+        List<String> missing = new ArrayList<>();
+        for (String id : uniqueIds) {
+            if (!foundIds.contains(id)) {
+                missing.add(id);
+            }
+        }
+
+        return MultiGetResponse.builder()
+                .products(products)
+                .missing(missing)
+                .build();
+    }
+
     /**
      * Crea un nuevo producto.
      * 
@@ -66,10 +145,21 @@ public class ProductService {
      * @return Producto creado
      */
     public CreateProduct createProduct(CreateProductRequest request) {
+        // Guardamos y retornamos el producto con un ID único generado
+        return productRepository.save(newProduct(request, UUID.randomUUID().toString()));
+    }
+
+    /**
+     * Construye un producto nuevo a partir del request, con rating inicial y valores por defecto.
+     * 
+     * @param request DTO con los datos del nuevo producto
+     * @param id      ID que tendrá el producto
+     * @return Producto listo para guardar
+     */
+    private CreateProduct newProduct(CreateProductRequest request, String id) {
         // Creamos una nueva instancia de producto
         CreateProduct product = new CreateProduct();
-        // Generamos un ID único
-        product.setId(UUID.randomUUID().toString());
+        product.setId(id);
         // Copiamos los datos del request al producto
         product.setTitle(request.getTitle());
         product.setDescription(request.getDescription());
@@ -83,13 +173,13 @@ public class ProductService {
         ProductRating rating = new ProductRating();
         rating.setAverageRating(0.0);
         rating.setTotalRatings(0);
+        rating.setRatingHistogram(List.of(0, 0, 0, 0, 0));
         rating.setReviews(new ArrayList<>());
         product.setRating(rating);
 
         // Aplicamos valores por defecto para campos opcionales
         applyDefaultValues(product);
-        // Guardamos y retornamos el producto
-        return productRepository.save(product);
+        return product;
     }
 
     /**
@@ -101,9 +191,22 @@ public class ProductService {
      * @throws ProductNotFoundException si el producto no existe
      */
     public CreateProduct updateProduct(String id, UpdateProductRequest request) {
-        // Obtenemos el producto existente
-        CreateProduct existingProduct = getProductById(id);
+        // Trabajamos sobre una copia para no modificar la instancia que ven las lecturas concurrentes
+        CreateProduct existingProduct = getProductById(id).toBuilder().build();
 
+        applyChanges(existingProduct, request);
+
+        // Guardamos y retornamos el producto actualizado
+        return productRepository.save(existingProduct);
+    }
+
+    /**
+     * Copia sobre el producto los campos no nulos del request.
+     * 
+     * @param existingProduct Copia del producto a modificar
+     * @param request         DTO con los datos a actualizar
+     */
+    private void applyChanges(CreateProduct existingProduct, UpdateProductRequest request) {
         // Actualizamos solo los campos no nulos usando Optional
         Optional.ofNullable(request.getTitle()).ifPresent(existingProduct::setTitle); // Si el título no es nulo,
                                                                                       // actualizamos el producto con el
@@ -120,10 +223,7 @@ public class ProductService {
         Optional.ofNullable(request.getPaymentMethods()).ifPresent(existingProduct::setPaymentMethods);
         Optional.ofNullable(request.getCategory()).ifPresent(existingProduct::setCategory);
         Optional.ofNullable(request.getAttributes()).ifPresent(existingProduct::setAttributes);
-        Optional.ofNullable(request.getRating()).ifPresent(existingProduct::setRating);
-
-        // Guardamos y retornamos el producto actualizado
-        return productRepository.save(existingProduct);
+        // La calificación no se copia: sólo la actualizan las reseñas (ver ReviewService)
     }
 
     /**
@@ -163,6 +263,120 @@ public class ProductService {
         productRepository.deleteById(id);
     }
 
+    /**
+     * Aplica un lote de operaciones create/upsert/update/delete.
+     * Cada operación se valida por separado y las rechazadas no impiden aplicar el resto;
+     * las aceptadas se aplican como un solo lote, con una única escritura del archivo.
+     * Dentro del lote cada operación ve el efecto de las anteriores (un update puede
+     * modificar un producto creado unas líneas antes).
+     * 
+     * @param operations Operaciones en el orden en que deben aplicarse
+     * @return Resultado de cada operación
+     */
+    public BulkResponse bulk(List<BulkOperation> operations) {
+        long start = System.nanoTime();
+        List<ProductMutation> mutations = new ArrayList<>(operations.size());
+        List<BulkItemResult> items = new ArrayList<>(operations.size());
+        // Estado de los productos tocados por el lote; Optional vacío = eliminado en el lote
+        Map<String, Optional<CreateProduct>> staged = new HashMap<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            items.add(stageOperation(i, operations.get(i), staged, mutations));
+        }
+
+        productRepository.applyAll(mutations);
+
+        return BulkResponse.builder()
+                .errors(mutations.size() < operations.size())
+                .applied(mutations.size())
+                .tookMillis((System.nanoTime() - start) / 1_000_000)
+                .items(items)
+                .build();
+    }
+
+    /**
+     * Valida una operación del lote y, si es válida, agrega su mutación.
+     */
+    private BulkItemResult stageOperation(int index, BulkOperation operation, Map<String, Optional<CreateProduct>> staged,
+                                          List<ProductMutation> mutations) {
+        BulkItemResult.BulkItemResultBuilder result = BulkItemResult.builder().index(index);
+        if (operation == null || operation.getOp() == null) {
+            return result.status(400).error("Debe indicar la operación (create, upsert, update o delete)").build();
+        }
+        result.op(operation.getOp()).id(operation.getId());
+        if (operation.getOp() != BulkOperation.Type.CREATE && operation.getId() == null) {
+            return result.status(400).error("Debe indicar el ID del producto").build();
+        }
+
+        switch (operation.getOp()) {
+            case CREATE, UPSERT -> {
+                Map<String, String> errors = validate(operation.getProduct(), "product");
+                if (!errors.isEmpty()) {
+                    return result.status(400).error("Error de validación").details(errors).build();
+                }
+                boolean exists = operation.getId() != null && stagedProduct(operation.getId(), staged) != null;
+                if (operation.getOp() == BulkOperation.Type.CREATE && exists) {
+                    return result.status(409).error("Ya existe un producto con ID: " + operation.getId()).build();
+                }
+                String id = operation.getId() != null ? operation.getId() : UUID.randomUUID().toString();
+                CreateProduct product = newProduct(operation.getProduct(), id);
+                if (exists) {
+                    // Un upsert reemplaza los datos del producto pero no su calificación, que sale de las reseñas
+                    product.setRating(stagedProduct(id, staged).getRating());
+                }
+                staged.put(id, Optional.of(product));
+                mutations.add(new ProductMutation.Save(product));
+                return result.id(id).status(exists ? 200 : 201).build();
+            }
+            case UPDATE -> {
+                Map<String, String> errors = validate(operation.getChanges(), "changes");
+                if (!errors.isEmpty()) {
+                    return result.status(400).error("Error de validación").details(errors).build();
+                }
+                CreateProduct current = stagedProduct(operation.getId(), staged);
+                if (current == null) {
+                    return result.status(404).error("Producto no encontrado con ID: " + operation.getId()).build();
+                }
+                CreateProduct updated = current.toBuilder().build();
+                applyChanges(updated, operation.getChanges());
+                staged.put(updated.getId(), Optional.of(updated));
+                mutations.add(new ProductMutation.Save(updated));
+                return result.status(200).build();
+            }
+            default -> {
+                if (stagedProduct(operation.getId(), staged) == null) {
+                    return result.status(404).error("Producto no encontrado con ID: " + operation.getId()).build();
+                }
+                staged.put(operation.getId(), Optional.empty());
+                mutations.add(new ProductMutation.Delete(operation.getId()));
+                return result.status(204).build();
+            }
+        }
+    }
+
+    /**
+     * Devuelve la versión de un producto que ve el lote: la del lote si ya fue tocado, o la del repositorio.
+     */
+    private CreateProduct stagedProduct(String id, Map<String, Optional<CreateProduct>> staged) {
+        Optional<CreateProduct> product = staged.get(id);
+        return product != null ? product.orElse(null) : productRepository.findById(id).orElse(null);
+    }
+
+    /**
+     * Valida un DTO con sus anotaciones y devuelve los errores por campo.
+     */
+    private Map<String, String> validate(Object request, String name) {
+        Map<String, String> errors = new HashMap<>();
+        if (request == null) {
+            errors.put(name, "Es obligatorio para esta operación");
+            return errors;
+        }
+        for (ConstraintViolation<Object> violation : validator.validate(request)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
     /**
      * Obtiene todos los productos con paginación.
      * 
@@ -170,28 +384,7 @@ public class ProductService {
      * @return Página de productos
      */
     public Page<CreateProduct> getAllProducts(Pageable pageable) {
-        List<CreateProduct> allProducts = productRepository.findAll();
-        
-        // Ordenamos según el Pageable
-        List<CreateProduct> sortedProducts = allProducts.stream()
-            .sorted((p1, p2) -> {
-                for (var order : pageable.getSort()) {
-                    int comparison = compareByField(p1, p2, order.getProperty());
-                    if (comparison != 0) {
-                        return order.isAscending() ? comparison : -comparison;
-                    }
-                }
-                return 0;
-            })
-            .collect(Collectors.toList());
-
-        // Aplicamos la paginación
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), sortedProducts.size());
-        
-        List<CreateProduct> pageContent = sortedProducts.subList(start, end);
-        
-        return new PageImpl<>(pageContent, pageable, sortedProducts.size());
+        return sortAndPaginate(productRepository.findAll(), pageable);
     }
 
     /**
@@ -202,15 +395,246 @@ public class ProductService {
      * @return Página de productos filtrados
      */
     public Page<CreateProduct> searchProducts(ProductSearchParams params, Pageable pageable) {
-        List<CreateProduct> allProducts = productRepository.findAll();
+        return searchCoalescer.execute(criteriaKey(params), pageable, productRepository.catalogVersion(),
+                () -> executeSearch(buildFilterPredicate(params), buildConstraints(params), pageable));
+    }
 
-        // Aplicamos filtros
-        List<CreateProduct> filteredProducts = allProducts.stream()
-                .filter(buildFilterPredicate(params))
+    /**
+     * Recorre los productos que cumplen los filtros, sin ordenar ni paginar. Cada candidato se
+     * evalúa recién cuando el consumidor pide el siguiente, así la respuesta puede escribirse
+     * a medida que aparecen coincidencias en lugar de armar antes la lista completa.
+     * 
+     * @param params Parámetros de búsqueda
+     * @return Productos filtrados en el orden del catálogo (o del índice usado)
+     */
+    public Stream<CreateProduct> streamProducts(ProductSearchParams params) {
+        Predicate<CreateProduct> predicate = buildFilterPredicate(params);
+        List<CreateProduct> candidates = indexManager.candidates(buildConstraints(params))
+                .map(productRepository::findAllById)
+                .orElseGet(productRepository::findAll);
+        return candidates.stream().filter(predicate);
+    }
+
+    /**
+     * Busca productos evaluando una expresión booleana compilada.
+     * La expresión se valida y normaliza, y su plan compilado se reutiliza entre peticiones equivalentes.
+     * 
+     * @param expression Expresión de búsqueda
+     * @param pageable Información de paginación y ordenamiento
+     * @return Página de productos que cumplen la expresión
+     * @throws com.mercadolibre.product_api.exception.InvalidSearchExpressionException si la expresión no es válida
+     */
+    public Page<CreateProduct> searchProducts(SearchExpression expression, Pageable pageable) {
+        // Compilamos (o recuperamos de caché) el plan de la expresión
+        CompiledQuery query = queryCompiler.compile(expression);
+        return searchCoalescer.execute(expressionKey(query), pageable, productRepository.catalogVersion(),
+                () -> executeSearch(query.predicate(), query.constraints(), pageable));
+    }
+
+    /**
+     * Clave de una búsqueda por filtros: la misma con la que se agrupan las búsquedas idénticas.
+     * 
+     * @param params Parámetros de búsqueda
+     * @return Clave normalizada de los filtros
+     */
+    public String searchKey(ProductSearchParams params) {
+        return criteriaKey(params);
+    }
+
+    /**
+     * Clave de una búsqueda por expresión, a partir de su forma canónica. Compila la expresión
+     * (o recupera el plan de la caché), así que una expresión inválida falla acá.
+     * 
+     * @param expression Expresión de búsqueda
+     * @return Clave normalizada de la expresión
+     * @throws com.mercadolibre.product_api.exception.InvalidSearchExpressionException si la expresión no es válida
+     */
+    public String searchKey(SearchExpression expression) {
+        return expressionKey(queryCompiler.compile(expression));
+    }
+
+    private static String expressionKey(CompiledQuery query) {
+        return "expression:" + query.canonicalKey();
+    }
+
+    /**
+     * Forma normalizada de los filtros, igual para búsquedas que devuelven lo mismo: los textos
+     * se comparan sin distinguir mayúsculas y los precios por valor (10 y 10.00 son iguales).
+     * 
+     * @param params Parámetros de búsqueda
+     * @return Clave de los filtros para agrupar búsquedas idénticas
+     */
+    private static String criteriaKey(ProductSearchParams params) {
+        return "params:" + text(params.getQuery())
+                + '|' + plain(params.getMinPrice())
+                + '|' + plain(params.getMaxPrice())
+                + '|' + params.getIsOfficialStore()
+                + '|' + params.getMinRating()
+                + '|' + text(params.getStoreName());
+    }
+
+    // Los textos llevan su longitud delante para que un separador dentro del texto no genere claves ambiguas
+    private static String text(String value) {
+        if (value == null) {
+            return "null";
+        }
+        String lower = value.toLowerCase();
+        return lower.length() + ":" + lower;
+    }
+
+    private static String plain(BigDecimal value) {
+        return value == null ? null : value.stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Registra una búsqueda guardada. Cada producto creado o actualizado que pase a cumplirla
+     * genera un evento de coincidencia, sin que el cliente tenga que consultar periódicamente.
+     * 
+     * @param request Suscriptor y filtros de la búsqueda
+     * @return Búsqueda registrada
+     */
+    public StandingQueryInfo registerStandingQuery(StandingQueryRequest request) {
+        ProductSearchParams params = request.getParams();
+        return toInfo(standingQueryRegistry.register(request.getSubscriber(), params, buildFilterPredicate(params)));
+    }
+
+    /**
+     * Lista las búsquedas guardadas en orden de registro.
+     * 
+     * @return Búsquedas guardadas
+     */
+    public List<StandingQueryInfo> getStandingQueries() {
+        return standingQueryRegistry.findAll().stream()
+                .map(this::toInfo)
                 .collect(Collectors.toList());
+    }
+
+    /**
+     * Elimina una búsqueda guardada.
+     * 
+     * @param id ID de la búsqueda
+     * @throws StandingQueryNotFoundException si la búsqueda no existe
+     */
+    public void deleteStandingQuery(String id) {
+        if (!standingQueryRegistry.remove(id)) {
+            throw new StandingQueryNotFoundException("Búsqueda guardada no encontrada con ID: " + id);
+        }
+    }
+
+    private StandingQueryInfo toInfo(StandingQuery query) {
+        return StandingQueryInfo.builder()
+                .id(query.getId())
+                .subscriber(query.getSubscriber())
+                .params(query.getParams())
+                .anchor(query.getAnchor().toString())
+                .matches(query.getMatches())
+                .createdAt(query.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * Ejecuta una búsqueda usando índices secundarios cuando existen y registra su uso.
+     * Si alguna restricción tiene índice, se parte de sus candidatos; si no, y se ordena por un
+     * único campo indexado o por popularidad, se recorre ese orden ya mantenido; en otro caso se
+     * recorre el catálogo.
+     * 
+     * @param predicate Predicado completo que deben cumplir los resultados
+     * @param constraints Restricciones indexables incluidas en el predicado
+     * @param pageable Información de paginación y ordenamiento
+     * @return Página de productos filtrados
+     */
+    private Page<CreateProduct> executeSearch(Predicate<CreateProduct> predicate, List<FieldConstraint> constraints,
+                                              Pageable pageable) {
+        long started = System.nanoTime();
+        Optional<Collection<String>> candidateIds = indexManager.candidates(constraints);
+
+        if (candidateIds.isEmpty() && pageable.getSort().stream().count() == 1) {
+            Sort.Order order = pageable.getSort().iterator().next();
+            List<CreateProduct> pageContent = new ArrayList<>();
+            long[] total = new long[1];
+            long[] evaluated = new long[1];
+            Consumer<String> collector = id -> {
+                evaluated[0]++;
+                productRepository.findById(id).filter(predicate).ifPresent(product -> {
+                    // El índice ya entrega el orden: sólo contamos y recortamos la página
+                    if (total[0] >= pageable.getOffset() && pageContent.size() < pageable.getPageSize()) {
+                        pageContent.add(product);
+                    }
+                    total[0]++;
+                });
+            };
+            boolean served;
+            if (PopularityTracker.SORT_PROPERTY.equals(order.getProperty())) {
+                // El ranking de popularidad se mantiene ordenado en segundo plano
+                popularityTracker.forEachOrdered(order.isAscending(), collector);
+                served = true;
+            } else {
+                served = indexManager.forEachOrdered(order.getProperty(), order.isAscending(), collector);
+            }
+            if (served) {
+                searchMetrics.recordPhase(SearchMetrics.Phase.SCAN, started);
+                searchMetrics.recordCounts(SearchMetrics.Plan.ORDERED, evaluated[0], total[0]);
+                indexManager.recordSearch(constraints, pageable.getSort(), total[0], productRepository.count());
+                return new PageImpl<>(pageContent, pageable, total[0]);
+            }
+            // El campo no tiene índice: el recorrido no se hizo y se sigue como búsqueda común
+        }
 
+        List<CreateProduct> candidates = candidateIds
+                .map(productRepository::findAllById)
+                .orElseGet(productRepository::findAll);
+        long phaseStarted = searchMetrics.recordPhase(SearchMetrics.Phase.FETCH, started);
+
+        // Aplicamos filtros
+        List<CreateProduct> filteredProducts = new ArrayList<>();
+        for (CreateProduct product : candidates) {
+            if (predicate.test(product)) {
+                filteredProducts.add(product);
+            }
+        }
+        searchMetrics.recordPhase(SearchMetrics.Phase.FILTER, phaseStarted);
+        searchMetrics.recordCounts(candidateIds.isPresent() ? SearchMetrics.Plan.INDEX : SearchMetrics.Plan.FULL_SCAN,
+                candidates.size(), filteredProducts.size());
+
+        indexManager.recordSearch(constraints, pageable.getSort(), filteredProducts.size(), productRepository.count());
+        return sortAndPaginate(filteredProducts, pageable);
+    }
+
+    /**
+     * Traduce los parámetros de búsqueda indexables a restricciones por campo.
+     * Los filtros por texto (query, storeName) buscan subcadenas y no se resuelven con índices.
+     * 
+     * @param params Parámetros de búsqueda
+     * @return Restricciones indexables
+     */
+    private List<FieldConstraint> buildConstraints(ProductSearchParams params) {
+        List<FieldConstraint> constraints = new ArrayList<>();
+        if (params.getMinPrice() != null || params.getMaxPrice() != null) {
+            constraints.add(new FieldConstraint.Range(SearchField.PRICE,
+                    params.getMinPrice(), true, params.getMaxPrice(), true));
+        }
+        if (params.getIsOfficialStore() != null) {
+            constraints.add(new FieldConstraint.Terms(SearchField.SELLER_OFFICIAL_STORE,
+                    Set.of(params.getIsOfficialStore())));
+        }
+        if (params.getMinRating() != null) {
+            constraints.add(new FieldConstraint.Range(SearchField.RATING,
+                    BigDecimal.valueOf(params.getMinRating()), true, null, false));
+        }
+        return constraints;
+    }
+
+    /**
+     * Ordena una lista de productos según el Pageable y extrae la página solicitada.
+     * 
+     * @param products Productos a ordenar
+     * @param pageable Información de paginación y ordenamiento
+     * @return Página de productos
+     */
+    private Page<CreateProduct> sortAndPaginate(List<CreateProduct> products, Pageable pageable) {
+        long started = System.nanoTime();
         // Ordenamos según el Pageable
-        List<CreateProduct> sortedProducts = filteredProducts.stream()
+        List<CreateProduct> sortedProducts = products.stream()
             .sorted((p1, p2) -> {
                 for (var order : pageable.getSort()) {
                     int comparison = compareByField(p1, p2, order.getProperty());
@@ -221,14 +645,17 @@ public class ProductService {
                 return 0;
             })
             .collect(Collectors.toList());
+        long phaseStarted = searchMetrics.recordPhase(SearchMetrics.Phase.SORT, started);
 
         // Aplicamos la paginación
-        int start = (int) pageable.getOffset();
+        int start = (int) Math.min(pageable.getOffset(), sortedProducts.size());
         int end = Math.min((start + pageable.getPageSize()), sortedProducts.size());
         
         List<CreateProduct> pageContent = sortedProducts.subList(start, end);
         
-        return new PageImpl<>(pageContent, pageable, sortedProducts.size());
+        Page<CreateProduct> page = new PageImpl<>(pageContent, pageable, sortedProducts.size());
+        searchMetrics.recordPhase(SearchMetrics.Phase.PAGE, phaseStarted);
+        return page;
     }
 
     /**
@@ -293,6 +720,10 @@ public class ProductService {
                 p2.getRating().getAverageRating()
             );
             case "title" -> p1.getTitle().compareTo(p2.getTitle());
+            case PopularityTracker.SORT_PROPERTY -> Double.compare(
+                popularityTracker.scoreOf(p1.getId()),
+                popularityTracker.scoreOf(p2.getId())
+            );
             default -> 0;
         };
     }
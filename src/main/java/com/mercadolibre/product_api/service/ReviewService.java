@@ -0,0 +1,248 @@
+package com.mercadolibre.product_api.service;
+
+import com.mercadolibre.product_api.dto.ReviewPage;
+import com.mercadolibre.product_api.dto.ReviewRequest;
+import com.mercadolibre.product_api.dto.ReviewResponse;
+import com.mercadolibre.product_api.exception.ProductNotFoundException;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.ProductRating;
+import com.mercadolibre.product_api.model.Review;
+import com.mercadolibre.product_api.repository.ProductChangeListener;
+import com.mercadolibre.product_api.repository.ProductMutation;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import com.mercadolibre.product_api.repository.ReviewRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reseñas de productos: se guardan en {@link ReviewRepository} y el producto sólo lleva la
+ * calificación agregada y las {@code products.reviews.recent-count} reseñas más recientes, así
+ * un producto con miles de reseñas no agranda cada lectura, búsqueda ni escritura del catálogo.
+ * <p>
+ * Al arrancar, las reseñas que los productos todavía traen embebidas y que no están en el
+ * almacén de reseñas se copian a él, y los productos con más reseñas que las recientes se
+ * recortan en una sola escritura.
+ */
+@Slf4j
+@Service
+public class ReviewService implements ProductChangeListener {
+
+    private static final int HISTOGRAM_BUCKETS = 5;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ProductRepository productRepository;
+    private final ReviewRepository reviewRepository;
+    private final int recentCount;
+    // Agrega al almacén y al producto en el mismo orden: sin él, dos reseñas concurrentes podían
+    // quedar A,B en el almacén y B,A entre las recientes del producto
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    public ReviewService(ProductRepository productRepository,
+                         ReviewRepository reviewRepository,
+                         @Value("${products.reviews.recent-count:5}") int recentCount) {
+        this.productRepository = productRepository;
+        this.reviewRepository = reviewRepository;
+        this.recentCount = Math.max(0, recentCount);
+    }
+
+    @PostConstruct
+    public void init() {
+        productRepository.addChangeListener(this);
+        migrateEmbeddedReviews();
+    }
+
+    /**
+     * Agrega una reseña a un producto. El promedio, el total y el histograma de calificaciones
+     * se actualizan en O(1) bajo el bloqueo del repositorio, junto con los índices que dependen
+     * de la calificación, así las reseñas concurrentes no se pisan entre sí. La calificación
+     * resultante se persiste en el journal del catálogo, sin reescribir {@code products.json}.
+     * Ambos pasos se hacen bajo un mismo bloqueo, así las reseñas recientes del producto
+     * coinciden con la primera página de {@link #getReviews}.
+     *
+     * @param id      ID del producto
+     * @param request Datos de la reseña
+     * @return Reseña agregada y calificación resultante
+     * @throws ProductNotFoundException si el producto no existe
+     */
+    public ReviewResponse addReview(String id, ReviewRequest request) {
+        requireProduct(id);
+        Review review = Review.builder()
+                .userId(request.getUserId())
+                .comment(request.getComment())
+                .rating(request.getRating())
+                .date(Instant.now().truncatedTo(ChronoUnit.SECONDS).toString())
+                .build();
+        appendLock.lock();
+        try {
+            reviewRepository.append(id, review);
+            productRepository.applyJournaled(List.of(new ProductMutation.AppendReview(id, review, recentCount)));
+        } finally {
+            appendLock.unlock();
+        }
+
+        // Si el producto se eliminó mientras tanto, la mutación se ignoró y la reseña queda huérfana
+        CreateProduct product = productRepository.findById(id).orElse(null);
+        if (product == null) {
+            reviewRepository.deleteByProductId(id);
+            throw new ProductNotFoundException("Producto no encontrado con ID: " + id);
+        }
+        ProductRating rating = product.getRating();
+        return ReviewResponse.builder()
+                .productId(id)
+                .review(review)
+                .averageRating(rating.getAverageRating())
+                .totalRatings(rating.getTotalRatings())
+                .ratingHistogram(rating.getRatingHistogram())
+                .build();
+    }
+
+    /**
+     * Página de reseñas de un producto, de la más reciente a la más antigua.
+     *
+     * @param id     ID del producto
+     * @param cursor Cursor devuelto por la página anterior; null para la primera
+     * @param size   Cantidad de reseñas por página (máximo {@value #MAX_PAGE_SIZE})
+     * @return Reseñas de la página y el cursor de la siguiente
+     * @throws ProductNotFoundException si el producto no existe
+     */
+    public ReviewPage getReviews(String id, String cursor, int size) {
+        requireProduct(id);
+        Integer before = parseCursor(cursor);
+        int limit = Math.min(Math.max(1, size), MAX_PAGE_SIZE);
+        List<Review> reviews = reviewRepository.findPage(id, before, limit);
+
+        int total = reviewRepository.count(id);
+        int end = before == null ? total : Math.min(before, total);
+        int start = end - reviews.size();
+        return ReviewPage.builder()
+                .productId(id)
+                .reviews(reviews)
+                .totalReviews(total)
+                .nextCursor(start > 0 ? Integer.toString(start) : null)
+                .build();
+    }
+
+    /**
+     * Prepara un producto que llega completo desde fuera (importación): si todavía no tiene
+     * reseñas guardadas, las embebidas pasan al almacén, y la calificación se recalcula desde el
+     * almacén en lugar de tomar el promedio, el total y el histograma que trae el producto.
+     * Los productos sin ID reciben uno nuevo, porque las reseñas se guardan por ID.
+     *
+     * @param product Producto a guardar
+     * @return Copia del producto con la calificación del almacén de reseñas
+     */
+    public CreateProduct withStoredRating(CreateProduct product) {
+        String id = product.getId() != null ? product.getId() : UUID.randomUUID().toString();
+        ProductRating rating = product.getRating();
+        if (rating != null && rating.getReviews() != null && !rating.getReviews().isEmpty()
+                && reviewRepository.count(id) == 0) {
+            reviewRepository.appendAll(id, rating.getReviews());
+        }
+        return product.toBuilder().id(id).rating(ratingOf(reviewRepository.findAll(id))).build();
+    }
+
+    @Override
+    public void onSave(CreateProduct previous, CreateProduct current) {
+        // Las reseñas sólo se agregan desde addReview; PATCH y _bulk no aceptan la calificación
+        // y la importación la recalcula con withStoredRating
+    }
+
+    @Override
+    public void onDelete(CreateProduct removed) {
+        reviewRepository.deleteByProductId(removed.getId());
+    }
+
+    private void requireProduct(String id) {
+        if (!productRepository.existsById(id)) {
+            throw new ProductNotFoundException("Producto no encontrado con ID: " + id);
+        }
+    }
+
+    /**
+     * El cursor es la posición de la reseña más antigua ya devuelta: como las reseñas sólo se
+     * agregan al final, la página siguiente empieza justo antes de ella aunque lleguen otras nuevas.
+     */
+    private static Integer parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            int before = Integer.parseInt(cursor.trim());
+            if (before >= 0) {
+                return before;
+            }
+        } catch (NumberFormatException e) {
+            // Se informa abajo
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido: " + cursor);
+    }
+
+    private void migrateEmbeddedReviews() {
+        List<ProductMutation> trimmed = new ArrayList<>();
+        productRepository.forEach(product -> {
+            ProductRating rating = product.getRating();
+            if (rating == null || rating.getReviews() == null || rating.getReviews().isEmpty()
+                    || reviewRepository.count(product.getId()) > 0) {
+                return;
+            }
+            List<Review> reviews = rating.getReviews();
+            reviewRepository.appendAll(product.getId(), reviews);
+            if (reviews.size() > recentCount) {
+                ProductRating recent = ProductRating.builder()
+                        .averageRating(rating.getAverageRating())
+                        .totalRatings(rating.getTotalRatings())
+                        .ratingHistogram(rating.getRatingHistogram() != null
+                                ? rating.getRatingHistogram()
+                                : histogramOf(reviews))
+                        .reviews(List.copyOf(reviews.subList(reviews.size() - recentCount, reviews.size())))
+                        .build();
+                trimmed.add(new ProductMutation.Save(product.toBuilder().rating(recent).build()));
+            }
+        });
+        if (!trimmed.isEmpty()) {
+            productRepository.applyAll(trimmed);
+            log.info("Reseñas embebidas movidas al almacén de reseñas en {} productos", trimmed.size());
+        }
+    }
+
+    /**
+     * Calificación agregada de todas las reseñas de un producto, con las más recientes embebidas.
+     */
+    private ProductRating ratingOf(List<Review> reviews) {
+        List<Integer> histogram = histogramOf(reviews);
+        int total = 0;
+        long stars = 0;
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            total += histogram.get(i);
+            stars += (long) histogram.get(i) * (i + 1);
+        }
+        return ProductRating.builder()
+                .averageRating(total == 0 ? 0.0 : (double) stars / total)
+                .totalRatings(total)
+                .ratingHistogram(histogram)
+                .reviews(List.copyOf(reviews.subList(Math.max(0, reviews.size() - recentCount), reviews.size())))
+                .build();
+    }
+
+    private static List<Integer> histogramOf(List<Review> reviews) {
+        Integer[] histogram = {0, 0, 0, 0, 0};
+        for (Review review : reviews) {
+            Integer stars = review.getRating();
+            if (stars != null && stars >= 1 && stars <= HISTOGRAM_BUCKETS) {
+                histogram[stars - 1]++;
+            }
+        }
+        return List.of(histogram);
+    }
+}
@@ -0,0 +1,231 @@
+package com.mercadolibre.product_api.service;
+
+import com.mercadolibre.product_api.dto.StockResponse;
+import com.mercadolibre.product_api.exception.InsufficientStockException;
+import com.mercadolibre.product_api.exception.InvalidStockReleaseException;
+import com.mercadolibre.product_api.exception.ProductNotFoundException;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.repository.ProductChangeListener;
+import com.mercadolibre.product_api.repository.ProductMutation;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reservas y liberaciones de stock sin bloqueo global.
+ * <p>
+ * Cada producto con movimientos tiene un contador atómico, inicializado con su
+ * {@code availableStock}, que se ajusta con compare-and-set: dos reservas sobre el mismo
+ * producto nunca pierden una resta y el stock nunca queda negativo, y productos distintos no
+ * compiten entre sí. Los contadores modificados se aplican en lote cada
+ * {@code products.stock.flush-interval-ms} con mutaciones {@link ProductMutation.SetStock},
+ * que cambian sólo el stock sobre la versión vigente del producto. El lote se persiste en el
+ * journal del repositorio ({@link ProductRepository#applyJournaled}) sin reescribir
+ * {@code products.json}. Hasta entonces el producto muestra el stock del último lote;
+ * {@link #getStock} devuelve siempre el valor del contador.
+ * <p>
+ * Si otra escritura (actualización, carga masiva, importación) cambia el stock, el contador
+ * adopta ese valor y las reservas siguientes se aplican sobre él.
+ * <p>
+ * El contador también lleva las unidades reservadas aún no liberadas, en el mismo valor atómico
+ * que el stock disponible: una liberación nunca devuelve más unidades que las reservadas.
+ */
+@Slf4j
+@Service
+public class StockService implements ProductChangeListener {
+
+    private final ProductRepository productRepository;
+    private final Map<String, StockCounter> counters = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    // Hilo que está aplicando un lote propio: sus cambios no deben volver a copiarse al contador
+    private volatile Thread flushThread;
+
+    public StockService(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @PostConstruct
+    public void init() {
+        productRepository.addChangeListener(this);
+    }
+
+    /**
+     * Reserva unidades si hay stock suficiente.
+     *
+     * @param id       ID del producto
+     * @param quantity Unidades a reservar
+     * @return Stock disponible después de la reserva
+     * @throws ProductNotFoundException    si el producto no existe
+     * @throws InsufficientStockException si hay menos unidades disponibles que las pedidas
+     */
+    public StockResponse reserve(String id, int quantity) {
+        StockCounter counter = counter(id);
+        while (true) {
+            long state = counter.state.get();
+            int available = StockCounter.available(state);
+            if (available < quantity) {
+                throw new InsufficientStockException("Stock insuficiente para el producto " + id
+                        + ": disponibles " + available + ", pedidas " + quantity);
+            }
+            // Las reservas pendientes se saturan en el máximo en lugar de desbordar
+            int reserved = (int) Math.min((long) StockCounter.reserved(state) + quantity, Integer.MAX_VALUE);
+            if (counter.state.compareAndSet(state, StockCounter.pack(available - quantity, reserved))) {
+                dirty.add(id);
+                return response(id, available - quantity);
+            }
+        }
+    }
+
+    /**
+     * Devuelve unidades al stock (una reserva cancelada).
+     *
+     * @param id       ID del producto
+     * @param quantity Unidades a liberar
+     * @return Stock disponible después de la liberación
+     * @throws ProductNotFoundException     si el producto no existe
+     * @throws InvalidStockReleaseException si se liberan más unidades que las reservadas o el
+     *                                      stock superaría el máximo
+     */
+    public StockResponse release(String id, int quantity) {
+        StockCounter counter = counter(id);
+        while (true) {
+            long state = counter.state.get();
+            int available = StockCounter.available(state);
+            int reserved = StockCounter.reserved(state);
+            if (quantity > reserved) {
+                throw new InvalidStockReleaseException("No se pueden liberar " + quantity
+                        + " unidades del producto " + id + ": reservadas " + reserved);
+            }
+            if (available > Integer.MAX_VALUE - quantity) {
+                throw new InvalidStockReleaseException("Liberar " + quantity + " unidades del producto " + id
+                        + " supera el stock máximo: disponibles " + available);
+            }
+            if (counter.state.compareAndSet(state, StockCounter.pack(available + quantity, reserved - quantity))) {
+                dirty.add(id);
+                return response(id, available + quantity);
+            }
+        }
+    }
+
+    /**
+     * Stock disponible actual, incluidas las reservas aún no persistidas.
+     *
+     * @param id ID del producto
+     * @return Stock disponible
+     * @throws ProductNotFoundException si el producto no existe
+     */
+    public StockResponse getStock(String id) {
+        StockCounter counter = counters.get(id);
+        return response(id, counter != null ? counter.available() : stockOf(id));
+    }
+
+    /**
+     * Aplica y registra en el journal, en un solo lote, el stock de los productos con movimientos
+     * desde la última vez.
+     */
+    @Scheduled(fixedDelayString = "${products.stock.flush-interval-ms:100}")
+    @PreDestroy
+    public synchronized void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<ProductMutation.SetStock> mutations = new ArrayList<>();
+        for (Iterator<String> it = dirty.iterator(); it.hasNext(); ) {
+            String id = it.next();
+            // Se quita antes de leer el contador: un movimiento posterior lo vuelve a marcar
+            it.remove();
+            StockCounter counter = counters.get(id);
+            if (counter != null) {
+                mutations.add(new ProductMutation.SetStock(id, counter::available));
+            }
+        }
+        flushThread = Thread.currentThread();
+        try {
+            productRepository.applyJournaled(mutations);
+        } finally {
+            flushThread = null;
+        }
+        log.debug("Stock persistido para {} productos", mutations.size());
+    }
+
+    @Override
+    public void onSave(CreateProduct previous, CreateProduct current) {
+        if (Thread.currentThread() == flushThread) {
+            return;
+        }
+        if (previous == null || !Objects.equals(previous.getAvailableStock(), current.getAvailableStock())) {
+            int stock = current.getAvailableStock() == null ? 0 : current.getAvailableStock();
+            counters.computeIfPresent(current.getId(), (id, counter) -> {
+                counter.setAvailable(stock);
+                return counter;
+            });
+        }
+    }
+
+    @Override
+    public void onDelete(CreateProduct removed) {
+        counters.remove(removed.getId());
+        dirty.remove(removed.getId());
+    }
+
+    private StockCounter counter(String id) {
+        // Si una escritura del producto ocurre mientras se crea el contador, onSave espera a que
+        // termine computeIfAbsent y luego le asigna el valor nuevo
+        return counters.computeIfAbsent(id, key -> new StockCounter(stockOf(key)));
+    }
+
+    private int stockOf(String id) {
+        CreateProduct product = productRepository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException("Producto no encontrado con ID: " + id));
+        return product.getAvailableStock() == null ? 0 : product.getAvailableStock();
+    }
+
+    private static StockResponse response(String id, int availableStock) {
+        return StockResponse.builder().productId(id).availableStock(availableStock).build();
+    }
+
+    /**
+     * Stock disponible (32 bits altos) y unidades reservadas sin liberar (32 bits bajos) en un
+     * solo valor, para que reservas y liberaciones actualicen ambos con un compare-and-set.
+     */
+    private static final class StockCounter {
+
+        private final AtomicLong state;
+
+        private StockCounter(int available) {
+            this.state = new AtomicLong(pack(available, 0));
+        }
+
+        private int available() {
+            return available(state.get());
+        }
+
+        private void setAvailable(int available) {
+            state.updateAndGet(current -> pack(available, reserved(current)));
+        }
+
+        private static long pack(int available, int reserved) {
+            return ((long) available << 32) | (reserved & 0xFFFFFFFFL);
+        }
+
+        private static int available(long state) {
+            return (int) (state >> 32);
+        }
+
+        private static int reserved(long state) {
+            return (int) state;
+        }
+    }
+}
@@ -15,15 +15,15 @@ public class RatingValidatorImpl implements ConstraintValidator<RatingValidator,
         if (value == null) {
             return true; // La validación de requerido se hace con @NotNull
         }
-        // Validar el rango de averageRating
-        double rating = value.getAverageRating();
-        if (rating < 0 || rating > 5) {
+        // Validar el rango de averageRating (puede faltar: se recalcula a partir de las reseñas)
+        Double rating = value.getAverageRating();
+        if (rating != null && !(rating >= 0 && rating <= 5)) {
             return false;
         }
-        // Validar cada review si existe
+        // Validar cada review si existe: la calificación es obligatoria y va de 1 a 5
         if (value.getReviews() != null) {
             for (var review : value.getReviews()) {
-                if (review.getRating() < 0 || review.getRating() > 5) {
+                if (review == null || review.getRating() == null || review.getRating() < 1 || review.getRating() > 5) {
                     return false;
                 }
             }
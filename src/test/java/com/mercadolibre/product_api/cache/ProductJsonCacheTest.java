@@ -0,0 +1,138 @@
+package com.mercadolibre.product_api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductJsonCacheTest {
+
+    private ProductRepository repository;
+    private ProductJsonCache cache;
+    private AtomicInteger loads;
+    private Function<String, CreateProduct> loader;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ProductRepository();
+        cache = new ProductJsonCache(repository, new ObjectMapper(), 1_000_000);
+        cache.init();
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return repository.findById(id).orElseThrow();
+        };
+    }
+
+    @Test
+    void getOrLoad_SecondRead_ServesCachedBytes() {
+        repository.save(product("J1", "Producto"));
+
+        byte[] first = cache.getOrLoad("J1", false, loader);
+        byte[] second = cache.getOrLoad("J1", false, loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHits());
+        assertTrue(new String(first, StandardCharsets.UTF_8).contains("\"title\":\"Producto\""));
+    }
+
+    @Test
+    void save_InvalidatesEntry() {
+        repository.save(product("J1", "Viejo"));
+        cache.getOrLoad("J1", false, loader);
+
+        repository.save(product("J1", "Nuevo"));
+
+        assertEquals(0, cache.size());
+        assertTrue(new String(cache.getOrLoad("J1", false, loader), StandardCharsets.UTF_8).contains("Nuevo"));
+    }
+
+    @Test
+    void getOrLoad_WithGzip_CompressesOnceAndAccountsBytes() throws IOException {
+        repository.save(product("J1", "Producto"));
+        long plainBytes;
+        cache.getOrLoad("J1", false, loader);
+        plainBytes = cache.getUsedBytes();
+
+        byte[] compressed = cache.getOrLoad("J1", true, loader);
+
+        assertSame(compressed, cache.getOrLoad("J1", true, loader));
+        assertEquals(plainBytes + compressed.length, cache.getUsedBytes());
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertTrue(new String(input.readAllBytes(), StandardCharsets.UTF_8).contains("Producto"));
+        }
+    }
+
+    @Test
+    void getOrLoad_OverByteBudget_EvictsLeastRecentlyUsed() {
+        repository.save(product("J1", "Uno"));
+        repository.save(product("J2", "Dos"));
+        repository.save(product("J3", "Tre"));
+        cache.getOrLoad("J1", false, loader);
+        // Presupuesto para dos entradas y media
+        long budget = cache.getUsedBytes() * 5 / 2;
+        cache = new ProductJsonCache(repository, new ObjectMapper(), budget);
+        loads.set(0);
+
+        cache.getOrLoad("J1", false, loader);
+        cache.getOrLoad("J2", false, loader);
+        cache.getOrLoad("J1", false, loader);
+        cache.getOrLoad("J3", false, loader);
+
+        assertTrue(cache.getUsedBytes() <= budget);
+        assertEquals(2, cache.size());
+        cache.getOrLoad("J1", false, loader);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void getOrLoad_ConcurrentReadsAndInvalidations_KeepByteAccountingExact() throws InterruptedException {
+        for (int i = 0; i < 8; i++) {
+            repository.save(product("J" + i, "Producto " + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 4_000; i++) {
+            String id = "J" + i % 8;
+            boolean gzip = i % 3 == 0;
+            if (i % 7 == 0) {
+                executor.submit(() -> cache.invalidate(id));
+            } else {
+                executor.submit(() -> cache.getOrLoad(id, gzip, loader));
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 8; i++) {
+            cache.invalidate("J" + i);
+        }
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getUsedBytes());
+        assertEquals(3_428, cache.getHits() + cache.getMisses());
+    }
+
+    private static CreateProduct product(String id, String title) {
+        return CreateProduct.builder()
+                .id(id)
+                .title(title)
+                .description("Descripción de " + title)
+                .price(new BigDecimal("10.00"))
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.mercadolibre.product_api.changes;
+
+import com.mercadolibre.product_api.dto.ChangeFeedResponse;
+import com.mercadolibre.product_api.dto.ProductChange;
+import com.mercadolibre.product_api.exception.ChangeFeedExpiredException;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeFeedTest {
+
+    private ProductRepository repository;
+    private final List<String> createdIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        repository = new ProductRepository();
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdIds.forEach(repository::deleteById);
+    }
+
+    @Test
+    void changesSince_ReturnsLatestChangePerProductAndTombstones() {
+        ChangeFeed feed = new ChangeFeed(repository, 100);
+        feed.init();
+        long start = feed.changesSince(null, null, 10).getNextSince();
+
+        CreateProduct a = save("A");
+        CreateProduct b = save("B");
+        repository.save(a.toBuilder().title("A2").build());
+        repository.deleteById(b.getId());
+
+        ChangeFeedResponse response = feed.changesSince(start, repository.getEpoch(), 10);
+
+        assertEquals(List.of(ProductChange.Type.UPSERT, ProductChange.Type.DELETE),
+                response.getChanges().stream().map(ProductChange::getType).toList());
+        assertEquals("A2", response.getChanges().get(0).getProduct().getTitle());
+        assertEquals(b.getId(), response.getChanges().get(1).getId());
+        assertNull(response.getChanges().get(1).getProduct());
+        assertEquals(repository.catalogVersion(), response.getNextSince());
+        assertFalse(response.isHasMore());
+
+        // Desde el último punto no hay cambios nuevos
+        assertTrue(feed.changesSince(response.getNextSince(), null, 10).getChanges().isEmpty());
+    }
+
+    @Test
+    void changesSince_PagesWithLimit() {
+        ChangeFeed feed = new ChangeFeed(repository, 100);
+        feed.init();
+        long since = repository.catalogVersion();
+        for (int i = 0; i < 5; i++) {
+            save("P" + i);
+        }
+
+        ChangeFeedResponse first = feed.changesSince(since, null, 3);
+        ChangeFeedResponse second = feed.changesSince(first.getNextSince(), null, 3);
+
+        assertEquals(3, first.getChanges().size());
+        assertTrue(first.isHasMore());
+        assertEquals(List.of("P3", "P4"),
+                second.getChanges().stream().map(change -> change.getProduct().getTitle()).toList());
+        assertFalse(second.isHasMore());
+    }
+
+    @Test
+    void changesSince_EvictedOrForeignPoint_Throws() {
+        ChangeFeed feed = new ChangeFeed(repository, 2);
+        feed.init();
+        long since = repository.catalogVersion();
+        for (int i = 0; i < 3; i++) {
+            save("P" + i);
+        }
+
+        // El primer cambio ya se descartó: desde antes de él no se puede continuar
+        assertThrows(ChangeFeedExpiredException.class, () -> feed.changesSince(since, null, 10));
+        assertEquals(2, feed.changesSince(since + 1, null, 10).getChanges().size());
+        // Secuencias de otro arranque
+        assertThrows(ChangeFeedExpiredException.class,
+                () -> feed.changesSince(repository.catalogVersion(), repository.getEpoch() - 1, 10));
+        assertThrows(ChangeFeedExpiredException.class,
+                () -> feed.changesSince(repository.catalogVersion() + 1, null, 10));
+    }
+
+    private CreateProduct save(String title) {
+        CreateProduct product = repository.save(CreateProduct.builder()
+                .title(title)
+                .price(new BigDecimal("10.00"))
+                .build());
+        createdIds.add(product.getId());
+        return product;
+    }
+}
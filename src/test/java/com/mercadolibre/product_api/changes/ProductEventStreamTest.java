@@ -0,0 +1,212 @@
+package com.mercadolibre.product_api.changes;
+
+import com.mercadolibre.product_api.dto.ProductChange;
+import com.mercadolibre.product_api.exception.ConcurrencyLimitExceededException;
+import com.mercadolibre.product_api.model.Category;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.Seller;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductEventStreamTest {
+
+    private ProductRepository repository;
+    private ProductEventStream stream;
+    private final List<String> createdIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        repository = new ProductRepository();
+        stream = new ProductEventStream(repository, 4, 2, 0, 2);
+        stream.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.shutdown();
+        createdIds.forEach(repository::deleteById);
+    }
+
+    @Test
+    void subscribe_ReceivesFilteredMutationsInOrder() throws Exception {
+        RecordingEmitter all = new RecordingEmitter(null);
+        RecordingEmitter seller = new RecordingEmitter(null);
+        stream.subscribe(null, null, all);
+        stream.subscribe("S2", " ", seller);
+
+        CreateProduct first = save("A", "S1");
+        repository.save(first.toBuilder().title("A2").build());
+        CreateProduct second = save("B", "S2");
+        repository.deleteById(second.getId());
+
+        all.awaitEvents(4);
+        seller.awaitEvents(2);
+        assertEquals(List.of("create", "update", "create", "delete"), all.names);
+        assertEquals(List.of("create", "delete"), seller.names);
+        assertEquals(ProductChange.Type.DELETE, seller.changes.get(1).getType());
+        assertEquals(second.getId(), seller.changes.get(1).getId());
+        assertEquals("A2", all.changes.get(1).getProduct().getTitle());
+    }
+
+    @Test
+    void slowSubscriber_IsDisconnectedWithoutBlockingWriters() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        stream.subscribe(null, null, slow);
+        stream.subscribe(null, null, fast);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            save("P" + i, "S1");
+        }
+        // Las escrituras no esperan al cliente que está bloqueado
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(5));
+
+        fast.awaitEvents(20);
+        release.countDown();
+        assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+        assertEquals("overflow", slow.names.get(slow.names.size() - 1));
+        assertTrue(slow.names.size() < 20);
+    }
+
+    @Test
+    void subscribe_OverMaxSubscribers_Rejected() {
+        stream.subscribe(null, null, new RecordingEmitter(null));
+        stream.subscribe(null, null, new RecordingEmitter(null));
+
+        assertThrows(ConcurrencyLimitExceededException.class,
+                () -> stream.subscribe(null, null, new RecordingEmitter(null)));
+    }
+
+    @Test
+    void subscribe_Concurrent_NeverExceedsMaxAndFreesSlotOnce() throws Exception {
+        ProductEventStream limited = new ProductEventStream(repository, 4, 5, 0, 2);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RecordingEmitter>> results = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                RecordingEmitter emitter = new RecordingEmitter(null);
+                try {
+                    limited.subscribe(null, null, emitter);
+                    return emitter;
+                } catch (ConcurrencyLimitExceededException e) {
+                    return null;
+                }
+            }));
+        }
+        start.countDown();
+        List<RecordingEmitter> accepted = new ArrayList<>();
+        for (Future<RecordingEmitter> result : results) {
+            RecordingEmitter emitter = result.get(5, TimeUnit.SECONDS);
+            if (emitter != null) {
+                accepted.add(emitter);
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(5, accepted.size());
+        assertEquals(5, limited.subscriberCount());
+        // Error y finalización de la misma conexión devuelven un solo lugar
+        accepted.get(0).errorCallback.accept(new IOException("conexión cerrada"));
+        accepted.get(0).completionCallback.run();
+        assertEquals(4, limited.subscriberCount());
+        limited.subscribe(null, null, new RecordingEmitter(null));
+        assertThrows(ConcurrencyLimitExceededException.class,
+                () -> limited.subscribe(null, null, new RecordingEmitter(null)));
+        limited.shutdown();
+    }
+
+    private CreateProduct save(String title, String sellerId) {
+        CreateProduct product = repository.save(CreateProduct.builder()
+                .title(title)
+                .price(new BigDecimal("10.00"))
+                .seller(Seller.builder().id(sellerId).name("Vendedor").build())
+                .category(Category.builder().id("TECH").name("Tecnología").build())
+                .build());
+        createdIds.add(product.getId());
+        return product;
+    }
+
+    /**
+     * Emisor que registra los eventos enviados; con {@code gate} cada envío espera a que se abra.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch gate;
+        private final List<String> names = new CopyOnWriteArrayList<>();
+        private final List<ProductChange> changes = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Runnable completionCallback;
+        private volatile Consumer<Throwable> errorCallback;
+
+        private RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            String name = null;
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String text && text.contains("event:")) {
+                    name = text.substring(text.indexOf("event:") + 6, text.indexOf('\n', text.indexOf("event:")));
+                } else if (part.getData() instanceof ProductChange change) {
+                    changes.add(change);
+                }
+            }
+            if (name != null) {
+                names.add(name);
+            }
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            completionCallback = callback;
+        }
+
+        @Override
+        public synchronized void onError(Consumer<Throwable> callback) {
+            errorCallback = callback;
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.countDown();
+        }
+
+        private void awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (names.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(count, names.size());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.mercadolibre.product_api.config;
+
+import org.apache.catalina.connector.Connector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Sólo corre sobre un JDK 21 o superior, aunque el código esté compilado para 17; el job de
+ * Java 21 del workflow de CI la ejecuta y falla si se omite.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadModeTest {
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    private ThreadingModeReporter threadingModeReporter;
+
+    @Test
+    void tomcat_WithVirtualThreadsEnabled_UsesVirtualThreadExecutor() {
+        Connector connector = ((TomcatWebServer) context.getWebServer()).getTomcat().getConnector();
+
+        assertTrue(threadingModeReporter.isVirtualThreadsActive());
+        assertTrue(connector.getProtocolHandler().getExecutor().getClass().getSimpleName().contains("VirtualThread"));
+    }
+}
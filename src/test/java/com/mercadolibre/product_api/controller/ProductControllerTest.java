@@ -1,33 +1,75 @@
 package com.mercadolibre.product_api.controller;
 
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.mercadolibre.product_api.cache.ProductJsonCache;
+import com.mercadolibre.product_api.changes.ChangeFeed;
+import com.mercadolibre.product_api.changes.ProductEventStream;
+import com.mercadolibre.product_api.config.BinaryFormats;
+import com.mercadolibre.product_api.config.JacksonConfig;
+import com.mercadolibre.product_api.config.RequestTiming;
+import com.mercadolibre.product_api.dto.BulkItemResult;
+import com.mercadolibre.product_api.dto.BulkOperation;
+import com.mercadolibre.product_api.dto.BulkResponse;
+import com.mercadolibre.product_api.dto.CreateProductRequest;
+import com.mercadolibre.product_api.dto.MultiGetRequest;
+import com.mercadolibre.product_api.dto.MultiGetResponse;
 import com.mercadolibre.product_api.dto.PagedResponse;
 import com.mercadolibre.product_api.dto.ProductSearchParams;
+import com.mercadolibre.product_api.dto.SearchExpression;
+import com.mercadolibre.product_api.dto.ReviewPage;
+import com.mercadolibre.product_api.dto.ReviewRequest;
+import com.mercadolibre.product_api.dto.ReviewResponse;
+import com.mercadolibre.product_api.dto.StockResponse;
+import com.mercadolibre.product_api.exception.ChangeFeedExpiredException;
+import com.mercadolibre.product_api.exception.InsufficientStockException;
+import com.mercadolibre.product_api.exception.InvalidStockReleaseException;
+import com.mercadolibre.product_api.exception.InvalidSearchExpressionException;
 import com.mercadolibre.product_api.dto.UpdateProductRequest;
 import com.mercadolibre.product_api.exception.ProductNotFoundException;
+import com.mercadolibre.product_api.limit.AdaptiveConcurrencyLimiter;
+import com.mercadolibre.product_api.hotkeys.HotKeyTracker;
+import com.mercadolibre.product_api.limit.ConcurrencyLimitInterceptor;
+import com.mercadolibre.product_api.limit.EndpointClass;
 import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.popularity.PopularityTracker;
+import com.mercadolibre.product_api.projection.FieldProjectionCompiler;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import com.mercadolibre.product_api.service.CatalogTransferService;
+import com.mercadolibre.product_api.service.ProductETagService;
 import com.mercadolibre.product_api.service.ProductService;
+import com.mercadolibre.product_api.service.ReviewService;
+import com.mercadolibre.product_api.service.StockService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 @WebMvcTest(ProductController.class)
+@Import({JacksonConfig.class, FieldProjectionCompiler.class, ProductJsonCache.class, BinaryFormats.class})
 class ProductControllerTest {
 
     @Autowired
@@ -36,6 +78,136 @@ class ProductControllerTest {
     @MockBean
     private ProductService productService;
 
+    @MockBean
+    private CatalogTransferService catalogTransferService;
+
+    @MockBean
+    private ProductETagService eTagService;
+
+    @MockBean
+    private ProductRepository productRepository;
+
+    @MockBean
+    private StockService stockService;
+
+    @MockBean
+    private ReviewService reviewService;
+
+    @MockBean
+    private ChangeFeed changeFeed;
+
+    @MockBean
+    private ProductEventStream productEventStream;
+
+    @MockBean
+    private PopularityTracker popularityTracker;
+
+    @MockBean
+    private HotKeyTracker hotKeyTracker;
+
+    @Autowired
+    private ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+    @Test
+    void getProductById_OverConcurrencyLimit_Returns503WithRetryAfter() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = concurrencyLimitInterceptor.limiter(EndpointClass.POINT_READ);
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        try {
+            mockMvc.perform(get("/api/products/MLB1234567"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.error", is("Servicio saturado")));
+            verifyNoInteractions(productService);
+        } finally {
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(1_000_000);
+            }
+        }
+    }
+
+    @Test
+    void addReview_ValidReview_Returns201WithUpdatedRating() throws Exception {
+        when(reviewService.addReview(eq("MLB1"), any(ReviewRequest.class)))
+                .thenReturn(ReviewResponse.builder()
+                        .productId("MLB1")
+                        .averageRating(4.5)
+                        .totalRatings(2)
+                        .ratingHistogram(List.of(0, 0, 0, 1, 1))
+                        .build());
+
+        mockMvc.perform(post("/api/products/MLB1/reviews")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\": \"U1\", \"comment\": \"Bueno\", \"rating\": 5}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.totalRatings", is(2)))
+                .andExpect(jsonPath("$.ratingHistogram[4]", is(1)));
+        mockMvc.perform(post("/api/products/MLB1/reviews")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\": \"U1\", \"rating\": 6}"))
+                .andExpect(status().isBadRequest());
+        verify(reviewService, times(1)).addReview(any(), any());
+    }
+
+    @Test
+    void getReviews_PassesCursorAndReturnsNextCursor() throws Exception {
+        when(reviewService.getReviews("MLB1", "40", 20))
+                .thenReturn(ReviewPage.builder().productId("MLB1").reviews(List.of()).totalReviews(60).nextCursor("20").build());
+
+        mockMvc.perform(get("/api/products/MLB1/reviews").param("cursor", "40"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor", is("20")))
+                .andExpect(jsonPath("$.totalReviews", is(60)));
+    }
+
+    @Test
+    void getChanges_ExpiredSequence_Returns410() throws Exception {
+        when(changeFeed.changesSince(5L, null, 100))
+                .thenThrow(new ChangeFeedExpiredException("Los cambios desde la secuencia 5 ya no están disponibles"));
+
+        mockMvc.perform(get("/api/products/_changes").param("since", "5"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.error", is("Cambios no disponibles")));
+    }
+
+    @Test
+    void reserveStock_ReturnsRemainingOr409() throws Exception {
+        when(stockService.reserve("MLB1", 2))
+                .thenReturn(StockResponse.builder().productId("MLB1").availableStock(8).build());
+        when(stockService.reserve("MLB1", 20))
+                .thenThrow(new InsufficientStockException("Stock insuficiente para el producto MLB1"));
+
+        mockMvc.perform(post("/api/products/MLB1/stock/reserve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.availableStock", is(8)));
+        mockMvc.perform(post("/api/products/MLB1/stock/reserve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 20}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error", is("Stock insuficiente")));
+        mockMvc.perform(post("/api/products/MLB1/stock/release")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 0}"))
+                .andExpect(status().isBadRequest());
+        verify(stockService, never()).release(any(), anyInt());
+    }
+
+    @Test
+    void releaseStock_BeyondReserved_Returns409() throws Exception {
+        when(stockService.release("MLB1", 5))
+                .thenThrow(new InvalidStockReleaseException("No se pueden liberar 5 unidades del producto MLB1"));
+
+        mockMvc.perform(post("/api/products/MLB1/stock/release")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 5}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error", is("Liberación de stock inválida")));
+    }
+
     @Test
     void getProductById_ExistingProduct_ReturnsProduct() throws Exception {
         CreateProduct product = CreateProduct.builder()
@@ -56,6 +228,22 @@ class ProductControllerTest {
         verify(productService).getProductById("MLB1234567");
     }
 
+    @Test
+    void getProductById_AddsServerTimingWithPhases() throws Exception {
+        when(productService.getProductById("MLB1234567")).thenReturn(CreateProduct.builder()
+                .id("MLB1234567")
+                .title("Test Product")
+                .build());
+
+        mockMvc.perform(get("/api/products/MLB1234567"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(RequestTiming.HEADER, matchesPattern(
+                        "json-cache;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}")));
+
+        // La medición no queda asociada al hilo después de la petición
+        assertThat(RequestTiming.current(), nullValue());
+    }
+
     @Test
     void getProductById_NonExistingProduct_ReturnsNotFound() throws Exception {
         when(productService.getProductById("nonexistent"))
@@ -77,7 +265,7 @@ class ProductControllerTest {
                 CreateProduct.builder().id("MLB7654321").title("Product 2").build()
         );
 
-        Page<CreateProduct> pagedResponse = new PageImpl<>(products);
+        Page<CreateProduct> pagedResponse = new PageImpl<>(products, PageRequest.of(0, 10), products.size());
 
         when(productService.searchProducts(any(ProductSearchParams.class), any(Pageable.class)))
                 .thenReturn(pagedResponse);
@@ -130,6 +318,47 @@ class ProductControllerTest {
         verify(productService).searchProducts(any(ProductSearchParams.class), any(Pageable.class));
     }
 
+    @Test
+    void searchProductsByExpression_WithValidExpression_ReturnsProducts() throws Exception {
+        Page<CreateProduct> response = new PageImpl<>(List.of(
+            CreateProduct.builder().id("MLB1234567").title("iPhone").build()
+        ));
+
+        when(productService.searchProducts(any(SearchExpression.class), any(Pageable.class)))
+                .thenReturn(response);
+
+        String requestBody = """
+                {
+                    "type": "and",
+                    "children": [
+                        {"type": "range", "field": "price", "gte": 500, "lte": 1000},
+                        {"type": "term", "field": "seller.isOfficialStore", "value": true}
+                    ]
+                }""";
+
+        mockMvc.perform(post("/api/products/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title", is("iPhone")))
+                .andExpect(jsonPath("$.totalElements", is(1)));
+
+        verify(productService).searchProducts(any(SearchExpression.class), any(Pageable.class));
+    }
+
+    @Test
+    void searchProductsByExpression_WithInvalidExpression_ReturnsBadRequest() throws Exception {
+        when(productService.searchProducts(any(SearchExpression.class), any(Pageable.class)))
+                .thenThrow(new InvalidSearchExpressionException("Campo de búsqueda desconocido: color"));
+
+        mockMvc.perform(post("/api/products/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"type\": \"term\", \"field\": \"color\", \"value\": \"rojo\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", is(400)))
+                .andExpect(jsonPath("$.message", containsString("color")));
+    }
+
     @Test
     void getAllProducts_WithPagination_ReturnsPagedProducts() throws Exception {
         List<CreateProduct> products = Arrays.asList(
@@ -233,6 +462,23 @@ class ProductControllerTest {
         verify(productService, never()).updateProduct(any(), any());
     }
 
+    @Test
+    void updateProduct_WithRating_ReturnsBadRequest() throws Exception {
+        String requestBody = """
+                {
+                    "rating": {"averageRating": 5.0, "totalRatings": 1000, "ratingHistogram": [0, 0, 0, 0, 1000]}
+                }""";
+
+        mockMvc.perform(patch("/api/products/MLB1234567")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Error de validación")))
+                .andExpect(jsonPath("$.details.rating", containsString("reviews")));
+
+        verify(productService, never()).updateProduct(any(), any());
+    }
+
     @Test
     void deleteProduct_ExistingProduct_ReturnsNoContent() throws Exception {
         doNothing().when(productService).deleteProduct("MLB1234567");
@@ -256,4 +502,211 @@ class ProductControllerTest {
 
         verify(productService).deleteProduct("nonexistent");
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getProductsByIds_WithIdsParam_StreamsFoundAndMissing() throws Exception {
+        MultiGetResponse result = MultiGetResponse.builder()
+                .products(List.of(CreateProduct.builder().id("MLB1").title("Product 1").build()))
+                .missing(List.of("MLB2"))
+                .build();
+        when(productService.getProductsByIds(List.of("MLB1", "MLB2"))).thenReturn(result);
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/products").param("ids", "MLB1, MLB2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products", hasSize(1)))
+                .andExpect(jsonPath("$.products[0].id", is("MLB1")))
+                .andExpect(jsonPath("$.missing[0]", is("MLB2")));
+    }
+
+    @Test
+    void getProductsByIds_WithTooManyIdsParam_ReturnsBadRequest() throws Exception {
+        String ids = String.join(",", Collections.nCopies(MultiGetRequest.MAX_IDS + 1, "MLB1"));
+
+        mockMvc.perform(get("/api/products").param("ids", ids))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", is(400)))
+                .andExpect(jsonPath("$.message", containsString(String.valueOf(MultiGetRequest.MAX_IDS))));
+
+        verify(productService, never()).getProductsByIds(any());
+    }
+
+    @Test
+    void getProductsByIds_WithEmptyBody_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/products/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest());
+
+        verify(productService, never()).getProductsByIds(any());
+    }
+
+    @Test
+    void bulk_WithNdjsonBody_ParsesOneOperationPerLine() throws Exception {
+        BulkResponse response = BulkResponse.builder()
+                .applied(2)
+                .items(List.of(
+                        BulkItemResult.builder().index(0).op(BulkOperation.Type.DELETE).id("MLB1").status(204).build(),
+                        BulkItemResult.builder().index(1).op(BulkOperation.Type.DELETE).id("MLB2").status(204).build()))
+                .build();
+        when(productService.bulk(any())).thenReturn(response);
+
+        mockMvc.perform(post("/api/products/_bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"op\": \"delete\", \"id\": \"MLB1\"}\n{\"op\": \"delete\", \"id\": \"MLB2\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied", is(2)))
+                .andExpect(jsonPath("$.items[1].op", is("delete")));
+
+        verify(productService).bulk(argThat(operations -> operations.size() == 2
+                && operations.get(1).getId().equals("MLB2")));
+    }
+
+    @Test
+    void getProductById_WithMatchingIfNoneMatch_ReturnsNotModified() throws Exception {
+        when(eTagService.forProduct("MLB1234567")).thenReturn("\"abc-1\"");
+        when(eTagService.getProductCacheControl()).thenReturn("max-age=0, must-revalidate");
+        when(productService.getProductById("MLB1234567"))
+                .thenReturn(CreateProduct.builder().id("MLB1234567").title("Test Product").build());
+
+        mockMvc.perform(get("/api/products/MLB1234567"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc-1\""))
+                .andExpect(header().string("Cache-Control", "max-age=0, must-revalidate"));
+
+        mockMvc.perform(get("/api/products/MLB1234567").header("If-None-Match", "\"abc-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void searchProducts_WithMatchingIfNoneMatch_SkipsSearch() throws Exception {
+        when(productService.searchKey(any(ProductSearchParams.class))).thenReturn("params:key");
+        when(eTagService.forSearch(eq("params:key"), any(Pageable.class))).thenReturn("\"abc-7\"");
+        when(eTagService.getListCacheControl()).thenReturn("max-age=0, must-revalidate");
+
+        mockMvc.perform(get("/api/products/search").param("query", "iphone").header("If-None-Match", "\"abc-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc-7\""))
+                .andExpect(header().string("Cache-Control", "max-age=0, must-revalidate"))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/products").header("If-None-Match", "\"abc-7\""))
+                .andExpect(status().isNotModified());
+
+        verify(productService, never()).searchProducts(any(ProductSearchParams.class), any(Pageable.class));
+    }
+
+    @Test
+    void getProductById_WithMatchingIfNoneMatch_SkipsLoadAndViewCount() throws Exception {
+        when(eTagService.forProduct("MLB1234567")).thenReturn("\"abc-1\"");
+
+        mockMvc.perform(get("/api/products/MLB1234567").header("If-None-Match", "\"abc-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc-1\""));
+        mockMvc.perform(get("/api/products/MLB1234567")
+                        .header("If-None-Match", "\"abc-1-gzip\"")
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc-1-gzip\""));
+
+        verify(productService, never()).getProductById(anyString());
+        verify(popularityTracker, never()).recordView(anyString());
+    }
+
+    @Test
+    void getProductById_WithGzipQualityZero_ReturnsIdentityEncoding() throws Exception {
+        when(eTagService.forProduct("MLB1234567")).thenReturn("\"abc-1\"");
+        when(productService.getProductById("MLB1234567"))
+                .thenReturn(CreateProduct.builder().id("MLB1234567").title("Test Product").build());
+
+        mockMvc.perform(get("/api/products/MLB1234567").header("Accept-Encoding", "gzip;q=0, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().string("ETag", "\"abc-1\""))
+                .andExpect(jsonPath("$.title", is("Test Product")));
+    }
+
+    @Test
+    void getProductById_WithFields_ReturnsOnlyRequestedProperties() throws Exception {
+        CreateProduct product = CreateProduct.builder()
+                .id("MLB1234567")
+                .title("Test Product")
+                .description("Test Description")
+                .price(new BigDecimal("10.00"))
+                .seller(com.mercadolibre.product_api.model.Seller.builder().id("S1").name("Seller").build())
+                .build();
+        when(productService.getProductById("MLB1234567")).thenReturn(product);
+
+        mockMvc.perform(get("/api/products/MLB1234567").param("fields", "id,title,seller.name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is("MLB1234567")))
+                .andExpect(jsonPath("$.seller.name", is("Seller")))
+                .andExpect(jsonPath("$.description").doesNotExist())
+                .andExpect(jsonPath("$.price").doesNotExist())
+                .andExpect(jsonPath("$.seller.id").doesNotExist());
+    }
+
+    @Test
+    void getProductById_AcceptingGzip_ReturnsCompressedBytes() throws Exception {
+        when(eTagService.forProduct("MLB1234567")).thenReturn("\"abc-1\"");
+        when(productService.getProductById("MLB1234567"))
+                .thenReturn(CreateProduct.builder().id("MLB1234567").title("Test Product").build());
+
+        byte[] body = mockMvc.perform(get("/api/products/MLB1234567").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("ETag", "\"abc-1-gzip\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (java.util.zip.GZIPInputStream input = new java.util.zip.GZIPInputStream(new java.io.ByteArrayInputStream(body))) {
+            assertThat(new String(input.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8),
+                    containsString("\"title\":\"Test Product\""));
+        }
+    }
+
+    @Test
+    void getProductById_AcceptingSmile_ReturnsSmileWithItsOwnETag() throws Exception {
+        when(eTagService.forProduct("MLB1234567")).thenReturn("\"abc-1\"");
+        when(productService.getProductById("MLB1234567"))
+                .thenReturn(CreateProduct.builder().id("MLB1234567").title("Test Product").build());
+
+        byte[] body = mockMvc.perform(get("/api/products/MLB1234567").accept(BinaryFormats.SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BinaryFormats.SMILE))
+                .andExpect(header().string("ETag", "\"abc-1-smile\""))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        CreateProduct product = new SmileMapper().readValue(body, CreateProduct.class);
+        assertThat(product.getTitle(), is("Test Product"));
+    }
+
+    @Test
+    void createProduct_WithCborBody_AcceptsAndAnswersCbor() throws Exception {
+        when(productService.createProduct(any())).thenAnswer(invocation -> CreateProduct.builder()
+                .id("MLB1")
+                .title(((CreateProductRequest) invocation.getArgument(0)).getTitle())
+                .build());
+        CBORMapper cbor = new CBORMapper();
+        byte[] request = cbor.writeValueAsBytes(Map.of(
+                "title", "Producto CBOR",
+                "description", "Descripción",
+                "price", 10.5,
+                "images", List.of("https://example.com/1.jpg"),
+                "seller", Map.of("id", "S1", "name", "Tienda", "isOfficialStore", true),
+                "category", Map.of("id", "TECH", "name", "Tecnología")));
+
+        byte[] body = mockMvc.perform(post("/api/products")
+                        .contentType(BinaryFormats.CBOR)
+                        .accept(BinaryFormats.CBOR)
+                        .content(request))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(BinaryFormats.CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(cbor.readValue(body, CreateProduct.class).getTitle(), is("Producto CBOR"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.mercadolibre.product_api.hotkeys;
+
+import com.mercadolibre.product_api.dto.HotKeyWindow;
+import com.mercadolibre.product_api.dto.HotKeysInfo;
+import com.mercadolibre.product_api.dto.ProductSearchParams;
+import com.mercadolibre.product_api.search.QueryCompiler;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotKeyTrackerTest {
+
+    @Test
+    void countMinSketch_NeverUnderestimates() {
+        CountMinSketch sketch = new CountMinSketch(64, 4);
+        for (int i = 0; i < 1000; i++) {
+            for (int j = 0; j <= i % 10; j++) {
+                sketch.add("key-" + i);
+            }
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(sketch.estimate("key-" + i) >= i % 10 + 1);
+        }
+        assertEquals(0, new CountMinSketch(64, 4).estimate("key-1"));
+    }
+
+    @Test
+    void describe_FindsHeavyHittersAmongManyColdKeys() throws InterruptedException {
+        HotKeyTracker tracker = tracker(3);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            int offset = thread;
+            executor.execute(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    tracker.recordProduct("MLB-COLD-" + offset + "-" + i);
+                    if (i % 5 == 0) {
+                        tracker.recordProduct("MLB-HOT");
+                    }
+                    if (i % 20 == 0) {
+                        tracker.recordProduct("MLB-WARM");
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        HotKeyWindow window = tracker.describe(2).getProducts().get(0);
+
+        assertEquals(List.of("MLB-HOT", "MLB-WARM"), window.getTop().stream().map(HotKeyWindow.HotKey::getKey).toList());
+        long hot = window.getTop().get(0).getEstimatedCount();
+        assertTrue(hot >= 4000 && hot <= 4000 + window.getMaxError(), "estimación: " + hot);
+        assertEquals(4 * (5000 + 1000 + 250), window.getTotal());
+    }
+
+    @Test
+    void rotate_RollsUpRecentIntervalsAndForgetsExpiredOnes() {
+        HotKeyTracker tracker = tracker(3);
+        tracker.recordProduct("MLB-OLD");
+        tracker.recordProduct("MLB-OLD");
+        tracker.rotate();
+        tracker.recordProduct("MLB-NEW");
+
+        HotKeysInfo info = tracker.describe(10);
+        assertEquals(List.of("MLB-NEW"), keys(info.getProducts().get(0)));
+        assertEquals(List.of("MLB-OLD", "MLB-NEW"), keys(info.getProducts().get(1)));
+        assertEquals(120, info.getProducts().get(1).getWindowSeconds());
+
+        tracker.rotate();
+        assertEquals(List.of("MLB-NEW"), keys(tracker.describe(10).getProducts().get(1)));
+        tracker.rotate();
+        assertEquals(List.of(), keys(tracker.describe(10).getProducts().get(1)));
+        assertEquals(0, tracker.describe(10).getProducts().get(1).getTotal());
+    }
+
+    @Test
+    void recordSearch_NormalizesEquivalentQueries() {
+        HotKeyTracker tracker = tracker(1);
+        tracker.recordSearch(ProductSearchParams.builder().query("  Samsung   Galaxy ").minPrice(new BigDecimal("10.00")).build());
+        tracker.recordSearch(ProductSearchParams.builder().query("samsung galaxy").minPrice(BigDecimal.TEN).build());
+        tracker.recordSearch(ProductSearchParams.builder().build());
+
+        List<HotKeyWindow.HotKey> top = tracker.describe(10).getQueries().get(0).getTop();
+
+        assertEquals("query=samsung galaxy&minPrice=10", top.get(0).getKey());
+        assertEquals(2, top.get(0).getEstimatedCount());
+        assertEquals("*", top.get(1).getKey());
+    }
+
+    private static HotKeyTracker tracker(int intervals) {
+        return new HotKeyTracker(new QueryCompiler(16), 60000, intervals, List.of(1, 2), 1024, 4, 5);
+    }
+
+    private static List<String> keys(HotKeyWindow window) {
+        return window.getTop().stream().map(HotKeyWindow.HotKey::getKey).toList();
+    }
+}
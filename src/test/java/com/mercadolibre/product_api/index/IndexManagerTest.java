@@ -0,0 +1,166 @@
+package com.mercadolibre.product_api.index;
+
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.Seller;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import com.mercadolibre.product_api.search.FieldConstraint;
+import com.mercadolibre.product_api.search.SearchField;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexManagerTest {
+
+    private ProductRepository repository;
+    private IndexManager indexManager;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ProductRepository();
+        indexManager = new IndexManager(repository, true, 3, 0.5, 8, 1, 600_000, "price, rating, color");
+        indexManager.init();
+        repository.save(product("P1", "100.00", true));
+        repository.save(product("P2", "250.00", false));
+        repository.save(product("P3", "900.00", true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexManager.shutdown();
+    }
+
+    @Test
+    void candidates_WithReadyIndex_ReturnsIdsInRange() throws Exception {
+        indexManager.buildIndex(SearchField.PRICE);
+        awaitReady(SearchField.PRICE);
+
+        Collection<String> ids = indexManager.candidates(List.of(priceRange("200", "1000"))).orElseThrow();
+
+        assertEquals(Set.of("P2", "P3"), Set.copyOf(ids));
+    }
+
+    @Test
+    void candidates_WithoutIndex_ReturnsEmpty() {
+        assertTrue(indexManager.candidates(List.of(priceRange("200", "1000"))).isEmpty());
+    }
+
+    @Test
+    void mutations_AfterBuild_AreReflectedInIndex() throws Exception {
+        indexManager.buildIndex(SearchField.PRICE);
+        awaitReady(SearchField.PRICE);
+
+        repository.save(product("P1", "500.00", true));
+        repository.deleteById("P3");
+
+        Collection<String> ids = indexManager.candidates(List.of(priceRange("200", "1000"))).orElseThrow();
+        assertEquals(Set.of("P1", "P2"), Set.copyOf(ids));
+    }
+
+    @Test
+    void evaluate_WithHotSelectiveField_BuildsIndex() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            indexManager.recordSearch(List.of(priceRange("800", null)), Sort.unsorted(), 1, 3);
+        }
+
+        indexManager.evaluate();
+        awaitReady(SearchField.PRICE);
+
+        assertEquals(1, indexManager.describeIndexes().size());
+        assertEquals("price", indexManager.describeIndexes().get(0).getField());
+        assertTrue(indexManager.describeIndexes().get(0).getEstimatedBytes() > 0);
+    }
+
+    @Test
+    void evaluate_WithUnselectiveField_DoesNotBuildIndex() {
+        FieldConstraint official = new FieldConstraint.Terms(SearchField.SELLER_OFFICIAL_STORE, Set.of(true));
+        for (int i = 0; i < 3; i++) {
+            indexManager.recordSearch(List.of(official), Sort.unsorted(), 3, 3);
+        }
+
+        indexManager.evaluate();
+
+        assertTrue(indexManager.describeIndexes().isEmpty());
+    }
+
+    @Test
+    void forEachOrdered_WithSortIndex_ReturnsIdsInOrder() throws Exception {
+        indexManager.buildIndex(SearchField.PRICE);
+        awaitReady(SearchField.PRICE);
+
+        List<String> ids = new ArrayList<>();
+        assertTrue(indexManager.forEachOrdered("price", false, ids::add));
+
+        assertEquals(List.of("P3", "P2", "P1"), ids);
+    }
+
+    @Test
+    void readiness_BeforeWarmUp_IsNotReady() {
+        assertFalse(indexManager.readiness().isReady());
+        assertEquals(2, indexManager.readiness().getIndexes().size());
+    }
+
+    @Test
+    void readiness_AfterWarmUp_IsReadyAndPinned() throws Exception {
+        indexManager.warmUp();
+        awaitReady(SearchField.PRICE);
+        awaitReady(SearchField.RATING);
+
+        assertTrue(indexManager.readiness().isReady());
+        assertTrue(indexManager.describeIndexes().stream().allMatch(info -> info.isPinned()));
+    }
+
+    @Test
+    void evaluate_WithIdlePinnedIndex_KeepsIndex() throws Exception {
+        IndexManager manager = new IndexManager(repository, true, 3, 0.5, 8, 1, 0, "price");
+        try {
+            manager.warmUp();
+            for (int i = 0; i < 100 && !manager.readiness().isReady(); i++) {
+                Thread.sleep(20);
+            }
+            Thread.sleep(5);
+
+            manager.evaluate();
+
+            assertEquals(1, manager.describeIndexes().size());
+        } finally {
+            manager.shutdown();
+        }
+    }
+
+    private void awaitReady(SearchField field) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            boolean ready = indexManager.describeIndexes().stream()
+                    .anyMatch(info -> info.getField().equals(field.getPath()) && info.getState().equals("READY"));
+            if (ready) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        fail("El índice sobre " + field.getPath() + " no quedó listo");
+    }
+
+    private static FieldConstraint priceRange(String lower, String upper) {
+        return new FieldConstraint.Range(SearchField.PRICE,
+                lower == null ? null : new BigDecimal(lower), true,
+                upper == null ? null : new BigDecimal(upper), true);
+    }
+
+    private static CreateProduct product(String id, String price, boolean official) {
+        return CreateProduct.builder()
+                .id(id)
+                .title("Producto " + id)
+                .description("Descripción " + id)
+                .price(new BigDecimal(price))
+                .seller(Seller.builder().name("Vendedor").isOfficialStore(official).build())
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.mercadolibre.product_api.limit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    @Test
+    void tryAcquire_RejectsOverLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 2.0);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1, limiter.getRejected());
+
+        limiter.release(MILLIS);
+        assertTrue(limiter.tryAcquire());
+        assertEquals(3, limiter.getAccepted());
+    }
+
+    @Test
+    void release_StableLatencyUnderLoad_GrowsLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 2.0);
+
+        for (int i = 0; i < 50; i++) {
+            saturateAndRelease(limiter, MILLIS);
+        }
+
+        assertTrue(limiter.getLimit() > 10, "límite: " + limiter.getLimit());
+    }
+
+    @Test
+    void release_LowConcurrency_DoesNotGrowLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 2.0);
+
+        for (int i = 0; i < 200; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(MILLIS);
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void release_LatencyAboveTolerance_ShrinksLimitDownToMin() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 4, 100, 2.0);
+        for (int i = 0; i < 20; i++) {
+            saturateAndRelease(limiter, MILLIS);
+        }
+        int before = limiter.getLimit();
+
+        for (int i = 0; i < 10; i++) {
+            saturateAndRelease(limiter, 20 * MILLIS);
+        }
+        assertTrue(limiter.getLimit() < before / 2, "antes: " + before + ", después: " + limiter.getLimit());
+
+        for (int i = 0; i < 50; i++) {
+            saturateAndRelease(limiter, 20 * MILLIS);
+        }
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void constructor_InvalidBounds_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 0, 100, 2.0));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 20, 10, 2.0));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 1, 100, 0.5));
+    }
+
+    /**
+     * Ocupa todo el límite y libera cada lugar con la latencia dada.
+     */
+    private static void saturateAndRelease(AdaptiveConcurrencyLimiter limiter, long latencyNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(latencyNanos);
+        }
+    }
+}
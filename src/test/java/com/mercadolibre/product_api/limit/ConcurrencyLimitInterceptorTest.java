@@ -0,0 +1,77 @@
+package com.mercadolibre.product_api.limit;
+
+import com.mercadolibre.product_api.exception.ConcurrencyLimitExceededException;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitInterceptorTest {
+
+    private final ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(true, 1, 1, 10, 2.0, 3);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void classify_ByMethodAndPattern() {
+        assertEquals(EndpointClass.POINT_READ, EndpointClass.of("GET", "/api/products/{id}", false));
+        assertEquals(EndpointClass.POINT_READ, EndpointClass.of("GET", "/api/products", true));
+        assertEquals(EndpointClass.POINT_READ, EndpointClass.of("POST", "/api/products/batch-get", false));
+        assertEquals(EndpointClass.POINT_READ, EndpointClass.of("GET", "/api/products/{id}/stock", false));
+        assertEquals(EndpointClass.WRITE, EndpointClass.of("POST", "/api/products/{id}/stock/reserve", false));
+        assertEquals(EndpointClass.SEARCH, EndpointClass.of("GET", "/api/products", false));
+        assertEquals(EndpointClass.SEARCH, EndpointClass.of("POST", "/api/products/search", false));
+        assertEquals(EndpointClass.SEARCH, EndpointClass.of("GET", "/api/products/_export", false));
+        assertEquals(EndpointClass.WRITE, EndpointClass.of("PATCH", "/api/products/{id}", false));
+        assertEquals(EndpointClass.WRITE, EndpointClass.of("POST", "/api/products/_bulk", false));
+    }
+
+    @Test
+    void preHandle_OverLimit_RejectsOnlyThatClass() {
+        MockHttpServletRequest search = request("GET", "/api/products/search");
+        assertTrue(interceptor.preHandle(search, response, null));
+
+        ConcurrencyLimitExceededException ex = assertThrows(ConcurrencyLimitExceededException.class,
+                () -> interceptor.preHandle(request("GET", "/api/products/search"), response, null));
+        assertEquals(3, ex.getRetryAfterSeconds());
+        // Las lecturas por ID tienen su propio cupo
+        assertTrue(interceptor.preHandle(request("GET", "/api/products/{id}"), response, null));
+
+        interceptor.afterCompletion(search, response, null, null);
+        assertEquals(0, interceptor.limiter(EndpointClass.SEARCH).getInFlight());
+        assertEquals(1, interceptor.limiter(EndpointClass.SEARCH).getRejected());
+    }
+
+    @Test
+    void asyncDispatch_ReleasesOnceWhenResponseCompletes() throws Exception {
+        MockHttpServletRequest request = request("GET", "/api/products/_export");
+        assertTrue(interceptor.preHandle(request, response, null));
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        assertEquals(1, interceptor.limiter(EndpointClass.SEARCH).getInFlight());
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        assertTrue(interceptor.preHandle(request, response, null));
+        interceptor.afterCompletion(request, response, null, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertEquals(0, interceptor.limiter(EndpointClass.SEARCH).getInFlight());
+        assertEquals(1, interceptor.limiter(EndpointClass.SEARCH).getAccepted());
+    }
+
+    @Test
+    void disabled_AcceptsEverything() {
+        ConcurrencyLimitInterceptor disabled = new ConcurrencyLimitInterceptor(false, 1, 1, 10, 2.0, 1);
+
+        assertTrue(disabled.preHandle(request("GET", "/api/products/search"), response, null));
+        assertTrue(disabled.preHandle(request("GET", "/api/products/search"), response, null));
+        assertEquals(0, disabled.limiter(EndpointClass.SEARCH).getInFlight());
+    }
+
+    private static MockHttpServletRequest request(String method, String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+}
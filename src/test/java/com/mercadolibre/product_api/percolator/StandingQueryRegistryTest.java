@@ -0,0 +1,113 @@
+package com.mercadolibre.product_api.percolator;
+
+import com.mercadolibre.product_api.dto.ProductSearchParams;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.ProductRating;
+import com.mercadolibre.product_api.model.Seller;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StandingQueryRegistryTest {
+
+    private ProductRepository repository;
+    private ApplicationEventPublisher publisher;
+    private StandingQueryRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ProductRepository();
+        publisher = mock(ApplicationEventPublisher.class);
+        registry = new StandingQueryRegistry(repository, publisher);
+        registry.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void candidates_WithTextQuery_OnlyReturnsQueriesWhoseTrigramAppears() {
+        StandingQuery query = registry.register("user-1", ProductSearchParams.builder().query("iphone").build(),
+                product -> product.getTitle().toLowerCase().contains("iphone"));
+
+        assertEquals(StandingQuery.AnchorType.TEXT, query.getAnchor().type());
+        assertTrue(registry.candidates(product("P1", "Apple iPhone 13", "900.00")).contains(query.getId()));
+        assertFalse(registry.candidates(product("P2", "Samsung Galaxy", "900.00")).contains(query.getId()));
+    }
+
+    @Test
+    void candidates_WithPriceQuery_UsesPriceBounds() {
+        StandingQuery query = registry.register("user-1", ProductSearchParams.builder()
+                        .maxPrice(new BigDecimal("1000")).build(),
+                product -> product.getPrice().compareTo(new BigDecimal("1000")) <= 0);
+
+        assertEquals(StandingQuery.AnchorType.MAX_PRICE, query.getAnchor().type());
+        assertTrue(registry.candidates(product("P1", "Producto", "999.99")).contains(query.getId()));
+        assertFalse(registry.candidates(product("P1", "Producto", "1000.01")).contains(query.getId()));
+    }
+
+    @Test
+    void candidates_WithRatingWithoutAverage_SkipsRatingAnchor() {
+        StandingQuery query = registry.register("user-1", ProductSearchParams.builder().minRating(4.0).build(),
+                product -> product.getRating() != null && product.getRating().getAverageRating() != null
+                        && product.getRating().getAverageRating() >= 4.0);
+        CreateProduct unrated = product("P1", "Producto", "10.00");
+        unrated.setRating(ProductRating.builder().build());
+        CreateProduct rated = product("P2", "Producto", "10.00");
+        rated.setRating(ProductRating.builder().averageRating(4.5).build());
+
+        assertEquals(StandingQuery.AnchorType.MIN_RATING, query.getAnchor().type());
+        assertFalse(registry.candidates(unrated).contains(query.getId()));
+        assertTrue(registry.candidates(rated).contains(query.getId()));
+    }
+
+    @Test
+    void save_WhenProductStartsMatching_PublishesEventOnce() {
+        StandingQuery query = registry.register("user-1", ProductSearchParams.builder()
+                        .maxPrice(new BigDecimal("1000")).build(),
+                product -> product.getPrice().compareTo(new BigDecimal("1000")) <= 0);
+
+        repository.save(product("P1", "Notebook", "1200.00"));
+        repository.save(product("P1", "Notebook", "900.00"));
+        repository.save(product("P1", "Notebook", "850.00"));
+
+        ArgumentCaptor<StandingQueryMatchEvent> event = ArgumentCaptor.forClass(StandingQueryMatchEvent.class);
+        verify(publisher, timeout(1000)).publishEvent(event.capture());
+        verify(publisher, after(100).times(1)).publishEvent(any(Object.class));
+        assertEquals(query.getId(), event.getValue().queryId());
+        assertEquals("P1", event.getValue().productId());
+        assertEquals(1, query.getMatches());
+    }
+
+    @Test
+    void remove_DropsQueryFromReverseIndex() {
+        StandingQuery query = registry.register("user-1", ProductSearchParams.builder().storeName("Apple Store").build(),
+                product -> true);
+
+        assertTrue(registry.remove(query.getId()));
+
+        assertFalse(registry.remove(query.getId()));
+        assertTrue(registry.findAll().isEmpty());
+        assertTrue(registry.candidates(product("P1", "Producto", "10.00")).isEmpty());
+    }
+
+    private static CreateProduct product(String id, String title, String price) {
+        return CreateProduct.builder()
+                .id(id)
+                .title(title)
+                .description("Descripción " + id)
+                .price(new BigDecimal(price))
+                .seller(Seller.builder().name("Vendedor").storeName("Apple Store").isOfficialStore(true).build())
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.mercadolibre.product_api.performance;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.product_api.config.JacksonConfig;
+import com.mercadolibre.product_api.model.Category;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.ProductRating;
+import com.mercadolibre.product_api.model.Review;
+import com.mercadolibre.product_api.model.Seller;
+import com.mercadolibre.product_api.serialization.JsonBufferPool;
+import com.mercadolibre.product_api.serialization.ProductJsonModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la (de)serialización por reflexión de Jackson con los serializadores escritos a mano
+ * de {@link ProductJsonModule}, y la serialización a bytes con y sin {@link JsonBufferPool}.
+ * Los mappers se configuran como los de la aplicación (mix-ins de proyección y {@code non_null}).
+ * <p>
+ * Tamaños: {@code SMALL} (sólo campos obligatorios), {@code TYPICAL} (todos los campos y
+ * 5 reseñas) y {@code REVIEW_HEAVY} (200 reseñas). La tasa de asignación se obtiene con el
+ * perfilador de GC ({@code gc.alloc.rate.norm}, bytes por operación).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProductSerializationBenchmark {
+
+    public enum Size { SMALL, TYPICAL, REVIEW_HEAVY }
+
+    @Param({"SMALL", "TYPICAL", "REVIEW_HEAVY"})
+    public Size size;
+
+    private ObjectMapper reflective;
+    private ObjectMapper streaming;
+    private JsonBufferPool bufferPool;
+    private CreateProduct product;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws Exception {
+        reflective = mapper(false);
+        streaming = mapper(true);
+        bufferPool = new JsonBufferPool(4);
+        product = product(size);
+        json = reflective.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] serializeReflective() throws Exception {
+        return reflective.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] serializeStreaming() throws Exception {
+        return streaming.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] serializeStreamingPooled() throws Exception {
+        return bufferPool.writeValueAsBytes(streaming, product);
+    }
+
+    @Benchmark
+    public CreateProduct deserializeReflective() throws Exception {
+        return reflective.readValue(json, CreateProduct.class);
+    }
+
+    @Benchmark
+    public CreateProduct deserializeStreaming() throws Exception {
+        return streaming.readValue(json, CreateProduct.class);
+    }
+
+    private static ObjectMapper mapper(boolean streaming) {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder()
+                .serializationInclusion(JsonInclude.Include.NON_NULL);
+        new JacksonConfig().fieldProjectionCustomizer().customize(builder);
+        if (streaming) {
+            builder.modulesToInstall(new ProductJsonModule());
+        }
+        return builder.build();
+    }
+
+    static CreateProduct product(Size size) {
+        CreateProduct.CreateProductBuilder builder = CreateProduct.builder()
+                .id("123e4567-e89b-12d3-a456-426614174000")
+                .title("iPhone 13 Pro Max")
+                .description("Smartphone Apple iPhone 13 Pro Max 256GB")
+                .price(new BigDecimal("999.99"))
+                .seller(Seller.builder().id("SELLER123").name("Tienda Oficial Apple").isOfficialStore(true).build())
+                .category(Category.builder().id("TECH").name("Tecnología").build());
+        if (size == Size.SMALL) {
+            return builder.build();
+        }
+        int reviewCount = size == Size.TYPICAL ? 5 : 200;
+        List<Review> reviews = new ArrayList<>(reviewCount);
+        for (int i = 0; i < reviewCount; i++) {
+            reviews.add(Review.builder()
+                    .userId("user" + i)
+                    .comment("Excelente producto, muy satisfecho con la compra número " + i)
+                    .rating(1 + i % 5)
+                    .date("2024-03-15T14:30:00Z")
+                    .build());
+        }
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("Marca", "Apple");
+        attributes.put("Modelo", "iPhone 13");
+        attributes.put("Almacenamiento", "256GB");
+        return builder
+                .images(List.of("https://example.com/iphone-1.jpg", "https://example.com/iphone-2.jpg"))
+                .availableStock(100)
+                .paymentMethods(List.of("Tarjeta de crédito", "Mercado Pago", "Efectivo"))
+                .rating(ProductRating.builder().averageRating(4.5).totalRatings(reviewCount).reviews(reviews).build())
+                .attributes(attributes)
+                .build();
+    }
+}
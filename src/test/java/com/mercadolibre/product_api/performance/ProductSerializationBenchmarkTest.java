@@ -0,0 +1,42 @@
+package com.mercadolibre.product_api.performance;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Ejecuta {@link ProductSerializationBenchmark} con el perfilador de GC. Se lanza con
+ * {@code ./mvnw test -Pperformance -Dtest=ProductSerializationBenchmarkTest}; los resultados
+ * quedan en {@code target/jmh-serialization.json}.
+ */
+@Tag("performance")
+public class ProductSerializationBenchmarkTest {
+
+    @Test
+    void serializationBenchmark() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(ProductSerializationBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-serialization.json")
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertFalse(results.isEmpty());
+    }
+}
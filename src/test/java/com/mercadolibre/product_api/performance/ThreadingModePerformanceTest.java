@@ -0,0 +1,219 @@
+package com.mercadolibre.product_api.performance;
+
+import com.mercadolibre.product_api.config.ThreadingModeReporter;
+import com.mercadolibre.product_api.model.Category;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.Seller;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.config.gui.ArgumentsPanel;
+import org.apache.jmeter.control.LoopController;
+import org.apache.jmeter.engine.StandardJMeterEngine;
+import org.apache.jmeter.protocol.http.control.Header;
+import org.apache.jmeter.protocol.http.control.HeaderManager;
+import org.apache.jmeter.protocol.http.control.gui.HttpTestSampleGui;
+import org.apache.jmeter.protocol.http.gui.HeaderPanel;
+import org.apache.jmeter.protocol.http.sampler.HTTPSamplerProxy;
+import org.apache.jmeter.reporters.ResultCollector;
+import org.apache.jmeter.testelement.TestElement;
+import org.apache.jmeter.testelement.TestPlan;
+import org.apache.jmeter.threads.ThreadGroup;
+import org.apache.jmeter.util.JMeterUtils;
+import org.apache.jorphan.collections.HashTree;
+import org.apache.jorphan.collections.ListedHashTree;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compara el pool de hilos de plataforma de Tomcat con los hilos virtuales a distintos niveles
+ * de concurrencia. Cada conexión repite lecturas por ID y listados junto con una actualización,
+ * que escribe el archivo de datos bajo el bloqueo del repositorio.
+ * <p>
+ * Se ejecuta una vez por modo y se comparan los resúmenes:
+ * <pre>
+ * ./mvnw test -Pperformance -Dtest=ThreadingModePerformanceTest
+ * ./mvnw test -Pperformance -Dtest=ThreadingModePerformanceTest -Dspring.threads.virtual.enabled=true
+ * </pre>
+ * Los niveles se cambian con {@code -Dperf.connections=100,1000,10000}. Cada nivel agrega una
+ * línea a {@code target/jmeter/threading-summary.csv} con throughput y percentiles de latencia.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"server.tomcat.max-connections=20000", "server.tomcat.accept-count=1000",
+                // Se mide el modelo de hilos, no el rechazo por límites de concurrencia
+                "products.limits.enabled=false"})
+@Tag("performance")
+public class ThreadingModePerformanceTest {
+
+    private static final int LOOP_COUNT = 5;
+    private static final Path SUMMARY_FILE = Path.of("target/jmeter/threading-summary.csv");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ThreadingModeReporter threadingModeReporter;
+
+    @BeforeAll
+    public static void setupJMeter() {
+        File jmeterHome = new File("target/jmeter");
+        jmeterHome.mkdirs();
+        JMeterUtils.setJMeterHome(jmeterHome.getAbsolutePath());
+        JMeterUtils.loadJMeterProperties("src/test/resources/jmeter.properties");
+        // CSV sin cuerpos de respuesta: a 10k conexiones el XML completo no es manejable
+        JMeterUtils.setProperty("jmeter.save.saveservice.output_format", "csv");
+        JMeterUtils.setProperty("jmeter.save.saveservice.response_data", "false");
+        JMeterUtils.setProperty("jmeter.save.saveservice.samplerData", "false");
+        JMeterUtils.setProperty("jmeter.save.saveservice.requestHeaders", "false");
+        JMeterUtils.setProperty("jmeter.save.saveservice.responseHeaders", "false");
+        JMeterUtils.initLocale();
+    }
+
+    @Test
+    void compareConcurrencyLevels() throws Exception {
+        String mode = threadingModeReporter.isVirtualThreadsActive() ? "virtual" : "platform";
+        CreateProduct product = productRepository.save(product());
+        try {
+            for (String level : System.getProperty("perf.connections", "100,1000,10000").split(",")) {
+                int connections = Integer.parseInt(level.trim());
+                File results = new File("target/jmeter/threading_" + mode + "_" + connections + ".csv");
+                results.delete();
+
+                long started = System.nanoTime();
+                run(connections, product.getId(), results);
+                double seconds = (System.nanoTime() - started) / 1e9;
+
+                writeSummary(mode, connections, seconds, results);
+            }
+        } finally {
+            productRepository.deleteById(product.getId());
+        }
+    }
+
+    private void run(int connections, String productId, File results) {
+        TestPlan testPlan = new TestPlan("Threading mode comparison");
+        testPlan.setProperty(TestElement.TEST_CLASS, TestPlan.class.getName());
+        testPlan.setUserDefinedVariables((Arguments) new ArgumentsPanel().createTestElement());
+
+        LoopController loopController = new LoopController();
+        loopController.setLoops(LOOP_COUNT);
+        loopController.setFirst(true);
+        loopController.initialize();
+
+        ThreadGroup threadGroup = new ThreadGroup();
+        threadGroup.setName("Connections " + connections);
+        threadGroup.setNumThreads(connections);
+        threadGroup.setRampUp(Math.max(1, connections / 1000));
+        threadGroup.setSamplerController(loopController);
+
+        HashTree testPlanTree = new ListedHashTree();
+        HashTree threadGroupTree = testPlanTree.add(testPlan, threadGroup);
+        threadGroupTree.add(sampler("Get product", "GET", "/api/products/" + productId, null));
+        threadGroupTree.add(sampler("List products", "GET", "/api/products?size=20", null));
+        threadGroupTree.add(sampler("Update product", "PATCH", "/api/products/" + productId,
+                "{\"availableStock\": " + connections + "}"), jsonHeaders());
+
+        ResultCollector collector = new ResultCollector();
+        collector.setFilename(results.getPath());
+        testPlanTree.add(testPlanTree.getArray()[0], collector);
+
+        StandardJMeterEngine jmeter = new StandardJMeterEngine();
+        jmeter.configure(testPlanTree);
+        jmeter.run();
+    }
+
+    private HTTPSamplerProxy sampler(String name, String method, String path, String body) {
+        HTTPSamplerProxy sampler = new HTTPSamplerProxy();
+        sampler.setProtocol("http");
+        sampler.setDomain("localhost");
+        sampler.setPort(port);
+        sampler.setPath(path);
+        sampler.setMethod(method);
+        sampler.setName(name);
+        sampler.setUseKeepAlive(true);
+        sampler.setProperty(TestElement.TEST_CLASS, HTTPSamplerProxy.class.getName());
+        sampler.setProperty(TestElement.GUI_CLASS, HttpTestSampleGui.class.getName());
+        if (body != null) {
+            sampler.setPostBodyRaw(true);
+            sampler.addNonEncodedArgument("", body, "");
+        }
+        return sampler;
+    }
+
+    private static HeaderManager jsonHeaders() {
+        HeaderManager headers = new HeaderManager();
+        headers.add(new Header("Content-Type", "application/json"));
+        headers.setProperty(TestElement.TEST_CLASS, HeaderManager.class.getName());
+        headers.setProperty(TestElement.GUI_CLASS, HeaderPanel.class.getName());
+        return headers;
+    }
+
+    /**
+     * Resume el CSV de JMeter: throughput, percentiles de la latencia y errores.
+     */
+    private static void writeSummary(String mode, int connections, double seconds, File results) throws Exception {
+        List<String> lines = Files.readAllLines(results.toPath(), StandardCharsets.UTF_8);
+        List<String> header = List.of(lines.get(0).split(","));
+        int elapsedColumn = header.indexOf("elapsed");
+        int successColumn = header.indexOf("success");
+        List<Long> latencies = new ArrayList<>(lines.size());
+        long errors = 0;
+        for (String line : lines.subList(1, lines.size())) {
+            String[] columns = line.split(",");
+            if (columns.length <= Math.max(elapsedColumn, successColumn)) {
+                continue;
+            }
+            latencies.add(Long.parseLong(columns[elapsedColumn]));
+            if (!Boolean.parseBoolean(columns[successColumn])) {
+                errors++;
+            }
+        }
+        Collections.sort(latencies);
+
+        String summary = String.format(Locale.ROOT, "%s,%d,%d,%.1f,%d,%d,%d,%d,%d%n",
+                mode, connections, latencies.size(), latencies.size() / seconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99),
+                latencies.isEmpty() ? 0 : latencies.get(latencies.size() - 1), errors);
+        if (Files.notExists(SUMMARY_FILE)) {
+            Files.writeString(SUMMARY_FILE, "mode,connections,requests,throughput_rps,p50_ms,p95_ms,p99_ms,max_ms,errors\n");
+        }
+        Files.writeString(SUMMARY_FILE, summary, StandardOpenOption.APPEND);
+        System.out.print("threading " + summary);
+    }
+
+    private static long percentile(List<Long> sorted, double quantile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.ceil(quantile * sorted.size()) - 1));
+    }
+
+    private static CreateProduct product() {
+        return CreateProduct.builder()
+                .title("Producto de carga")
+                .description("Producto usado por la comparación de modos de hilos")
+                .price(new BigDecimal("100.00"))
+                .images(List.of("https://example.com/carga.jpg"))
+                .seller(Seller.builder().id("S1").name("Vendedor").isOfficialStore(false).build())
+                .category(Category.builder().id("TECH").name("Tecnología").build())
+                .availableStock(1)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.mercadolibre.product_api.performance;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.mercadolibre.product_api.config.JacksonConfig;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.serialization.ProductJsonModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara JSON con los formatos binarios Smile y CBOR al serializar y deserializar productos,
+ * con los mappers configurados como los de la aplicación. La latencia es el tiempo medio por
+ * operación; el tamaño de cada payload lo informa {@link WireFormatBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+
+    public enum Format { JSON, SMILE, CBOR }
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    public Format format;
+
+    @Param({"SMALL", "TYPICAL", "REVIEW_HEAVY"})
+    public ProductSerializationBenchmark.Size size;
+
+    private ObjectMapper mapper;
+    private CreateProduct product;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        mapper = mapper(format);
+        product = ProductSerializationBenchmark.product(size);
+        payload = mapper.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return mapper.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public CreateProduct deserialize() throws Exception {
+        return mapper.readValue(payload, CreateProduct.class);
+    }
+
+    static ObjectMapper mapper(Format format) {
+        JsonFactory factory = switch (format) {
+            case JSON -> new JsonFactory();
+            case SMILE -> new SmileFactory();
+            case CBOR -> new CBORFactory();
+        };
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder()
+                .factory(factory)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .modulesToInstall(new ProductJsonModule());
+        new JacksonConfig().fieldProjectionCustomizer().customize(builder);
+        return builder.build();
+    }
+}
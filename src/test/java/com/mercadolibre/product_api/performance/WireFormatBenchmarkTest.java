@@ -0,0 +1,57 @@
+package com.mercadolibre.product_api.performance;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Informa el tamaño del payload de cada formato y ejecuta {@link WireFormatBenchmark}. Se lanza con
+ * {@code ./mvnw test -Pperformance -Dtest=WireFormatBenchmarkTest}; los resultados quedan en
+ * {@code target/jmh-wire-formats.json}.
+ */
+@Tag("performance")
+public class WireFormatBenchmarkTest {
+
+    @Test
+    void wireFormatBenchmark() throws Exception {
+        for (ProductSerializationBenchmark.Size size : ProductSerializationBenchmark.Size.values()) {
+            int json = payloadSize(WireFormatBenchmark.Format.JSON, size);
+            for (WireFormatBenchmark.Format format : WireFormatBenchmark.Format.values()) {
+                int bytes = payloadSize(format, size);
+                System.out.printf("payload %-12s %-5s %7d bytes (%3d%% de JSON)%n",
+                        size, format, bytes, bytes * 100 / json);
+                assertTrue(bytes <= json);
+            }
+        }
+
+        Options options = new OptionsBuilder()
+                .include(WireFormatBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-wire-formats.json")
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertFalse(results.isEmpty());
+    }
+
+    private static int payloadSize(WireFormatBenchmark.Format format, ProductSerializationBenchmark.Size size)
+            throws Exception {
+        return WireFormatBenchmark.mapper(format).writeValueAsBytes(ProductSerializationBenchmark.product(size)).length;
+    }
+}
@@ -0,0 +1,135 @@
+package com.mercadolibre.product_api.popularity;
+
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PopularityTrackerTest {
+
+    private ProductRepository repository;
+    private final List<String> createdIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        repository = new ProductRepository();
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdIds.forEach(repository::deleteById);
+    }
+
+    @Test
+    void forEachOrdered_WalksRankingByScoreThenProductsCreatedAfterRecalculation() {
+        PopularityTracker tracker = new PopularityTracker(repository, 60000, 3600000, 5);
+        tracker.init();
+        CreateProduct viewed = save("Vista");
+        CreateProduct bought = save("Comprado");
+        CreateProduct idle = save("Sin actividad");
+
+        tracker.recordView(viewed.getId());
+        tracker.recordView(viewed.getId());
+        tracker.recordPurchase(bought.getId(), 1);
+        tracker.recalculate();
+        CreateProduct newer = save("Nuevo");
+
+        List<String> descending = ours(tracker, false);
+        assertEquals(List.of(bought.getId(), viewed.getId(), idle.getId(), newer.getId()), descending);
+        assertEquals(5.0, tracker.scoreOf(bought.getId()), 0.01);
+
+        List<String> ascending = ours(tracker, true);
+        assertEquals(List.of(newer.getId(), idle.getId(), viewed.getId(), bought.getId()), ascending);
+    }
+
+    @Test
+    void forEachOrdered_IncludesProductCreatedWhenAnotherWasDeleted() {
+        PopularityTracker tracker = new PopularityTracker(repository, 60000, 3600000, 5);
+        tracker.init();
+        CreateProduct removed = save("Eliminado");
+        tracker.recalculate();
+
+        // El tamaño del catálogo no cambia: el nuevo igual debe recorrerse
+        repository.deleteById(removed.getId());
+        CreateProduct newer = save("Nuevo");
+
+        assertTrue(ours(tracker, false).contains(newer.getId()));
+        tracker.recalculate();
+        assertEquals(List.of(newer.getId()), ours(tracker, false));
+    }
+
+    @Test
+    void recalculate_DecaysScoresWithHalfLife() throws InterruptedException {
+        PopularityTracker tracker = new PopularityTracker(repository, 60000, 50, 5);
+        tracker.init();
+        CreateProduct product = save("Decae");
+        for (int i = 0; i < 100; i++) {
+            tracker.recordView(product.getId());
+        }
+        tracker.recalculate();
+        double initial = tracker.scoreOf(product.getId());
+        assertTrue(initial > 90, "puntaje inicial: " + initial);
+
+        Thread.sleep(120);
+        tracker.recalculate();
+
+        // Al menos dos vidas medias sin vistas nuevas
+        assertTrue(tracker.scoreOf(product.getId()) <= initial / 4, "puntaje: " + tracker.scoreOf(product.getId()));
+    }
+
+    @Test
+    void recordView_CountsConcurrentViewsAndForgetsDeletedProducts() throws InterruptedException {
+        PopularityTracker tracker = new PopularityTracker(repository, 60000, 3600000, 5);
+        tracker.init();
+        CreateProduct product = save("Concurrente");
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    tracker.recordView(product.getId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        tracker.recalculate();
+        assertEquals(8000.0, tracker.scoreOf(product.getId()), 1.0);
+
+        repository.deleteById(product.getId());
+        tracker.recalculate();
+        assertEquals(0.0, tracker.scoreOf(product.getId()));
+        assertFalse(ours(tracker, false).contains(product.getId()));
+    }
+
+    private List<String> ours(PopularityTracker tracker, boolean ascending) {
+        Set<String> ids = Set.copyOf(createdIds);
+        List<String> order = new ArrayList<>();
+        tracker.forEachOrdered(ascending, id -> {
+            if (ids.contains(id)) {
+                order.add(id);
+            }
+        });
+        return order;
+    }
+
+    private CreateProduct save(String title) {
+        CreateProduct product = repository.save(CreateProduct.builder()
+                .title(title)
+                .price(new BigDecimal("10.00"))
+                .build());
+        createdIds.add(product.getId());
+        return product;
+    }
+}
@@ -0,0 +1,94 @@
+package com.mercadolibre.product_api.projection;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.product_api.config.JacksonConfig;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.ProductRating;
+import com.mercadolibre.product_api.model.Review;
+import com.mercadolibre.product_api.model.Seller;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldProjectionFilterTest {
+
+    private ObjectMapper objectMapper;
+    private FieldProjectionCompiler compiler;
+
+    @BeforeEach
+    void setUp() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new JacksonConfig().fieldProjectionCustomizer().customize(builder);
+        objectMapper = builder.build();
+        compiler = new FieldProjectionCompiler(2);
+    }
+
+    @Test
+    void parse_WithOverlappingPaths_KeepsWholeSubObject() {
+        assertEquals("id,seller", FieldProjection.parse("seller.name, id,seller,,").canonical());
+        assertEquals("rating(reviews(comment))", FieldProjection.parse("rating.reviews.comment").canonical());
+    }
+
+    @Test
+    void serialize_WithNestedFields_WritesOnlyRequestedProperties() throws Exception {
+        JsonNode json = objectMapper.readTree(objectMapper.writer(compiler.compile("id,seller.name,rating.reviews.comment"))
+                .writeValueAsString(product()));
+
+        assertEquals("P1", json.get("id").asText());
+        assertNull(json.get("title"));
+        assertEquals(1, json.get("seller").size());
+        assertEquals("Tienda", json.get("seller").get("name").asText());
+        assertEquals(1, json.get("rating").size());
+        assertEquals("Muy bueno", json.get("rating").get("reviews").get(0).get("comment").asText());
+        assertNull(json.get("rating").get("reviews").get(0).get("userId"));
+    }
+
+    @Test
+    void serialize_InsideAList_ProjectsEachProduct() throws Exception {
+        JsonNode json = objectMapper.readTree(objectMapper.writer(compiler.compile("title"))
+                .writeValueAsString(List.of(product(), product())));
+
+        assertEquals(2, json.size());
+        assertEquals(1, json.get(1).size());
+        assertEquals("Producto", json.get(1).get("title").asText());
+    }
+
+    @Test
+    void serialize_WithoutProjection_WritesEverything() throws Exception {
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(product()));
+
+        assertEquals("Producto", json.get("title").asText());
+        assertEquals("S1", json.get("seller").get("id").asText());
+    }
+
+    @Test
+    void compile_ReusesCachedFilters() {
+        assertSame(compiler.compile("id,title"), compiler.compile("id,title"));
+        assertNull(compiler.compile(" "));
+        assertEquals(1, compiler.cachedProjections());
+    }
+
+    private static CreateProduct product() {
+        Review review = new Review();
+        review.setUserId("U1");
+        review.setComment("Muy bueno");
+        review.setRating(5);
+        ProductRating rating = new ProductRating();
+        rating.setAverageRating(5.0);
+        rating.setTotalRatings(1);
+        rating.setReviews(List.of(review));
+        return CreateProduct.builder()
+                .id("P1")
+                .title("Producto")
+                .price(new BigDecimal("10.00"))
+                .seller(Seller.builder().id("S1").name("Tienda").build())
+                .rating(rating)
+                .build();
+    }
+}
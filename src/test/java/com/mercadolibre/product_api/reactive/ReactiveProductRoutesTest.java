@@ -0,0 +1,143 @@
+package com.mercadolibre.product_api.reactive;
+
+import com.mercadolibre.product_api.dto.CreateProductRequest;
+import com.mercadolibre.product_api.dto.MultiGetResponse;
+import com.mercadolibre.product_api.dto.ProductSearchParams;
+import com.mercadolibre.product_api.exception.ProductNotFoundException;
+import com.mercadolibre.product_api.model.Category;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.Seller;
+import com.mercadolibre.product_api.service.ProductService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReactiveProductRoutesTest {
+
+    private ProductService productService;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        productService = mock(ProductService.class);
+        ReactiveProductHandler handler = new ReactiveProductHandler(productService,
+                Validation.buildDefaultValidatorFactory().getValidator(), Schedulers.boundedElastic());
+        client = WebTestClient.bindToRouterFunction(ReactiveProductRoutes.routes(handler)).build();
+    }
+
+    @Test
+    void getProductById_ReturnsProductOr404() {
+        when(productService.getProductById("P1")).thenReturn(product("P1"));
+        when(productService.getProductById("X")).thenThrow(new ProductNotFoundException("Producto no encontrado con ID: X"));
+
+        client.get().uri("/api/products/P1").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.id").isEqualTo("P1");
+        client.get().uri("/api/products/X").exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.message").isEqualTo("Producto no encontrado con ID: X");
+    }
+
+    @Test
+    void getProductsByIds_UsesIdsParameter() {
+        when(productService.getProductsByIds(List.of("P1", "P2")))
+                .thenReturn(MultiGetResponse.builder().products(List.of(product("P1"))).missing(List.of("P2")).build());
+
+        client.get().uri("/api/products?ids=P1, P2").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.products[0].id").isEqualTo("P1")
+                .jsonPath("$.missing[0]").isEqualTo("P2");
+    }
+
+    @Test
+    void getAllProducts_ParsesPageable() {
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        when(productService.searchProducts(any(ProductSearchParams.class), pageable.capture()))
+                .thenAnswer(invocation -> new PageImpl<>(List.of(product("P1")), invocation.getArgument(1), 1));
+
+        client.get().uri("/api/products?page=2&size=5&sort=price,desc").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.content[0].id").isEqualTo("P1");
+
+        assertEquals(2, pageable.getValue().getPageNumber());
+        assertEquals(5, pageable.getValue().getPageSize());
+        assertEquals(Sort.by(Sort.Order.desc("price")), pageable.getValue().getSort());
+    }
+
+    @Test
+    void searchProducts_StreamsNdjsonAndStopsAtLimit() {
+        AtomicInteger evaluated = new AtomicInteger();
+        when(productService.streamProducts(any(ProductSearchParams.class))).thenAnswer(invocation ->
+                Stream.of("P1", "P2", "P3", "P4").peek(id -> evaluated.incrementAndGet()).map(ReactiveProductRoutesTest::product));
+
+        List<CreateProduct> results = client.get().uri("/api/products/search?minPrice=10&limit=2")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(CreateProduct.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(List.of("P1", "P2"), results.stream().map(CreateProduct::getId).toList());
+        // Al llegar al límite no se evalúan más candidatos
+        assertEquals(2, evaluated.get());
+        ArgumentCaptor<ProductSearchParams> params = ArgumentCaptor.forClass(ProductSearchParams.class);
+        verify(productService).streamProducts(params.capture());
+        assertEquals(new BigDecimal("10"), params.getValue().getMinPrice());
+    }
+
+    @Test
+    void searchProducts_InvalidNumber_Returns400() {
+        client.get().uri("/api/products/search?minPrice=abc").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("Valor inválido para el parámetro minPrice: abc");
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void createProduct_ValidatesAndPersists() {
+        when(productService.createProduct(any(CreateProductRequest.class))).thenReturn(product("NEW"));
+        CreateProductRequest request = CreateProductRequest.builder()
+                .title("Producto")
+                .description("Descripción")
+                .price(new BigDecimal("10.00"))
+                .images(List.of("https://example.com/1.jpg"))
+                .seller(Seller.builder().id("S1").name("Tienda").isOfficialStore(false).build())
+                .category(Category.builder().id("TECH").name("Tecnología").build())
+                .build();
+
+        client.post().uri("/api/products").bodyValue(request).exchange()
+                .expectStatus().isCreated()
+                .expectHeader().location("/api/products/NEW")
+                .expectBody().jsonPath("$.id").isEqualTo("NEW");
+
+        client.post().uri("/api/products").bodyValue(Map.of("title", "")).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.details.title").exists();
+        verify(productService, times(1)).createProduct(any());
+    }
+
+    private static CreateProduct product(String id) {
+        return CreateProduct.builder().id(id).title("Producto " + id).price(new BigDecimal("100")).build();
+    }
+}
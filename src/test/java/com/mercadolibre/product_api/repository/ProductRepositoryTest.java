@@ -1,13 +1,24 @@
 package com.mercadolibre.product_api.repository;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.ProductRating;
+import com.mercadolibre.product_api.model.Review;
 import com.mercadolibre.product_api.model.Seller;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,6 +55,49 @@ class ProductRepositoryTest {
         assertTrue(found.isEmpty());
     }
 
+    @Test
+    void save_RecordsOperationAndPersistenceMetrics() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProductRepository instrumented = new ProductRepository(new ObjectMapper(), meterRegistry);
+
+        CreateProduct product = instrumented.save(createTestProduct());
+        instrumented.findAll();
+        instrumented.deleteById(product.getId());
+
+        for (String operation : List.of("save", "findAll", "deleteById")) {
+            assertEquals(1, meterRegistry.get(ProductRepository.OPERATION_TIMER).tag("operation", operation).timer().count(),
+                    operation);
+        }
+        // Cada escritura persiste el archivo una vez
+        assertEquals(2, meterRegistry.get(ProductRepository.OPERATION_TIMER).tag("operation", "saveData").timer().count());
+        assertTrue(meterRegistry.get(ProductRepository.FILE_BYTES).tag("operation", "saveData").summary().totalAmount() > 0);
+    }
+
+    @Test
+    void applyJournaled_AppendsToJournalAndReplaysOnLoad(@TempDir Path dir) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Path journalFile = dir.resolve("products.journal.ndjson");
+        ProductRepository journaled = new ProductRepository(new ObjectMapper(), meterRegistry, journalFile.toString());
+        String id = journaled.save(createTestProduct()).getId();
+
+        journaled.applyJournaled(List.of(new ProductMutation.SetStock(id, () -> 7)));
+
+        assertEquals(7, journaled.findById(id).orElseThrow().getAvailableStock());
+        assertTrue(Files.exists(journalFile));
+        // Sólo el alta reescribió el archivo
+        assertEquals(1, meterRegistry.get(ProductRepository.OPERATION_TIMER).tag("operation", "saveData").timer().count());
+
+        ProductRepository restarted = new ProductRepository(new ObjectMapper(), new SimpleMeterRegistry(), journalFile.toString());
+        restarted.init();
+        assertEquals(7, restarted.findById(id).orElseThrow().getAvailableStock());
+
+        journaled.compactJournal();
+        journaled.compactJournal();
+        assertFalse(Files.exists(journalFile));
+        assertEquals(2, meterRegistry.get(ProductRepository.OPERATION_TIMER).tag("operation", "saveData").timer().count());
+        journaled.deleteById(id);
+    }
+
     @Test
     void findAll_ReturnsAllProducts() {
         repository.save(createTestProduct());
@@ -85,6 +139,116 @@ class ProductRepositoryTest {
         assertEquals(product.getId(), updated.getId());
     }
 
+    @Test
+    void applyAll_WithSavesAndDeletes_AppliesInOrderAndNotifiesListeners() {
+        CreateProduct existing = repository.save(createTestProduct());
+        CreateProduct created = createTestProduct();
+        List<String> events = new java.util.ArrayList<>();
+        repository.addChangeListener(new ProductChangeListener() {
+            @Override
+            public void onSave(CreateProduct previous, CreateProduct current) {
+                events.add("save:" + current.getId());
+            }
+
+            @Override
+            public void onDelete(CreateProduct removed) {
+                events.add("delete:" + removed.getId());
+            }
+        });
+
+        repository.applyAll(List.of(
+                new ProductMutation.Save(created),
+                new ProductMutation.Delete(existing.getId())));
+
+        assertNotNull(created.getId());
+        assertTrue(repository.existsById(created.getId()));
+        assertFalse(repository.existsById(existing.getId()));
+        assertEquals(List.of("save:" + created.getId(), "delete:" + existing.getId()), events);
+    }
+
+    @Test
+    void applyAll_SetStock_ReplacesOnlyStockOnCurrentVersion() {
+        CreateProduct product = repository.save(createTestProduct());
+        long version = repository.versionOf(product.getId());
+
+        repository.applyAll(List.of(
+                new ProductMutation.SetStock(product.getId(), () -> 7),
+                new ProductMutation.SetStock("non-existing-id", () -> 1)));
+
+        CreateProduct updated = repository.findById(product.getId()).orElseThrow();
+        assertEquals(7, updated.getAvailableStock());
+        assertEquals(product.getTitle(), updated.getTitle());
+        assertNotSame(product, updated);
+        assertNull(product.getAvailableStock());
+        assertTrue(repository.versionOf(product.getId()) > version);
+        assertFalse(repository.existsById("non-existing-id"));
+    }
+
+    @Test
+    void applyAll_AppendReview_UpdatesAggregatesIncrementally() {
+        // Datos anteriores al histograma: se arma con las reseñas existentes
+        List<Review> reviews = new ArrayList<>(List.of(review(5), review(3)));
+        CreateProduct product = createTestProduct();
+        product.setRating(ProductRating.builder().averageRating(4.0).totalRatings(2).reviews(reviews).build());
+        product = repository.save(product);
+
+        repository.applyAll(List.of(new ProductMutation.AppendReview(product.getId(), review(1), 2)));
+
+        ProductRating rating = repository.findById(product.getId()).orElseThrow().getRating();
+        assertEquals(3, rating.getTotalRatings());
+        assertEquals(3.0, rating.getAverageRating(), 1e-9);
+        assertEquals(List.of(1, 0, 1, 0, 1), rating.getRatingHistogram());
+        // El producto conserva sólo las más recientes
+        assertEquals(List.of(review(3), review(1)), rating.getReviews());
+        // La versión anterior que puedan estar leyendo otros hilos no cambia
+        assertEquals(2, product.getRating().getReviews().size());
+        assertEquals(2, product.getRating().getTotalRatings());
+    }
+
+    @Test
+    void applyAll_AppendReview_TotalBeyondReviewsUsesIncrementalAverage() {
+        CreateProduct product = createTestProduct();
+        product.setRating(ProductRating.builder().averageRating(4.0).totalRatings(99).reviews(new ArrayList<>()).build());
+        product = repository.save(product);
+
+        repository.applyAll(List.of(new ProductMutation.AppendReview(product.getId(), review(5), 2)));
+
+        ProductRating rating = repository.findById(product.getId()).orElseThrow().getRating();
+        assertEquals(100, rating.getTotalRatings());
+        assertEquals(4.01, rating.getAverageRating(), 1e-9);
+    }
+
+    @Test
+    void applyAll_AppendReview_ConcurrentSubmissionsAreAllApplied() throws Exception {
+        CreateProduct product = createTestProduct();
+        product.setRating(ProductRating.builder().averageRating(0.0).totalRatings(0).build());
+        String id = repository.save(product).getId();
+        repository.applyAll(List.of(new ProductMutation.AppendReview(id, review(1), 5)), false);
+        ProductRating first = repository.findById(id).orElseThrow().getRating();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 1; i < 400; i++) {
+            int stars = i % 5 + 1;
+            executor.submit(() -> repository.applyAll(List.of(new ProductMutation.AppendReview(id, review(stars), 5)), false));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        ProductRating rating = repository.findById(id).orElseThrow().getRating();
+        assertEquals(400, rating.getTotalRatings());
+        assertEquals(5, rating.getReviews().size());
+        assertEquals(List.of(80, 80, 80, 80, 80), rating.getRatingHistogram());
+        assertEquals(3.0, rating.getAverageRating(), 1e-9);
+        // La versión anterior no ve las reseñas posteriores
+        assertEquals(1, first.getReviews().size());
+        assertEquals(1, first.getTotalRatings());
+        assertThrows(UnsupportedOperationException.class, () -> rating.getReviews().add(review(1)));
+    }
+
+    private static Review review(int stars) {
+        return Review.builder().userId("U" + stars).comment("Comentario").rating(stars).build();
+    }
+
     private CreateProduct createTestProduct() {
         return CreateProduct.builder()
                 .title("Test Product")
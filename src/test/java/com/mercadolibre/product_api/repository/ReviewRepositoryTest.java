@@ -0,0 +1,85 @@
+package com.mercadolibre.product_api.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.product_api.model.Review;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path logFile;
+    private ReviewRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        logFile = tempDir.resolve("reviews.ndjson");
+        repository = newRepository();
+    }
+
+    @Test
+    void findPage_WalksFromNewestWithStableCursor() {
+        for (int i = 1; i <= 5; i++) {
+            repository.append("P1", review("U" + i));
+        }
+
+        List<Review> first = repository.findPage("P1", null, 2);
+        assertEquals(List.of("U5", "U4"), users(first));
+
+        // Una reseña nueva no desplaza las páginas siguientes
+        repository.append("P1", review("U6"));
+        assertEquals(List.of("U3", "U2"), users(repository.findPage("P1", 3, 2)));
+        assertEquals(List.of("U1"), users(repository.findPage("P1", 1, 2)));
+        assertEquals(List.of(), repository.findPage("P1", 0, 2));
+        assertEquals(List.of(), repository.findPage("otro", null, 2));
+    }
+
+    @Test
+    void append_KeepsEarlierSnapshotsUnchanged() {
+        repository.append("P1", review("U1"));
+        List<Review> snapshot = repository.findAll("P1");
+
+        repository.append("P1", review("U2"));
+
+        assertEquals(1, snapshot.size());
+        assertEquals(2, repository.findAll("P1").size());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(review("U3")));
+    }
+
+    @Test
+    void init_ReplaysAppendOnlyLog() throws Exception {
+        repository.appendAll("P1", List.of(review("U1"), review("U2")));
+        repository.append("P2", review("U3"));
+        repository.deleteByProductId("P2");
+        repository.append("P1", review("U4"));
+
+        ReviewRepository reloaded = newRepository();
+        reloaded.init();
+
+        assertEquals(List.of("U1", "U2", "U4"), users(reloaded.findAll("P1")));
+        assertEquals(0, reloaded.count("P2"));
+        // Cada reseña o eliminación es una línea agregada, no una reescritura del archivo
+        assertEquals(5, Files.readAllLines(logFile).size());
+    }
+
+    private ReviewRepository newRepository() {
+        return new ReviewRepository(new ObjectMapper(), logFile.toString());
+    }
+
+    private static Review review(String userId) {
+        return Review.builder().userId(userId).comment("Comentario").rating(4).build();
+    }
+
+    private static List<String> users(List<Review> reviews) {
+        return reviews.stream().map(Review::getUserId).toList();
+    }
+}
@@ -0,0 +1,131 @@
+package com.mercadolibre.product_api.search;
+
+import com.mercadolibre.product_api.dto.SearchExpression;
+import com.mercadolibre.product_api.exception.InvalidSearchExpressionException;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.Seller;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCompilerTest {
+
+    private QueryCompiler compiler;
+    private CreateProduct product;
+
+    @BeforeEach
+    void setUp() {
+        compiler = new QueryCompiler(16);
+        product = CreateProduct.builder()
+                .id("MLB1234567")
+                .title("iPhone 13 Pro")
+                .price(new BigDecimal("999.99"))
+                .seller(Seller.builder().id("SELLER1").isOfficialStore(true).build())
+                .attributes(Map.of("Marca", "Apple"))
+                .build();
+    }
+
+    @Test
+    void compile_AndOfLeaves_MatchesProduct() {
+        SearchExpression expression = and(
+                range("price", "500", "1000"),
+                term("seller.isOfficialStore", true),
+                prefix("title", "IPHONE"),
+                attribute("marca", "apple"));
+
+        assertTrue(compiler.compile(expression).matches(product));
+    }
+
+    @Test
+    void compile_RangeOutsideBounds_DoesNotMatch() {
+        assertFalse(compiler.compile(range("price", "1000", null)).matches(product));
+    }
+
+    @Test
+    void compile_EquivalentExpressions_ShareCachedPlan() {
+        CompiledQuery first = compiler.compile(and(term("seller.isOfficialStore", true), range("price", "100", null)));
+        CompiledQuery second = compiler.compile(and(range("price", "100.00", null),
+                and(term("seller.isOfficialStore", "true"))));
+
+        assertSame(first, second);
+        assertEquals(1, compiler.cachedPlans());
+    }
+
+    @Test
+    void compile_DoubleNegation_IsRemoved() {
+        SearchExpression inner = term("id", "MLB1234567");
+        SearchExpression doubleNot = not(not(inner));
+
+        assertEquals(compiler.compile(inner).canonicalKey(), compiler.compile(doubleNot).canonicalKey());
+    }
+
+    @Test
+    void compile_DisjointRanges_NormalizeToFalse() {
+        CompiledQuery query = compiler.compile(and(range("price", "10", "20"), range("price", "30", "40")));
+
+        assertEquals("false", query.canonicalKey());
+        assertFalse(query.matches(product));
+    }
+
+    @Test
+    void compile_OrOfTermsOnSameField_MergesIntoSingleTerm() {
+        CompiledQuery query = compiler.compile(SearchExpression.builder()
+                .type(SearchExpression.Type.OR)
+                .children(List.of(term("seller.id", "seller1"), term("seller.id", "seller2")))
+                .build());
+
+        assertTrue(query.canonicalKey().startsWith("term(seller.id,"));
+        assertTrue(query.matches(product));
+    }
+
+    @Test
+    void compile_UnknownField_ThrowsException() {
+        assertThrows(InvalidSearchExpressionException.class, () -> compiler.compile(term("color", "rojo")));
+    }
+
+    @Test
+    void compile_PrefixOnNumericField_ThrowsException() {
+        assertThrows(InvalidSearchExpressionException.class, () -> compiler.compile(prefix("price", "9")));
+    }
+
+    @Test
+    void compile_EmptyAnd_ThrowsException() {
+        SearchExpression expression = SearchExpression.builder().type(SearchExpression.Type.AND).build();
+
+        assertThrows(InvalidSearchExpressionException.class, () -> compiler.compile(expression));
+    }
+
+    private static SearchExpression and(SearchExpression... children) {
+        return SearchExpression.builder().type(SearchExpression.Type.AND).children(List.of(children)).build();
+    }
+
+    private static SearchExpression not(SearchExpression child) {
+        return SearchExpression.builder().type(SearchExpression.Type.NOT).child(child).build();
+    }
+
+    private static SearchExpression range(String field, String gte, String lte) {
+        return SearchExpression.builder()
+                .type(SearchExpression.Type.RANGE)
+                .field(field)
+                .gte(gte == null ? null : new BigDecimal(gte))
+                .lte(lte == null ? null : new BigDecimal(lte))
+                .build();
+    }
+
+    private static SearchExpression term(String field, Object value) {
+        return SearchExpression.builder().type(SearchExpression.Type.TERM).field(field).value(value).build();
+    }
+
+    private static SearchExpression prefix(String field, String value) {
+        return SearchExpression.builder().type(SearchExpression.Type.PREFIX).field(field).value(value).build();
+    }
+
+    private static SearchExpression attribute(String name, String value) {
+        return SearchExpression.builder().type(SearchExpression.Type.ATTRIBUTE).name(name).value(value).build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.mercadolibre.product_api.search;
+
+import com.mercadolibre.product_api.model.CreateProduct;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchCoalescerTest {
+
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_ConcurrentIdenticalSearches_ShareOneComputation() throws Exception {
+        SearchCoalescer coalescer = new SearchCoalescer(true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+        Page<CreateProduct> result = new PageImpl<>(List.of(CreateProduct.builder().id("P1").build()));
+        Supplier<Page<CreateProduct>> search = () -> {
+            computations.incrementAndGet();
+            started.countDown();
+            await(release);
+            return result;
+        };
+
+        Future<Page<CreateProduct>> leader = executor.submit(() -> coalescer.execute("q", PAGE, 1, search));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        List<Future<Page<CreateProduct>>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> coalescer.execute("q", PageRequest.of(0, 10), 1, search)));
+        }
+        waitUntil(() -> coalescer.getCoalesced() == 5);
+        release.countDown();
+
+        assertSame(result, leader.get(5, TimeUnit.SECONDS));
+        for (Future<Page<CreateProduct>> follower : followers) {
+            assertSame(result, follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, computations.get());
+        assertEquals(1, coalescer.getExecutions());
+        assertEquals(0, coalescer.getInFlight());
+    }
+
+    @Test
+    void execute_DifferentPageOrCatalogVersion_ComputesSeparately() throws Exception {
+        SearchCoalescer coalescer = new SearchCoalescer(true);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+        Supplier<Page<CreateProduct>> search = () -> {
+            computations.incrementAndGet();
+            await(release);
+            return Page.empty();
+        };
+
+        List<Future<Page<CreateProduct>>> searches = List.of(
+                executor.submit(() -> coalescer.execute("q", PAGE, 1, search)),
+                executor.submit(() -> coalescer.execute("q", PAGE, 2, search)),
+                executor.submit(() -> coalescer.execute("q", PageRequest.of(1, 10), 1, search)),
+                executor.submit(() -> coalescer.execute("otra", PAGE, 1, search)));
+        waitUntil(() -> computations.get() == 4);
+        release.countDown();
+        for (Future<Page<CreateProduct>> future : searches) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(0, coalescer.getCoalesced());
+        assertEquals(4, coalescer.getExecutions());
+    }
+
+    @Test
+    void execute_FailedComputation_PropagatesToWaitersAndIsNotKept() throws Exception {
+        SearchCoalescer coalescer = new SearchCoalescer(true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<Page<CreateProduct>> failing = () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("falló");
+        };
+
+        Future<Page<CreateProduct>> leader = executor.submit(() -> coalescer.execute("q", PAGE, 1, failing));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Page<CreateProduct>> follower = executor.submit(() -> coalescer.execute("q", PAGE, 1, failing));
+        waitUntil(() -> coalescer.getCoalesced() == 1);
+        release.countDown();
+
+        ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerError = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+        assertInstanceOf(IllegalStateException.class, followerError.getCause());
+        // Tras el error la siguiente búsqueda se calcula de nuevo
+        assertEquals(Page.empty(), coalescer.execute("q", PAGE, 1, Page::empty));
+        assertEquals(2, coalescer.getExecutions());
+    }
+
+    @Test
+    void execute_Disabled_AlwaysComputes() {
+        SearchCoalescer coalescer = new SearchCoalescer(false);
+
+        coalescer.execute("q", PAGE, 1, Page::empty);
+        coalescer.execute("q", PAGE, 1, Page::empty);
+
+        assertEquals(2, coalescer.getExecutions());
+        assertEquals(0, coalescer.getInFlight());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condición no alcanzada");
+            Thread.sleep(5);
+        }
+    }
+}
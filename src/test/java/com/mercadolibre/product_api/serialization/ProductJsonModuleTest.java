@@ -0,0 +1,113 @@
+package com.mercadolibre.product_api.serialization;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.product_api.config.JacksonConfig;
+import com.mercadolibre.product_api.model.Category;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.ProductRating;
+import com.mercadolibre.product_api.model.Review;
+import com.mercadolibre.product_api.model.Seller;
+import com.mercadolibre.product_api.projection.FieldProjectionCompiler;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductJsonModuleTest {
+
+    @Test
+    void serialize_MatchesReflectiveOutput() throws Exception {
+        for (JsonInclude.Include inclusion : List.of(JsonInclude.Include.NON_NULL, JsonInclude.Include.ALWAYS)) {
+            ObjectMapper reflective = mapper(inclusion, false);
+            ObjectMapper streaming = mapper(inclusion, true);
+
+            assertEquals(reflective.writeValueAsString(product()), streaming.writeValueAsString(product()));
+            assertEquals(reflective.writeValueAsString(List.of(product(), new CreateProduct())),
+                    streaming.writeValueAsString(List.of(product(), new CreateProduct())));
+        }
+    }
+
+    @Test
+    void serialize_WithProjection_MatchesReflectiveOutput() throws Exception {
+        ObjectMapper reflective = mapper(JsonInclude.Include.NON_NULL, false);
+        ObjectMapper streaming = mapper(JsonInclude.Include.NON_NULL, true);
+        FieldProjectionCompiler compiler = new FieldProjectionCompiler(4);
+        String fields = "id,seller.name,rating.reviews.comment,category";
+
+        String expected = reflective.writer(compiler.compile(fields)).writeValueAsString(List.of(product()));
+        String actual = streaming.writer(compiler.compile(fields)).writeValueAsString(List.of(product()));
+
+        assertEquals(expected, actual);
+        assertFalse(actual.contains("title"));
+    }
+
+    @Test
+    void deserialize_RoundTripsAndMatchesReflectiveReader() throws Exception {
+        ObjectMapper reflective = mapper(JsonInclude.Include.NON_NULL, false);
+        ObjectMapper streaming = mapper(JsonInclude.Include.NON_NULL, true);
+        ObjectMapper always = mapper(JsonInclude.Include.ALWAYS, true);
+        String json = streaming.writeValueAsString(product());
+
+        assertEquals(product(), always.readValue(always.writeValueAsString(product()), CreateProduct.class));
+        assertEquals(reflective.readValue(json, CreateProduct.class), streaming.readValue(json, CreateProduct.class));
+        // Los valores por defecto del constructor vacío se conservan si la propiedad no viene
+        assertEquals(reflective.readValue("{\"title\":\"T\"}", CreateProduct.class),
+                streaming.readValue("{\"title\":\"T\"}", CreateProduct.class));
+    }
+
+    @Test
+    void deserialize_IgnoresUnknownFieldsAndCoercesText() throws Exception {
+        ObjectMapper streaming = mapper(JsonInclude.Include.NON_NULL, true);
+        String json = """
+                {"id":"P1","extra":{"a":[1,2]},"price":"10.50","availableStock":"3",
+                 "seller":{"name":"Tienda","isOfficialStore":"true","rating":"4.5","otro":1}}
+                """;
+
+        CreateProduct product = streaming.readValue(json, CreateProduct.class);
+
+        assertEquals("P1", product.getId());
+        assertEquals(new BigDecimal("10.50"), product.getPrice());
+        assertEquals(3, product.getAvailableStock());
+        assertTrue(product.getSeller().getIsOfficialStore());
+        assertEquals(4.5, product.getSeller().getRating());
+    }
+
+    private static ObjectMapper mapper(JsonInclude.Include inclusion, boolean streaming) {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder().serializationInclusion(inclusion);
+        new JacksonConfig().fieldProjectionCustomizer().customize(builder);
+        if (streaming) {
+            builder.modulesToInstall(new ProductJsonModule());
+        }
+        return builder.build();
+    }
+
+    private static CreateProduct product() {
+        List<Review> reviews = new ArrayList<>();
+        reviews.add(Review.builder().userId("U1").comment("Muy bueno").rating(5).date("2024-03-15T14:30:00Z").build());
+        reviews.add(Review.builder().userId("U2").comment("Regular \"con comillas\"").rating(3).build());
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("Marca", "Apple");
+        attributes.put("Color", null);
+        return CreateProduct.builder()
+                .id("P1")
+                .title("Producto")
+                .description("Descripción con acentos")
+                .price(new BigDecimal("1999.90"))
+                .images(List.of("https://example.com/1.jpg"))
+                .seller(Seller.builder().id("S1").name("Tienda").isOfficialStore(true).rating(4.8).build())
+                .availableStock(10)
+                .paymentMethods(List.of("Tarjeta", "Efectivo"))
+                .rating(ProductRating.builder().averageRating(4.0).totalRatings(2)
+                        .ratingHistogram(List.of(0, 0, 1, 0, 1)).reviews(reviews).build())
+                .category(Category.builder().id("TECH").name("Tecnología").attributes(List.of("Marca")).active(true).build())
+                .attributes(attributes)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.mercadolibre.product_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.product_api.dto.ImportResponse;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import com.mercadolibre.product_api.repository.ReviewRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogTransferServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ProductRepository repository;
+    private CatalogTransferService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ProductRepository();
+        ReviewRepository reviewRepository = new ReviewRepository(new ObjectMapper(), tempDir.resolve("reviews.ndjson").toString());
+        service = new CatalogTransferService(repository, new ReviewService(repository, reviewRepository, 5),
+                new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator(), 2);
+    }
+
+    @Test
+    void exportCatalog_WritesOneProductPerLine() throws IOException {
+        repository.save(product("P1"));
+        repository.save(product("P2"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = service.exportCatalog(output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":\"P"));
+    }
+
+    @Test
+    void importCatalog_AppliesProductsInBatches() throws IOException {
+        String ndjson = line("I1", "Uno", "10") + line("I2", "Dos", "20") + line("I3", "Tres", "30");
+
+        ImportResponse response = service.importCatalog(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(3, response.getImported());
+        assertEquals(2, response.getBatches());
+        assertEquals("Tres", repository.findById("I3").orElseThrow().getTitle());
+    }
+
+    @Test
+    void importCatalog_WithMalformedLine_KeepsPreviousBatches() {
+        String ndjson = line("M1", "Uno", "10") + line("M2", "Dos", "20") + """
+                {"id": "M3", "title":
+                """;
+
+        assertThrows(IOException.class,
+                () -> service.importCatalog(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8))));
+        assertTrue(repository.existsById("M2"));
+        assertFalse(repository.existsById("M3"));
+    }
+
+    @Test
+    void importCatalog_WithInvalidLine_SkipsAndReportsIt() throws IOException {
+        String ndjson = line("V1", "Uno", "10")
+                + "{\"id\": \"V2\", \"description\": \"Sin título\", \"price\": -5, \"availableStock\": -1}\n"
+                + line("V3", "Tres", "30");
+
+        ImportResponse response = service.importCatalog(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, response.getImported());
+        assertEquals(1, response.getRejected());
+        assertEquals(2, response.getErrors().get(0).getLine());
+        assertEquals("V2", response.getErrors().get(0).getId());
+        assertTrue(response.getErrors().get(0).getDetails().keySet()
+                .containsAll(List.of("title", "price", "availableStock", "seller", "category")));
+        assertTrue(repository.existsById("V3"));
+        assertFalse(repository.existsById("V2"));
+    }
+
+    private static String line(String id, String title, String price) {
+        return "{\"id\": \"" + id + "\", \"title\": \"" + title + "\", \"description\": \"Descripción\", \"price\": "
+                + price + ", \"seller\": {\"id\": \"S1\", \"name\": \"Vendedor\"},"
+                + " \"category\": {\"id\": \"C1\", \"name\": \"Categoría\"}}\n";
+    }
+
+    private static CreateProduct product(String id) {
+        return CreateProduct.builder()
+                .id(id)
+                .title("Producto " + id)
+                .price(new BigDecimal("10.00"))
+                .build();
+    }
+}
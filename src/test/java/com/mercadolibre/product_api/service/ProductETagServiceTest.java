@@ -0,0 +1,59 @@
+package com.mercadolibre.product_api.service;
+
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductETagServiceTest {
+
+    private ProductRepository repository;
+    private ProductETagService eTagService;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ProductRepository();
+        eTagService = new ProductETagService(repository, "no-cache", "no-cache");
+    }
+
+    @Test
+    void forProduct_ChangesOnlyWhenProductIsWritten() {
+        repository.save(product("E1", "10.00"));
+        repository.save(product("E2", "20.00"));
+        String before = eTagService.forProduct("E1");
+
+        repository.save(product("E2", "25.00"));
+        assertEquals(before, eTagService.forProduct("E1"));
+
+        repository.save(product("E1", "15.00"));
+        assertNotEquals(before, eTagService.forProduct("E1"));
+        assertNull(eTagService.forProduct("missing"));
+    }
+
+    @Test
+    void forSearch_DependsOnSearchPageAndCatalogVersion() {
+        repository.save(product("E1", "10.00"));
+        String before = eTagService.forSearch("params:a", PageRequest.of(0, 10));
+
+        assertEquals(before, eTagService.forSearch("params:a", PageRequest.of(0, 10)));
+        assertNotEquals(before, eTagService.forSearch("params:b", PageRequest.of(0, 10)));
+        assertNotEquals(before, eTagService.forSearch("params:a", PageRequest.of(1, 10)));
+
+        repository.save(product("E2", "20.00"));
+
+        assertNotEquals(before, eTagService.forSearch("params:a", PageRequest.of(0, 10)));
+    }
+
+    private static CreateProduct product(String id, String price) {
+        return CreateProduct.builder()
+                .id(id)
+                .title("Producto " + id)
+                .price(new BigDecimal(price))
+                .build();
+    }
+}
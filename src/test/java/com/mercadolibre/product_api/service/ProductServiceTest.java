@@ -1,22 +1,39 @@
 package com.mercadolibre.product_api.service;
 
+import com.mercadolibre.product_api.dto.BulkOperation;
+import com.mercadolibre.product_api.dto.BulkResponse;
+import com.mercadolibre.product_api.dto.MultiGetResponse;
 import com.mercadolibre.product_api.dto.PagedResponse;
 import com.mercadolibre.product_api.dto.ProductSearchParams;
+import com.mercadolibre.product_api.dto.SearchExpression;
 import com.mercadolibre.product_api.dto.UpdateProductRequest;
 import com.mercadolibre.product_api.exception.ProductNotFoundException;
+import com.mercadolibre.product_api.exception.StandingQueryNotFoundException;
+import com.mercadolibre.product_api.index.IndexManager;
 import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.percolator.StandingQueryRegistry;
+import com.mercadolibre.product_api.repository.ProductMutation;
 import com.mercadolibre.product_api.repository.ProductRepository;
+import com.mercadolibre.product_api.search.QueryCompiler;
+import com.mercadolibre.product_api.search.SearchCoalescer;
+import com.mercadolibre.product_api.search.SearchMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,6 +43,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import com.mercadolibre.product_api.model.Seller;
+import com.mercadolibre.product_api.popularity.PopularityTracker;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceTest {
@@ -33,6 +51,29 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Spy
+    private QueryCompiler queryCompiler = new QueryCompiler(16);
+
+    @Mock
+    private IndexManager indexManager;
+
+    @Mock
+    private StandingQueryRegistry standingQueryRegistry;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private SearchCoalescer searchCoalescer = new SearchCoalescer(true);
+
+    @Mock
+    private PopularityTracker popularityTracker;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private SearchMetrics searchMetrics = new SearchMetrics(meterRegistry);
+
     @InjectMocks
     private ProductService productService;
 
@@ -112,6 +153,22 @@ class ProductServiceTest {
         verify(productRepository).findAll();
     }
 
+    @Test
+    void searchProducts_EquivalentParams_UseSameCoalescingKey() {
+        when(productRepository.findAll()).thenReturn(testProducts);
+        when(productRepository.catalogVersion()).thenReturn(7L);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
+
+        productService.searchProducts(ProductSearchParams.builder().query("Another").minPrice(new BigDecimal("150")).build(), pageable);
+        productService.searchProducts(ProductSearchParams.builder().query("ANOTHER").minPrice(new BigDecimal("150.00")).build(), pageable);
+        productService.searchProducts(ProductSearchParams.builder().query("Another").build(), pageable);
+
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(searchCoalescer, times(3)).execute(keys.capture(), eq(pageable), eq(7L), any());
+        assertEquals(keys.getAllValues().get(0), keys.getAllValues().get(1));
+        assertNotEquals(keys.getAllValues().get(0), keys.getAllValues().get(2));
+    }
+
     @Test
     void searchProducts_WithSearchQuery_ReturnsMatchingProducts() {
         when(productRepository.findAll()).thenReturn(testProducts);
@@ -169,6 +226,97 @@ class ProductServiceTest {
         verify(productRepository).findAll();
     }
 
+    @Test
+    void searchProductsByExpression_WithOrOfRanges_ReturnsMatchingProducts() {
+        when(productRepository.findAll()).thenReturn(testProducts);
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
+        SearchExpression expression = SearchExpression.builder()
+                .type(SearchExpression.Type.OR)
+                .children(List.of(
+                        SearchExpression.builder().type(SearchExpression.Type.RANGE)
+                                .field("price").lte(new BigDecimal("50")).build(),
+                        SearchExpression.builder().type(SearchExpression.Type.PREFIX)
+                                .field("title").value("another").build()))
+                .build();
+
+        Page<CreateProduct> result = productService.searchProducts(expression, pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals("MLB7654321", result.getContent().get(0).getId());
+        verify(queryCompiler).compile(expression);
+    }
+
+    @Test
+    void searchProductsByExpression_WithNot_ExcludesMatchingProducts() {
+        when(productRepository.findAll()).thenReturn(testProducts);
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
+        SearchExpression expression = SearchExpression.builder()
+                .type(SearchExpression.Type.NOT)
+                .child(SearchExpression.builder().type(SearchExpression.Type.TERM)
+                        .field("id").value("mlb1234567").build())
+                .build();
+
+        Page<CreateProduct> result = productService.searchProducts(expression, pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals("MLB7654321", result.getContent().get(0).getId());
+    }
+
+    @Test
+    void searchProducts_WithIndexedConstraint_ScansOnlyCandidates() {
+        when(indexManager.candidates(anyList())).thenReturn(Optional.of(List.of("MLB7654321")));
+        when(productRepository.findAllById(List.of("MLB7654321"))).thenReturn(List.of(testProducts.get(1)));
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
+        ProductSearchParams params = ProductSearchParams.builder()
+                .minPrice(new BigDecimal("150.00"))
+                .build();
+
+        Page<CreateProduct> result = productService.searchProducts(params, pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals("MLB7654321", result.getContent().get(0).getId());
+        verify(productRepository, never()).findAll();
+        verify(indexManager).recordSearch(anyList(), eq(pageable.getSort()), eq(1L), anyLong());
+    }
+
+    @Test
+    void searchProducts_RecordsPhaseDurationsAndCounts() {
+        when(productRepository.findAll()).thenReturn(testProducts);
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("price"));
+        productService.searchProducts(ProductSearchParams.builder().minPrice(new BigDecimal("150.00")).build(), pageable);
+
+        for (String phase : List.of("fetch", "filter", "sort", "page")) {
+            assertEquals(1, meterRegistry.get("products.search.phase").tag("phase", phase).timer().count(), phase);
+        }
+        assertEquals(0, meterRegistry.get("products.search.phase").tag("phase", "scan").timer().count());
+        assertEquals(2.0, meterRegistry.get("products.search.candidates").tag("plan", "full-scan").summary().totalAmount());
+        assertEquals(1.0, meterRegistry.get("products.search.results").tag("plan", "full-scan").summary().totalAmount());
+    }
+
+    @Test
+    void searchProducts_SortedByPopularity_WalksMaintainedRanking() {
+        doAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(1);
+            consumer.accept("MLB7654321");
+            consumer.accept("MLB1234567");
+            return null;
+        }).when(popularityTracker).forEachOrdered(eq(false), any());
+        when(productRepository.findById("MLB7654321")).thenReturn(Optional.of(testProducts.get(1)));
+        when(productRepository.findById("MLB1234567")).thenReturn(Optional.of(testProducts.get(0)));
+
+        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "popularity"));
+        Page<CreateProduct> result = productService.searchProducts(ProductSearchParams.builder().build(), pageable);
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals("MLB7654321", result.getContent().get(0).getId());
+        verify(productRepository, never()).findAll();
+        verify(indexManager, never()).forEachOrdered(anyString(), anyBoolean(), any());
+    }
+
     @Test
     void updateProduct_WithValidData_UpdatesSuccessfully() {
         String productId = "MLB1234567";
@@ -278,4 +426,58 @@ class ProductServiceTest {
         assertEquals(0, result.getAvailableStock());
         verify(productRepository).save(any(CreateProduct.class));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void deleteStandingQuery_WhenNotExists_ThrowsException() {
+        when(standingQueryRegistry.remove("missing")).thenReturn(false);
+
+        assertThrows(StandingQueryNotFoundException.class,
+                () -> productService.deleteStandingQuery("missing"));
+    }
+
+    @Test
+    void getProductsByIds_WithDuplicatesAndMissing_ReturnsFoundAndMissing() {
+        when(productRepository.findAllById(any())).thenReturn(List.of(testProduct));
+
+        MultiGetResponse result = productService.getProductsByIds(List.of("MLB1234567", "nonexistent", "MLB1234567"));
+
+        assertEquals(List.of(testProduct), result.getProducts());
+        assertEquals(List.of("nonexistent"), result.getMissing());
+        verify(productRepository).findAllById(argThat(ids -> ids.size() == 2));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bulk_WithMixedOperations_AppliesValidOnesInOneBatch() {
+        when(productRepository.findById(anyString())).thenReturn(Optional.empty());
+        CreateProductRequest valid = CreateProductRequest.builder()
+                .title("Bulk Product")
+                .description("Bulk Description")
+                .price(new BigDecimal("10.00"))
+                .images(List.of("https://example.com/image.jpg"))
+                .seller(Seller.builder().id("S1").name("Seller").build())
+                .category(com.mercadolibre.product_api.model.Category.builder().id("TECH").name("Tecnología").build())
+                .build();
+
+        BulkResponse response = productService.bulk(List.of(
+                BulkOperation.builder().op(BulkOperation.Type.UPSERT).id("B1").product(valid).build(),
+                BulkOperation.builder().op(BulkOperation.Type.UPDATE).id("B1")
+                        .changes(UpdateProductRequest.builder().price(new BigDecimal("12.00")).build()).build(),
+                BulkOperation.builder().op(BulkOperation.Type.CREATE)
+                        .product(CreateProductRequest.builder().title("Sin precio").build()).build(),
+                BulkOperation.builder().op(BulkOperation.Type.DELETE).id("nonexistent").build()));
+
+        assertTrue(response.isErrors());
+        assertEquals(2, response.getApplied());
+        assertEquals(List.of(201, 200, 400, 404),
+                response.getItems().stream().map(item -> item.getStatus()).toList());
+        assertTrue(response.getItems().get(2).getDetails().containsKey("price"));
+
+        ArgumentCaptor<List<ProductMutation>> mutations = ArgumentCaptor.forClass(List.class);
+        verify(productRepository, times(1)).applyAll(mutations.capture());
+        verify(productRepository, never()).save(any());
+        ProductMutation.Save update = (ProductMutation.Save) mutations.getValue().get(1);
+        assertEquals(new BigDecimal("12.00"), update.product().getPrice());
+        assertEquals("Bulk Product", update.product().getTitle());
+    }
+}
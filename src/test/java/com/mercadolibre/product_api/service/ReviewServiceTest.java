@@ -0,0 +1,234 @@
+package com.mercadolibre.product_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.product_api.dto.BulkOperation;
+import com.mercadolibre.product_api.dto.BulkResponse;
+import com.mercadolibre.product_api.dto.CreateProductRequest;
+import com.mercadolibre.product_api.dto.ReviewPage;
+import com.mercadolibre.product_api.dto.ReviewRequest;
+import com.mercadolibre.product_api.dto.ReviewResponse;
+import com.mercadolibre.product_api.dto.UpdateProductRequest;
+import com.mercadolibre.product_api.exception.ProductNotFoundException;
+import com.mercadolibre.product_api.index.IndexManager;
+import com.mercadolibre.product_api.model.Category;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.model.ProductRating;
+import com.mercadolibre.product_api.model.Review;
+import com.mercadolibre.product_api.model.Seller;
+import com.mercadolibre.product_api.percolator.StandingQueryRegistry;
+import com.mercadolibre.product_api.popularity.PopularityTracker;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import com.mercadolibre.product_api.repository.ReviewRepository;
+import com.mercadolibre.product_api.search.QueryCompiler;
+import com.mercadolibre.product_api.search.SearchCoalescer;
+import com.mercadolibre.product_api.search.SearchMetrics;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ReviewServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private ProductRepository productRepository;
+    private ReviewRepository reviewRepository;
+    private final List<String> createdIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        productRepository = new ProductRepository();
+        reviewRepository = new ReviewRepository(new ObjectMapper(), tempDir.resolve("reviews.ndjson").toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdIds.forEach(productRepository::deleteById);
+    }
+
+    @Test
+    void init_MovesEmbeddedReviewsAndKeepsOnlyRecent() {
+        List<Review> embedded = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            embedded.add(Review.builder().userId("U" + i).rating(i).build());
+        }
+        String id = save(ProductRating.builder().averageRating(2.5).totalRatings(4).reviews(embedded).build());
+
+        service(2).init();
+
+        ProductRating rating = productRepository.findById(id).orElseThrow().getRating();
+        assertEquals(List.of("U3", "U4"), rating.getReviews().stream().map(Review::getUserId).toList());
+        assertEquals(List.of(1, 1, 1, 1, 0), rating.getRatingHistogram());
+        assertEquals(4, reviewRepository.count(id));
+    }
+
+    @Test
+    void addReview_StoresReviewAndPagesByCursor() {
+        String id = save(ProductRating.builder().averageRating(0.0).totalRatings(0).reviews(new ArrayList<>()).build());
+        ReviewService service = service(2);
+        service.init();
+
+        ReviewResponse response = null;
+        for (int i = 1; i <= 5; i++) {
+            response = service.addReview(id, ReviewRequest.builder().userId("U" + i).rating(5).build());
+        }
+
+        assertEquals(5, response.getTotalRatings());
+        assertEquals(5.0, response.getAverageRating());
+        assertEquals(2, productRepository.findById(id).orElseThrow().getRating().getReviews().size());
+
+        ReviewPage first = service.getReviews(id, null, 3);
+        assertEquals(List.of("U5", "U4", "U3"), first.getReviews().stream().map(Review::getUserId).toList());
+        assertEquals(5, first.getTotalReviews());
+        ReviewPage second = service.getReviews(id, first.getNextCursor(), 3);
+        assertEquals(List.of("U2", "U1"), second.getReviews().stream().map(Review::getUserId).toList());
+        assertNull(second.getNextCursor());
+
+        assertThrows(ResponseStatusException.class, () -> service.getReviews(id, "abc", 3));
+        assertThrows(ProductNotFoundException.class,
+                () -> service.addReview("no-existe", ReviewRequest.builder().userId("U").rating(1).build()));
+
+        productRepository.deleteById(id);
+        assertEquals(0, reviewRepository.count(id));
+    }
+
+    @Test
+    void addReview_JournalsRatingWithoutRewritingCatalog() {
+        String journal = tempDir.resolve("products.journal.ndjson").toString();
+        productRepository = new ProductRepository(new ObjectMapper(), new SimpleMeterRegistry(), journal);
+        String id = save(ProductRating.builder().averageRating(0.0).totalRatings(0).reviews(new ArrayList<>()).build());
+        ReviewService service = service(2);
+        service.init();
+
+        service.addReview(id, ReviewRequest.builder().userId("U1").rating(4).build());
+        service.addReview(id, ReviewRequest.builder().userId("U2").rating(2).build());
+
+        // products.json conserva la calificación anterior; el journal trae la vigente
+        ProductRepository catalogOnly = new ProductRepository(new ObjectMapper(), new SimpleMeterRegistry(),
+                tempDir.resolve("sin-cambios.ndjson").toString());
+        catalogOnly.init();
+        assertEquals(0, catalogOnly.findById(id).orElseThrow().getRating().getTotalRatings());
+
+        ProductRepository restarted = new ProductRepository(new ObjectMapper(), new SimpleMeterRegistry(), journal);
+        restarted.init();
+        ProductRating rating = restarted.findById(id).orElseThrow().getRating();
+        assertEquals(2, rating.getTotalRatings());
+        assertEquals(3.0, rating.getAverageRating());
+        assertEquals(List.of(0, 1, 0, 1, 0), rating.getRatingHistogram());
+    }
+
+    @Test
+    void addReview_Concurrent_RecentReviewsMatchFirstPage() throws InterruptedException {
+        String id = save(ProductRating.builder().averageRating(0.0).totalRatings(0).reviews(new ArrayList<>()).build());
+        ReviewService service = service(5);
+        service.init();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 400; i++) {
+            String userId = "U" + i;
+            executor.submit(() -> service.addReview(id, ReviewRequest.builder().userId(userId).rating(3).build()));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        List<Review> recent = new ArrayList<>(productRepository.findById(id).orElseThrow().getRating().getReviews());
+        Collections.reverse(recent);
+        assertEquals(400, reviewRepository.count(id));
+        assertEquals(reviewRepository.findPage(id, null, 5), recent);
+    }
+
+    @Test
+    void ratingWrites_OutsideReviews_KeepAggregateInSyncWithStore() {
+        String id = save(ProductRating.builder().averageRating(0.0).totalRatings(0).reviews(new ArrayList<>()).build());
+        ReviewService service = service(2);
+        service.init();
+        service.addReview(id, ReviewRequest.builder().userId("U1").rating(4).build());
+        service.addReview(id, ReviewRequest.builder().userId("U2").rating(2).build());
+        ProductService productService = productService();
+        ProductRating forged = ProductRating.builder().averageRating(5.0).totalRatings(1000)
+                .ratingHistogram(List.of(0, 0, 0, 0, 1000)).reviews(List.of()).build();
+
+        // PATCH: la validación del controlador rechaza el campo y el servicio no lo copia
+        assertFalse(validator.validate(UpdateProductRequest.builder().rating(forged).build()).isEmpty());
+        productService.updateProduct(id, UpdateProductRequest.builder().title("Otro").rating(forged).build());
+        // _bulk: update con calificación se rechaza y upsert conserva la vigente
+        BulkResponse bulk = productService.bulk(List.of(
+                BulkOperation.builder().op(BulkOperation.Type.UPDATE).id(id)
+                        .changes(UpdateProductRequest.builder().rating(forged).build()).build(),
+                BulkOperation.builder().op(BulkOperation.Type.UPSERT).id(id)
+                        .product(CreateProductRequest.builder().title("Reemplazo").description("Descripción")
+                                .price(new BigDecimal("12.00")).images(List.of("https://example.com/a.jpg"))
+                                .seller(Seller.builder().id("S1").name("Vendedor").build())
+                                .category(Category.builder().id("C1").name("Categoría").build()).build())
+                        .build()));
+        assertEquals(400, bulk.getItems().get(0).getStatus());
+        assertEquals(200, bulk.getItems().get(1).getStatus());
+
+        ProductRating rating = productRepository.findById(id).orElseThrow().getRating();
+        ReviewPage page = service.getReviews(id, null, 2);
+        assertEquals(2, page.getTotalReviews());
+        assertEquals(page.getTotalReviews(), rating.getTotalRatings());
+        assertEquals(List.of(0, 1, 0, 1, 0), rating.getRatingHistogram());
+        assertEquals(3.0, rating.getAverageRating());
+        assertEquals(List.of("U1", "U2"), rating.getReviews().stream().map(Review::getUserId).toList());
+        assertEquals(List.of("U2", "U1"), page.getReviews().stream().map(Review::getUserId).toList());
+    }
+
+    @Test
+    void withStoredRating_RecomputesFromStoreInsteadOfTheLine() {
+        ReviewService service = service(2);
+        List<Review> embedded = List.of(Review.builder().userId("U1").rating(1).build(),
+                Review.builder().userId("U2").rating(3).build());
+        CreateProduct imported = CreateProduct.builder().id("IMP-" + System.nanoTime()).title("Importado")
+                .rating(ProductRating.builder().averageRating(5.0).totalRatings(100).reviews(embedded).build())
+                .build();
+
+        ProductRating rating = service.withStoredRating(imported).getRating();
+
+        assertEquals(2, reviewRepository.count(imported.getId()));
+        assertEquals(2, rating.getTotalRatings());
+        assertEquals(2.0, rating.getAverageRating());
+        assertEquals(List.of(1, 0, 1, 0, 0), rating.getRatingHistogram());
+        // Si el almacén ya tiene reseñas, no se vuelven a copiar
+        assertEquals(2, service.withStoredRating(imported).getRating().getTotalRatings());
+        assertEquals(2, reviewRepository.count(imported.getId()));
+    }
+
+    private ProductService productService() {
+        return new ProductService(productRepository, new QueryCompiler(16), mock(IndexManager.class),
+                mock(StandingQueryRegistry.class), validator, new SearchCoalescer(true),
+                mock(PopularityTracker.class), new SearchMetrics(new SimpleMeterRegistry()));
+    }
+
+    private ReviewService service(int recentCount) {
+        return new ReviewService(productRepository, reviewRepository, recentCount);
+    }
+
+    private String save(ProductRating rating) {
+        CreateProduct product = productRepository.save(CreateProduct.builder()
+                .title("Producto con reseñas")
+                .price(new BigDecimal("10.00"))
+                .rating(rating)
+                .build());
+        createdIds.add(product.getId());
+        return product.getId();
+    }
+}
@@ -0,0 +1,145 @@
+package com.mercadolibre.product_api.service;
+
+import com.mercadolibre.product_api.exception.InsufficientStockException;
+import com.mercadolibre.product_api.exception.InvalidStockReleaseException;
+import com.mercadolibre.product_api.exception.ProductNotFoundException;
+import com.mercadolibre.product_api.model.CreateProduct;
+import com.mercadolibre.product_api.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockServiceTest {
+
+    private ProductRepository repository;
+    private StockService stockService;
+    private String productId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ProductRepository();
+        stockService = new StockService(repository);
+        stockService.init();
+        productId = repository.save(product(10_000)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteById(productId);
+    }
+
+    @Test
+    void reserve_ConcurrentOnHotProduct_NeverLosesOrOversells() throws Exception {
+        int threads = 16;
+        int attemptsPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int reserved = 0;
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    try {
+                        stockService.reserve(productId, 1);
+                        reserved++;
+                    } catch (InsufficientStockException e) {
+                        // Se agotó: el resto de los intentos debe fallar
+                    }
+                }
+                return reserved;
+            }));
+        }
+        start.countDown();
+        int reserved = 0;
+        for (Future<Integer> result : results) {
+            reserved += result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(10_000, reserved);
+        assertEquals(0, stockService.getStock(productId).getAvailableStock());
+        assertThrows(InsufficientStockException.class, () -> stockService.reserve(productId, 1));
+    }
+
+    @Test
+    void flush_PersistsCountersInOneBatch() {
+        long version = repository.versionOf(productId);
+        stockService.reserve(productId, 3);
+        stockService.reserve(productId, 2);
+        stockService.release(productId, 1);
+
+        // Antes de persistir, el producto conserva el stock anterior
+        assertEquals(10_000, repository.findById(productId).orElseThrow().getAvailableStock());
+        assertEquals(9_996, stockService.getStock(productId).getAvailableStock());
+
+        stockService.flush();
+
+        assertEquals(9_996, repository.findById(productId).orElseThrow().getAvailableStock());
+        assertEquals(version + 1, repository.versionOf(productId));
+        // Sin movimientos nuevos no se vuelve a escribir
+        stockService.flush();
+        assertEquals(version + 1, repository.versionOf(productId));
+    }
+
+    @Test
+    void onSave_StockChangedByOtherWrite_CounterAdoptsIt() {
+        stockService.reserve(productId, 100);
+        CreateProduct updated = repository.findById(productId).orElseThrow().toBuilder().availableStock(50).build();
+        repository.save(updated);
+
+        assertEquals(50, stockService.getStock(productId).getAvailableStock());
+        assertEquals(45, stockService.reserve(productId, 5).getAvailableStock());
+
+        // Cambios de otros campos no tocan el contador
+        repository.save(repository.findById(productId).orElseThrow().toBuilder().title("Otro").build());
+        assertEquals(45, stockService.getStock(productId).getAvailableStock());
+
+        stockService.flush();
+        CreateProduct persisted = repository.findById(productId).orElseThrow();
+        assertEquals(45, persisted.getAvailableStock());
+        assertEquals("Otro", persisted.getTitle());
+    }
+
+    @Test
+    void reserve_UnknownProductOrTooMany_Throws() {
+        assertThrows(ProductNotFoundException.class, () -> stockService.reserve("no-existe", 1));
+        assertThrows(InsufficientStockException.class, () -> stockService.reserve(productId, 10_001));
+        assertEquals(10_000, stockService.getStock(productId).getAvailableStock());
+    }
+
+    @Test
+    void release_BeyondReservedOrMaximum_ThrowsAndKeepsCounter() {
+        stockService.reserve(productId, 5);
+
+        assertThrows(InvalidStockReleaseException.class, () -> stockService.release(productId, 6));
+        assertEquals(9_996, stockService.release(productId, 1).getAvailableStock());
+
+        // Un stock cargado cerca del máximo no puede desbordar al liberar
+        repository.save(repository.findById(productId).orElseThrow().toBuilder()
+                .availableStock(Integer.MAX_VALUE - 1).build());
+        assertThrows(InvalidStockReleaseException.class, () -> stockService.release(productId, 2));
+        assertEquals(Integer.MAX_VALUE, stockService.release(productId, 1).getAvailableStock());
+        assertThrows(InvalidStockReleaseException.class, () -> stockService.release(productId, 1));
+    }
+
+    private static CreateProduct product(int stock) {
+        return CreateProduct.builder()
+                .title("Producto con stock")
+                .description("Descripción")
+                .price(new BigDecimal("10.00"))
+                .availableStock(stock)
+                .build();
+    }
+}